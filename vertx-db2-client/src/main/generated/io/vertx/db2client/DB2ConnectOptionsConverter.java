@@ -16,8 +16,18 @@ public class DB2ConnectOptionsConverter {
   public static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, DB2ConnectOptions obj) {
     for (java.util.Map.Entry<String, Object> member : json) {
       switch (member.getKey()) {
+        case "maxExtraBlocks":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxExtraBlocks(((Number)member.getValue()).intValue());
+          }
+          break;
         case "pipeliningLimit":
           break;
+        case "queryBlockSize":
+          if (member.getValue() instanceof Number) {
+            obj.setQueryBlockSize(((Number)member.getValue()).intValue());
+          }
+          break;
       }
     }
   }
@@ -27,6 +37,10 @@ public class DB2ConnectOptionsConverter {
   }
 
   public static void toJson(DB2ConnectOptions obj, java.util.Map<String, Object> json) {
+    if (obj.getMaxExtraBlocks() != null) {
+      json.put("maxExtraBlocks", obj.getMaxExtraBlocks());
+    }
     json.put("pipeliningLimit", obj.getPipeliningLimit());
+    json.put("queryBlockSize", obj.getQueryBlockSize());
   }
 }
@@ -91,6 +91,19 @@ public class DB2ClientExamples {
     });
   }
 
+  public void configureQueryBlocks() {
+    DB2ConnectOptions connectOptions = new DB2ConnectOptions()
+      .setPort(50000)
+      .setHost("the-host")
+      .setDatabase("the-db")
+      .setUser("user")
+      .setPassword("secret")
+      // Return the rows in blocks of 256KB
+      .setQueryBlockSize(256 * 1024)
+      // Let the server return up to 16 blocks per request
+      .setMaxExtraBlocks(16);
+  }
+
   public void configureFromUri(Vertx vertx) {
 
     // Connection URI
@@ -39,6 +39,7 @@ import io.vertx.core.tracing.TracingPolicy;
 import io.vertx.db2client.impl.DB2ConnectionUriParser;
 import io.vertx.db2client.impl.drda.SQLState;
 import io.vertx.db2client.impl.drda.SqlCode;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
 import io.vertx.sqlclient.SqlConnectOptions;
 
 /**
@@ -65,6 +66,9 @@ public class DB2ConnectOptions extends SqlConnectOptions {
   public static final String DEFAULT_CHARSET = "utf8";
   public static final boolean DEFAULT_USE_AFFECTED_ROWS = false;
   public static final int DEFAULT_PIPELINING_LIMIT = 1; // 256; // TODO default to 256 once implemented properly
+  public static final int DEFAULT_QUERY_BLOCK_SIZE = 32767;
+  public static final int MIN_QUERY_BLOCK_SIZE = 512;
+  public static final int MAX_QUERY_BLOCK_SIZE = 10485760;
   public static final Map<String, String> DEFAULT_CONNECTION_ATTRIBUTES;
 
   static {
@@ -74,6 +78,8 @@ public class DB2ConnectOptions extends SqlConnectOptions {
   }
 
   private int pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
+  private int queryBlockSize = DEFAULT_QUERY_BLOCK_SIZE;
+  private Integer maxExtraBlocks;
 
   public DB2ConnectOptions() {
     super();
@@ -89,12 +95,16 @@ public class DB2ConnectOptions extends SqlConnectOptions {
     if (other instanceof DB2ConnectOptions) {
       DB2ConnectOptions opts = (DB2ConnectOptions) other;
       this.pipeliningLimit = opts.pipeliningLimit;
+      this.queryBlockSize = opts.queryBlockSize;
+      this.maxExtraBlocks = opts.maxExtraBlocks;
     }
   }
 
   public DB2ConnectOptions(DB2ConnectOptions other) {
     super(other);
     this.pipeliningLimit = other.pipeliningLimit;
+    this.queryBlockSize = other.queryBlockSize;
+    this.maxExtraBlocks = other.maxExtraBlocks;
   }
 
   @Override
@@ -147,6 +157,11 @@ public class DB2ConnectOptions extends SqlConnectOptions {
     return (DB2ConnectOptions) super.setPreparedStatementCacheMaxSize(preparedStatementCacheMaxSize);
   }
 
+  @Override
+  public DB2ConnectOptions setPreparedStatementCachePolicy(PreparedStatementCachePolicy preparedStatementCachePolicy) {
+    return (DB2ConnectOptions) super.setPreparedStatementCachePolicy(preparedStatementCachePolicy);
+  }
+
   @GenIgnore
   @Override
   public DB2ConnectOptions setPreparedStatementCacheSqlFilter(Predicate<String> predicate) {
@@ -244,6 +259,50 @@ public class DB2ConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  public int getQueryBlockSize() {
+    return queryBlockSize;
+  }
+
+  /**
+   * Set the size of the query blocks the server uses to return the rows of a query (DRDA {@code QRYBLKSZ}).
+   * Larger blocks return more rows per block, blocks larger than 32767 bytes are split in DSS continuations.
+   *
+   * @param queryBlockSize the query block size in bytes, between {@code 512} and {@code 10485760}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DB2ConnectOptions setQueryBlockSize(int queryBlockSize) {
+    if (queryBlockSize < MIN_QUERY_BLOCK_SIZE || queryBlockSize > MAX_QUERY_BLOCK_SIZE) {
+      throw new IllegalArgumentException("Query block size must be between " + MIN_QUERY_BLOCK_SIZE + " and " + MAX_QUERY_BLOCK_SIZE);
+    }
+    this.queryBlockSize = queryBlockSize;
+    return this;
+  }
+
+  public Integer getMaxExtraBlocks() {
+    return maxExtraBlocks;
+  }
+
+  /**
+   * Set the maximum number of extra query blocks the server can return after the first one, in response to
+   * opening a query or fetching from a cursor (DRDA {@code MAXBLKEXT}).
+   * <p>
+   * {@code -1} lets the server return as many blocks as needed, {@code 0} limits each response to a single block
+   * and requires a round trip per block.
+   * <p>
+   * When not set, opening a query uses the server default and fetching from a cursor lets the server return as many
+   * blocks as needed.
+   *
+   * @param maxExtraBlocks the maximum number of extra blocks, between {@code -1} and {@code 32767}, or {@code null}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DB2ConnectOptions setMaxExtraBlocks(Integer maxExtraBlocks) {
+    if (maxExtraBlocks != null && (maxExtraBlocks < -1 || maxExtraBlocks > Short.MAX_VALUE)) {
+      throw new IllegalArgumentException("Max extra blocks must be between -1 and " + Short.MAX_VALUE);
+    }
+    this.maxExtraBlocks = maxExtraBlocks;
+    return this;
+  }
+
   @Override
   public DB2ConnectOptions setTracingPolicy(TracingPolicy tracingPolicy) {
     return (DB2ConnectOptions) super.setTracingPolicy(tracingPolicy);
@@ -272,6 +331,10 @@ public class DB2ConnectOptions extends SqlConnectOptions {
   @Override
   public JsonObject toJson() {
     JsonObject json = super.toJson();
+    json.put("queryBlockSize", queryBlockSize);
+    if (maxExtraBlocks != null) {
+      json.put("maxExtraBlocks", maxExtraBlocks);
+    }
     return json;
   }
 
@@ -288,12 +351,16 @@ public class DB2ConnectOptions extends SqlConnectOptions {
 
     if (pipeliningLimit != that.pipeliningLimit)
       return false;
+    if (queryBlockSize != that.queryBlockSize)
+      return false;
+    if (!Objects.equals(maxExtraBlocks, that.maxExtraBlocks))
+      return false;
 
     return true;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(pipeliningLimit);
+    return Objects.hash(pipeliningLimit, queryBlockSize, maxExtraBlocks);
   }
 }
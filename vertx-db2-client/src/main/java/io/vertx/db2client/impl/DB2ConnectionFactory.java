@@ -33,6 +33,8 @@ import io.vertx.sqlclient.impl.SqlConnectionFactoryBase;
 public class DB2ConnectionFactory extends SqlConnectionFactoryBase implements ConnectionFactory {
 
   private int pipeliningLimit;
+  private int queryBlockSize;
+  private Integer maxExtraBlocks;
 
   public DB2ConnectionFactory(VertxInternal vertx, DB2ConnectOptions options) {
     super(vertx, options);
@@ -42,6 +44,8 @@ public class DB2ConnectionFactory extends SqlConnectionFactoryBase implements Co
   protected void initializeConfiguration(SqlConnectOptions connectOptions) {
     DB2ConnectOptions options = (DB2ConnectOptions) connectOptions;
     this.pipeliningLimit = options.getPipeliningLimit();
+    this.queryBlockSize = options.getQueryBlockSize();
+    this.maxExtraBlocks = options.getMaxExtraBlocks();
   }
 
   @Override
@@ -58,7 +62,8 @@ public class DB2ConnectionFactory extends SqlConnectionFactoryBase implements Co
       if (ar.succeeded()) {
         NetSocket so = ar.result();
         DB2SocketConnection conn = new DB2SocketConnection((NetSocketInternal) so, cachePreparedStatements,
-          preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+          preparedStatementCacheSize, preparedStatementCachePolicy, preparedStatementCacheMetrics, preparedStatementCacheSqlFilter, pipeliningLimit,
+          queryBlockSize, maxExtraBlocks, context);
         conn.init();
         conn.sendStartupMessage(username, password, database, properties, promise);
       } else {
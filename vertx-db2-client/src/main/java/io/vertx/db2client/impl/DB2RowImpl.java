@@ -29,12 +29,12 @@ import java.util.UUID;
 
 import io.vertx.core.buffer.Buffer;
 import io.vertx.db2client.impl.drda.DB2RowId;
-import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.data.Numeric;
 import io.vertx.sqlclient.impl.ArrayTuple;
+import io.vertx.sqlclient.impl.RowInternal;
 import io.vertx.sqlclient.impl.RowDesc;
 
-public class DB2RowImpl extends ArrayTuple implements Row {
+public class DB2RowImpl extends ArrayTuple implements RowInternal {
 
   private final RowDesc rowDesc;
 
@@ -43,6 +43,11 @@ public class DB2RowImpl extends ArrayTuple implements Row {
     this.rowDesc = rowDesc;
   }
 
+  @Override
+  public RowDesc desc() {
+    return rowDesc;
+  }
+
   @Override
   public <T> T get(Class<T> type, int position) {
     if (type == Boolean.class) {
@@ -28,6 +28,8 @@ import io.vertx.core.net.impl.NetSocketInternal;
 import io.vertx.db2client.impl.codec.DB2Codec;
 import io.vertx.db2client.impl.command.InitialHandshakeCommand;
 import io.vertx.db2client.impl.drda.ConnectionMetaData;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
+import io.vertx.sqlclient.impl.cache.PreparedStatementCacheMetricsImpl;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.QueryResultHandler;
 import io.vertx.sqlclient.impl.SocketConnectionBase;
@@ -47,10 +49,16 @@ public class DB2SocketConnection extends SocketConnectionBase {
   public DB2SocketConnection(NetSocketInternal socket,
       boolean cachePreparedStatements,
       int preparedStatementCacheSize,
+      PreparedStatementCachePolicy preparedStatementCachePolicy,
+      PreparedStatementCacheMetricsImpl preparedStatementCacheMetrics,
       Predicate<String> preparedStatementCacheSqlFilter,
       int pipeliningLimit,
+      int queryBlockSize,
+      Integer maxExtraBlocks,
       EventLoopContext context) {
-    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCachePolicy, preparedStatementCacheMetrics, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+    connMetadata.queryBlockSize = queryBlockSize;
+    connMetadata.maxExtraBlocks = maxExtraBlocks;
   }
 
   // TODO RETURN FUTURE ???
@@ -37,37 +37,75 @@ class DB2Decoder extends ByteToMessageDecoder {
     this.inflight = inflight;
   }
 
+  // maximum length of a DSS segment, a larger DSS is split in segments
+  private static final int MAX_DSS_LENGTH = 32767;
+
+  // State of the scan of the DSS chain of the next payload, it is kept between the decode calls
+  // so the DSS headers are read only once when a large payload arrives in many chunks
+  private int scannedLength;
+  private boolean dssContinues = true;
+  private boolean dssSegmented;
+
   @Override
   protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
     int payloadLength = computeLength(in);
-    if (payloadLength >= DB2Codec.PACKET_PAYLOAD_LENGTH_LIMIT)
-      throw new UnsupportedOperationException("split package decoding not implemented"); // TODO @AGG
     if (payloadLength <= 4)
       throw new IllegalStateException("Illegal payload length: " + payloadLength);
     if (payloadLength > in.readableBytes()) {
       // wait until we have more bytes to read
-      LOG.debug("Waiting for more bytes to be available. payload=" + payloadLength + " > readable=" + in.readableBytes());
+      if (LOG.isDebugEnabled())
+        LOG.debug("Waiting for more bytes to be available. payload=" + payloadLength + " > readable=" + in.readableBytes());
       return;
     }
+    scannedLength = 0;
+    dssContinues = true;
     decodePayload(in.readRetainedSlice(payloadLength), payloadLength);
   }
 
+  /**
+   * Compute the length of the DSS chain starting at the reader index, the scan resumes after the last DSS
+   * header read by the previous call. The returned length is greater than the readable bytes when the
+   * chain is not complete.
+   * <p>
+   * A DSS larger than {@link #MAX_DSS_LENGTH} has the continuation bit set in its length and is followed by
+   * segments starting with a 2 bytes continuation header, the segments are kept in the payload and are
+   * reassembled by the response parser.
+   */
   private int computeLength(ByteBuf in) {
     final int ridx = in.readerIndex();
-    int index = 0;
     final int readableBytes = in.readableBytes();
-    boolean dssContinues = true;
-    while (dssContinues && index < readableBytes) {
-      if (readableBytes > index + 3)
-        dssContinues &= (in.getByte(ridx + index + 3) & 0x40) == 0x40;
-      else
-        dssContinues = false;
-      short dssLen = 11; // minimum length of DRDA message
-      if (readableBytes >= index + 2) // julien: is this correct ? thtis checks more space than necessary
-        dssLen = in.getShort(ridx + index);
-      index += dssLen;
+    while (scannedLength <= readableBytes) {
+      if (dssSegmented) {
+        if (readableBytes < scannedLength + 2) {
+          // the continuation header is incomplete, it will be read again with more bytes
+          return scannedLength + 2;
+        }
+        int segmentLen = in.getUnsignedShort(ridx + scannedLength);
+        dssSegmented = (segmentLen & 0x8000) == 0x8000;
+        scannedLength += checkLength(dssSegmented ? MAX_DSS_LENGTH : segmentLen, 3);
+      } else if (dssContinues) {
+        if (readableBytes < scannedLength + 4) {
+          // the DSS header is incomplete, it will be read again with more bytes
+          int dssLen = 11; // minimum length of DRDA message
+          if (readableBytes >= scannedLength + 2)
+            dssLen = in.getUnsignedShort(ridx + scannedLength) & 0x7FFF;
+          return scannedLength + Math.max(dssLen, 4);
+        }
+        int dssLen = in.getUnsignedShort(ridx + scannedLength);
+        dssContinues = (in.getByte(ridx + scannedLength + 3) & 0x40) == 0x40;
+        dssSegmented = (dssLen & 0x8000) == 0x8000;
+        scannedLength += checkLength(dssSegmented ? MAX_DSS_LENGTH : dssLen, 6);
+      } else {
+        break;
+      }
     }
-    return index;
+    return scannedLength;
+  }
+
+  private static int checkLength(int length, int minLength) {
+    if (length < minLength)
+      throw new IllegalStateException("Illegal DSS length: " + length);
+    return length;
   }
 
   private void decodePayload(ByteBuf payload, int payloadLength) {
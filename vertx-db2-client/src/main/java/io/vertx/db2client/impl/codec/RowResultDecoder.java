@@ -16,6 +16,7 @@
 package io.vertx.db2client.impl.codec;
 
 import java.math.BigDecimal;
+import java.sql.Types;
 import java.util.stream.Collector;
 
 import io.netty.buffer.ByteBuf;
@@ -54,8 +55,11 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
 
   @Override
   protected Row decodeRow(int len, ByteBuf in) {
-    Row row = new DB2RowImpl(rowDesc);
+    DB2RowImpl row = new DB2RowImpl(rowDesc);
     for (int i = 1; i < rowDesc.columnDefinitions().columns_ + 1; i++) {
+      if (decodePrimitive(row, i)) {
+        continue;
+      }
       int startingIdx = cursor.dataBuffer_.readerIndex();
       Object o = cursor.getObject(i);
       int endingIdx = cursor.dataBuffer_.readerIndex();
@@ -75,4 +79,34 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
     }
     return row;
   }
+
+  /**
+   * Add the value of a numeric column to the row without boxing it.
+   *
+   * @return {@code true} when the value has been added
+   */
+  private boolean decodePrimitive(DB2RowImpl row, int column) {
+    if (cursor.isNull(column)) {
+      return false;
+    }
+    switch (cursor.jdbcTypes_[column - 1]) {
+      case Types.SMALLINT:
+        row.addShortValue(cursor.get_SMALLINT(column));
+        return true;
+      case Types.INTEGER:
+        row.addIntValue(cursor.get_INTEGER(column));
+        return true;
+      case Types.BIGINT:
+        row.addLongValue(cursor.get_BIGINT(column));
+        return true;
+      case Types.REAL:
+        row.addFloatValue(cursor.get_FLOAT(column));
+        return true;
+      case Types.DOUBLE:
+        row.addDoubleValue(cursor.get_DOUBLE(column));
+        return true;
+      default:
+        return false;
+    }
+  }
 }
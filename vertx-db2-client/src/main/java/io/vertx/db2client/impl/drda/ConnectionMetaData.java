@@ -17,6 +17,7 @@ package io.vertx.db2client.impl.drda;
 
 import java.nio.charset.Charset;
 
+import io.vertx.db2client.DB2ConnectOptions;
 import io.vertx.db2client.impl.DB2DatabaseMetadata;
 
 public class ConnectionMetaData {
@@ -25,6 +26,8 @@ public class ConnectionMetaData {
   public String databaseName;
   public DB2DatabaseMetadata dbMetadata;
   public final SectionManager sectionManager = new SectionManager();
+  public int queryBlockSize = DB2ConnectOptions.DEFAULT_QUERY_BLOCK_SIZE;
+  public Integer maxExtraBlocks;
   
   private Charset currentCCSID = CCSIDConstants.EBCDIC;
   
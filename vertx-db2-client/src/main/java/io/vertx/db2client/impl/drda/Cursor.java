@@ -342,7 +342,7 @@ public class Cursor {
     }
 
     // Build a Java short from a 2-byte signed binary representation.
-    private final short get_SMALLINT(int column) {
+    public final short get_SMALLINT(int column) {
         // @AGG force Little Endian
       if (metadata.isZos())
         return dataBuffer_.getShort(columnDataPosition_[column - 1]);
@@ -353,7 +353,7 @@ public class Cursor {
     }
 
     // Build a Java int from a 4-byte signed binary representation.
-    protected final int get_INTEGER(int column) {
+    public final int get_INTEGER(int column) {
         // @AGG had to get integer as Little Endian
       if (metadata.isZos())
         return dataBuffer_.getInt(columnDataPosition_[column - 1]);
@@ -364,7 +364,7 @@ public class Cursor {
     }
 
     // Build a Java long from an 8-byte signed binary representation.
-    private final long get_BIGINT(int column) {
+    public final long get_BIGINT(int column) {
         // @AGG force Little Endian
       if (metadata.isZos())
         return dataBuffer_.getLong(columnDataPosition_[column - 1]);
@@ -375,7 +375,7 @@ public class Cursor {
     }
 
     // Build a Java float from a 4-byte floating point representation.
-    private final float get_FLOAT(int column) {
+    public final float get_FLOAT(int column) {
         // @AGG force Little Endian
       if (metadata.isZos()) {
         byte[] bytes = new byte[4];
@@ -390,7 +390,7 @@ public class Cursor {
     }
 
     // Build a Java double from an 8-byte floating point representation.
-    private final double get_DOUBLE(int column) {
+    public final double get_DOUBLE(int column) {
       if (metadata.isZos()) {
         byte[] bytes = new byte[8];
         dataBuffer_.getBytes(columnDataPosition_[column - 1], bytes);
@@ -1195,7 +1195,7 @@ public class Cursor {
 //            new ClientMessageId (SQLState.NOT_IMPLEMENTED), "getRef(int)");
 //    }
 
-    private boolean isNull(int column) {
+    public final boolean isNull(int column) {
       return nullable_[column - 1] && isNull_[column - 1];
     }
 
@@ -398,7 +398,7 @@ public class DRDAQueryRequest extends DRDAConnectRequest {
 
         // maxblkext (-1) tells the server that the client is capable of receiving any number of query blocks
         if (sendQryrowset) {
-            buildMAXBLKEXT(-1); // 3. maxblkext
+            buildMAXBLKEXT(metadata.maxExtraBlocks != null ? metadata.maxExtraBlocks : -1); // 3. maxblkext
         }
 
         // 4. qryinsid
@@ -1599,12 +1599,11 @@ public class DRDAQueryRequest extends DRDAConnectRequest {
         markLengthBytes(CodePoint.OPNQRY);
 
         buildPKGNAMCSN(dbName, section);
-        buildQRYBLKSZ();  // specify a hard coded query block size
-
-//        if (sendQueryRowSet) {
-//            buildMAXBLKEXT(-1);
-//            buildQRYROWSET(fetchSize);
-//        }
+        buildQRYBLKSZ();
+        // let the server chain extra query blocks to the reply when configured, this avoids a CNTQRY round trip per block
+        if (metadata.maxExtraBlocks != null) {
+            buildMAXBLKEXT(metadata.maxExtraBlocks);
+        }
 
         if (fetchSize != 0) {
             buildQRYROWSET(fetchSize);
@@ -1657,14 +1656,15 @@ public class DRDAQueryRequest extends DRDAConnectRequest {
     // data objects and the reply messages being returned from this command.
     // this is a 4 byte unsigned binary number.
     // the sqlam 6 min value is 512 and max value is 32767.
-    // this value was increased in later sqlam levels.
-    // until the code is ready to support larger query block sizes,
-    // it will always use DssConstants.MAX_DSS_LEN which is 32767.
+    // this value was increased to 10485760 at sqlam 7, query blocks larger
+    // than DssConstants.MAX_DSS_LEN are returned in DSS continuations.
+    // the value is configured with DB2ConnectOptions#setQueryBlockSize and
+    // defaults to DssConstants.MAX_DSS_LEN which is 32767.
     //
     // preconditions:
     //   sqlam must support this parameter for the command, method will not check.
     void buildQRYBLKSZ() {
-        writeScalar4Bytes(CodePoint.QRYBLKSZ, DssConstants.MAX_DSS_LENGTH);
+        writeScalar4Bytes(CodePoint.QRYBLKSZ, metadata.queryBlockSize);
     }
 
     private int checkFetchsize(int fetchSize, int resultSetType) {
@@ -20,6 +20,8 @@ import java.util.List;
 import java.util.Objects;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
 
 public class DRDAQueryResponse extends DRDAConnectResponse {
 
@@ -690,7 +692,9 @@ public class DRDAQueryResponse extends DRDAConnectResponse {
             // TODO @AGG encryption
 //            if (longValueForDecryption_ == null) {
                 //data = (getData(null)).toByteArray();
-                data = getData().array();
+                ByteBuf buff = getData();
+                data = ByteBufUtil.getBytes(buff);
+                buff.release();
 //            } else {
 //                data = longValueForDecryption_;
 //                dssLength_ = 0;
@@ -1106,10 +1110,14 @@ public class DRDAQueryResponse extends DRDAConnectResponse {
     }
 
     /**
-     * Reads the bytes for the current QRYDTA into the cursor's buffer
+     * Reads the bytes for the next QRYDTA into the cursor's buffer, once the rows of the current one have been read
      * @return
      */
     public boolean readOpenQueryData() {
+        if (cursor != null && cursor.dataBufferHasUnprocessedData()) {
+            // the server can chain extra query blocks to a reply, read them one at a time
+            return false;
+        }
         int peekCP = peekCodePoint();
         if (peekCP == CodePoint.QRYDTA) {
             parseQRYDTA(/*NetResultSet*/);
@@ -1769,7 +1777,22 @@ public class DRDAQueryResponse extends DRDAConnectResponse {
 //            netCursor.dataBuffer_ = netCursor.dataBufferStream_.toByteArray();
         if (cursor == null)
             cursor = new Cursor(metadata);
-        cursor.dataBuffer_ = getData();
+        ByteBuf data = getData();
+        ByteBuf current = cursor.dataBuffer_;
+        if (current == null) {
+            cursor.dataBuffer_ = data;
+        } else if (cursor.dataBufferHasUnprocessedData()) {
+            // a chained query block, append it and keep the row positions of the unread rows
+            int readerIndex = current.readerIndex();
+            current.readerIndex(0);
+            CompositeByteBuf composite = buffer.alloc().compositeBuffer(Integer.MAX_VALUE);
+            composite.addComponents(true, current, data);
+            composite.readerIndex(readerIndex);
+            cursor.dataBuffer_ = composite;
+        } else {
+            current.release();
+            cursor.dataBuffer_ = data;
+        }
 //        } else {
 //            int size = netCursor.dataBufferStream_.size();
 //            if (size == 0) {
@@ -1794,6 +1817,7 @@ public class DRDAQueryResponse extends DRDAConnectResponse {
         boolean readHeader;
         int copySize;
         ByteBuf baos = null;
+        CompositeByteBuf composite = null;
 //        ByteArrayOutputStream baos;
 
 //        // note: an empty baos can yield an allocated and empty byte[]
@@ -1824,7 +1848,18 @@ public class DRDAQueryResponse extends DRDAConnectResponse {
             // read the segment
             ensureALayerDataInBuffer(copySize);
             adjustLengths(copySize);
-            baos = buffer.readRetainedSlice(copySize).asReadOnly();
+            ByteBuf segment = buffer.readRetainedSlice(copySize);
+            if (baos == null) {
+                baos = segment;
+            } else {
+                // reassemble the segments of a continued DSS without copying them
+                if (composite == null) {
+                    composite = buffer.alloc().compositeBuffer(Integer.MAX_VALUE);
+                    composite.addComponent(true, baos);
+                    baos = composite;
+                }
+                composite.addComponent(true, segment);
+            }
 //            baos.write(buffer_, pos_, copySize);
 //            pos_ += copySize;
 
@@ -1837,7 +1872,7 @@ public class DRDAQueryResponse extends DRDAConnectResponse {
         } while (readHeader == true);
 
 
-        return baos;
+        return baos.asReadOnly();
     }
 
     private void parseQRYDSC() {
@@ -45,6 +45,62 @@ public class QueryVariationsTest extends DB2TestBase {
     }));
   }
 
+  @Test
+  public void testLargeResult(TestContext ctx) {
+    connect(ctx.asyncAssertSuccess(conn -> {
+      conn.query("WITH nums(n) AS (VALUES 1 UNION ALL SELECT n + 1 FROM nums WHERE n < 5000) " +
+          "SELECT n, REPEAT('x', 200) FROM nums ORDER BY n").execute(
+          ctx.asyncAssertSuccess(rowSet -> {
+        ctx.assertEquals(5000, rowSet.size());
+        int expected = 1;
+        for (Row row : rowSet) {
+          ctx.assertEquals(expected++, row.getInteger(0));
+          ctx.assertEquals(200, row.getString(1).length());
+        }
+        conn.close();
+      }));
+    }));
+  }
+
+  // Small blocks chained to each reply, the rows of a block must all be read before the next block
+  @Test
+  public void testLargeResultWithChainedQueryBlocks(TestContext ctx) {
+    DB2ConnectOptions opts = new DB2ConnectOptions(options)
+        .setQueryBlockSize(DB2ConnectOptions.MIN_QUERY_BLOCK_SIZE)
+        .setMaxExtraBlocks(16);
+    DB2Connection.connect(vertx, opts, ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery("WITH nums(n) AS (VALUES 1 UNION ALL SELECT n + 1 FROM nums WHERE n < ?) " +
+          "SELECT n, REPEAT('x', 50) FROM nums ORDER BY n").execute(Tuple.of(2000),
+          ctx.asyncAssertSuccess(rowSet -> {
+        ctx.assertEquals(2000, rowSet.size());
+        int expected = 1;
+        for (Row row : rowSet) {
+          ctx.assertEquals(expected++, row.getInteger(0));
+        }
+        conn.close();
+      }));
+    }));
+  }
+
+  @Test
+  public void testLargeResultWithLargeQueryBlocks(TestContext ctx) {
+    DB2ConnectOptions opts = new DB2ConnectOptions(options)
+        .setQueryBlockSize(256 * 1024)
+        .setMaxExtraBlocks(-1);
+    DB2Connection.connect(vertx, opts, ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery("WITH nums(n) AS (VALUES 1 UNION ALL SELECT n + 1 FROM nums WHERE n < ?) " +
+          "SELECT n, REPEAT('x', 200) FROM nums ORDER BY n").execute(Tuple.of(5000),
+          ctx.asyncAssertSuccess(rowSet -> {
+        ctx.assertEquals(5000, rowSet.size());
+        int expected = 1;
+        for (Row row : rowSet) {
+          ctx.assertEquals(expected++, row.getInteger(0));
+        }
+        conn.close();
+      }));
+    }));
+  }
+
   @Test
   public void testSubquery(TestContext ctx) {
     connect(ctx.asyncAssertSuccess(conn -> {
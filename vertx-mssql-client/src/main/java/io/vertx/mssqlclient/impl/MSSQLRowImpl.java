@@ -12,9 +12,9 @@
 package io.vertx.mssqlclient.impl;
 
 import io.vertx.core.buffer.Buffer;
-import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.data.Numeric;
 import io.vertx.sqlclient.impl.ArrayTuple;
+import io.vertx.sqlclient.impl.RowInternal;
 import io.vertx.sqlclient.impl.RowDesc;
 
 import java.time.LocalDate;
@@ -25,7 +25,7 @@ import java.time.temporal.Temporal;
 import java.util.List;
 import java.util.UUID;
 
-public class MSSQLRowImpl extends ArrayTuple implements Row {
+public class MSSQLRowImpl extends ArrayTuple implements RowInternal {
   private final RowDesc rowDesc;
 
   public MSSQLRowImpl(RowDesc rowDesc) {
@@ -33,6 +33,11 @@ public class MSSQLRowImpl extends ArrayTuple implements Row {
     this.rowDesc = rowDesc;
   }
 
+  @Override
+  public RowDesc desc() {
+    return rowDesc;
+  }
+
   @Override
   public String getColumnName(int pos) {
     List<String> columnNames = rowDesc.columnNames();
@@ -44,7 +49,7 @@ public class MSSQLRowImpl extends ArrayTuple implements Row {
     if (column == null) {
       throw new IllegalArgumentException("Column name can not be null");
     }
-    return rowDesc.columnNames().indexOf(column);
+    return rowDesc.columnIndex(column);
   }
 
   @Override
@@ -20,6 +20,8 @@ import io.vertx.core.impl.EventLoopContext;
 import io.vertx.core.net.impl.NetSocketInternal;
 import io.vertx.mssqlclient.impl.codec.MSSQLCodec;
 import io.vertx.mssqlclient.impl.command.PreLoginCommand;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
+import io.vertx.sqlclient.impl.cache.PreparedStatementCacheMetricsImpl;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.QueryResultHandler;
 import io.vertx.sqlclient.impl.SocketConnectionBase;
@@ -38,10 +40,12 @@ class MSSQLSocketConnection extends SocketConnectionBase {
   MSSQLSocketConnection(NetSocketInternal socket,
                         boolean cachePreparedStatements,
                         int preparedStatementCacheSize,
+                        PreparedStatementCachePolicy preparedStatementCachePolicy,
+                        PreparedStatementCacheMetricsImpl preparedStatementCacheMetrics,
                         Predicate<String> preparedStatementCacheSqlFilter,
                         int pipeliningLimit,
                         EventLoopContext context) {
-    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCachePolicy, preparedStatementCacheMetrics, preparedStatementCacheSqlFilter, pipeliningLimit, context);
   }
 
   // TODO RETURN FUTURE ???
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.mssqlclient.impl.protocol.MessageStatus;
+import io.vertx.mssqlclient.impl.protocol.MessageType;
+import io.vertx.mssqlclient.impl.protocol.TdsMessage;
+import io.vertx.mssqlclient.impl.protocol.client.rpc.ProcId;
+import io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataTypeId;
+import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
+import io.vertx.sqlclient.impl.command.CloseCursorCommand;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+
+class CloseCursorCommandCodec extends MSSQLCommandCodec<Void, CloseCursorCommand> {
+
+  CloseCursorCommandCodec(CloseCursorCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(TdsMessageEncoder encoder) {
+    super.encode(encoder);
+    MSSQLCursor cursor = encoder.cursors.remove(cmd.id());
+    if (cursor != null) {
+      sendCursorCloseRequest(cursor);
+    } else {
+      completionHandler.handle(CommandResponse.success(null));
+    }
+  }
+
+  @Override
+  void decodeMessage(TdsMessage message, TdsMessageEncoder encoder) {
+    ByteBuf messageBody = message.content();
+    while (messageBody.isReadable()) {
+      DataPacketStreamTokenType tokenType = DataPacketStreamTokenType.valueOf(messageBody.readUnsignedByte());
+      if (tokenType == null) {
+        throw new UnsupportedOperationException("Unsupported token: " + tokenType);
+      }
+      switch (tokenType) {
+        case ERROR_TOKEN:
+          handleErrorToken(messageBody);
+          break;
+        case INFO_TOKEN:
+          int infoTokenLength = messageBody.readUnsignedShortLE();
+          messageBody.skipBytes(infoTokenLength);
+          break;
+        case DONE_TOKEN:
+        case DONEINPROC_TOKEN:
+        case DONEPROC_TOKEN:
+          messageBody.skipBytes(12);
+          break;
+        case RETURNSTATUS_TOKEN:
+          messageBody.skipBytes(4);
+          break;
+        default:
+          throw new UnsupportedOperationException("Unsupported token: " + tokenType);
+      }
+    }
+    complete();
+  }
+
+  private void sendCursorCloseRequest(MSSQLCursor cursor) {
+    encodeMessage(MessageType.RPC, MessageStatus.NORMAL, 0x00, payload -> {
+      int start = payload.writerIndex();
+      payload.writeIntLE(0x00); // TotalLength for ALL_HEADERS
+      payload.writeIntLE(18); // HeaderLength is always 18
+      payload.writeShortLE(0x0002); // HeaderType
+      payload.writeLongLE(encoder.transactionDescriptor);
+      payload.writeIntLE(1);
+      // set TotalLength for ALL_HEADERS
+      payload.setIntLE(start, payload.writerIndex() - start);
+
+      /*
+        RPCReqBatch
+       */
+      payload.writeShortLE(0xFFFF);
+      payload.writeShortLE(ProcId.Sp_CursorClose);
+
+      // Option flags
+      payload.writeShortLE(0x0000);
+
+      // Cursor handle
+      payload.writeByte(0x00);
+      payload.writeByte(0x00);
+      payload.writeByte(MSSQLDataTypeId.INTNTYPE_ID);
+      payload.writeByte(0x04);
+      payload.writeByte(0x04);
+      payload.writeIntLE(cursor.handle);
+    });
+  }
+}
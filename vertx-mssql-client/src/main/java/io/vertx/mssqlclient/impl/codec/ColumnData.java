@@ -43,6 +43,13 @@ public final class ColumnData implements ColumnDescriptor {
     return flags;
   }
 
+  /**
+   * @return whether the column is hidden, e.g the {@code ROWSTAT} column appended to the rows fetched from a server cursor
+   */
+  public boolean isHidden() {
+    return (flags & Flags.HIDDEN) != 0;
+  }
+
   public MSSQLDataType dataType() {
     return dataType;
   }
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.mssqlclient.impl.protocol.MessageStatus;
+import io.vertx.mssqlclient.impl.protocol.MessageType;
+import io.vertx.mssqlclient.impl.protocol.TdsMessage;
+import io.vertx.mssqlclient.impl.protocol.client.rpc.ProcId;
+import io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataTypeId;
+import io.vertx.mssqlclient.impl.protocol.server.DoneToken;
+import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
+
+import java.util.List;
+
+/**
+ * Executes a batch with RPC requests packed in a single TDS message, the server responds to each request
+ * with a {@code DONEPROC} token.
+ *
+ * <p>When the statement has not been prepared yet, the first tuple is executed with {@code sp_prepexec} to obtain
+ * the statement handle and the remaining tuples are executed with {@code sp_execute} in a second message.
+ */
+class ExtendedBatchQueryCommandCodec<T> extends ExtendedQueryCommandBaseCodec<T> {
+
+  // RPC batch separator since TDS 7.2
+  private static final int BATCH_FLAG = 0xFF;
+
+  private final List<Tuple> paramsList;
+  private int sent;
+  private int received;
+  private int rowCount;
+
+  ExtendedBatchQueryCommandCodec(ExtendedQueryCommand<T> cmd) {
+    super(cmd);
+    paramsList = cmd.paramsList();
+  }
+
+  @Override
+  void encode(TdsMessageEncoder encoder) {
+    super.encode(encoder);
+    if (paramsList.isEmpty()) {
+      completionHandler.handle(CommandResponse.failure("Can not execute batch query with 0 sets of batch parameters."));
+      return;
+    }
+    MSSQLPreparedStatement ps = (MSSQLPreparedStatement) cmd.preparedStatement();
+    if (ps.handle > 0) {
+      sendRequests(paramsList.size());
+    } else {
+      sendRequests(1);
+    }
+  }
+
+  @Override
+  void decodeMessage(TdsMessage message, TdsMessageEncoder encoder) {
+    ByteBuf messageBody = message.content();
+    while (messageBody.isReadable()) {
+      DataPacketStreamTokenType tokenType = DataPacketStreamTokenType.valueOf(messageBody.readUnsignedByte());
+      if (tokenType == null) {
+        throw new UnsupportedOperationException("Unsupported token: " + tokenType);
+      }
+      switch (tokenType) {
+        case COLMETADATA_TOKEN:
+          MSSQLRowDesc rowDesc = decodeColmetadataToken(messageBody);
+          rowResultDecoder = new RowResultDecoder<>(cmd.collector(), rowDesc);
+          break;
+        case ROW_TOKEN:
+          handleRow(messageBody);
+          break;
+        case NBCROW_TOKEN:
+          handleNbcRow(messageBody);
+          break;
+        case DONE_TOKEN:
+        case DONEINPROC_TOKEN:
+          handleDoneCount(messageBody);
+          break;
+        case INFO_TOKEN:
+          int infoTokenLength = messageBody.readUnsignedShortLE();
+          messageBody.skipBytes(infoTokenLength);
+          break;
+        case ERROR_TOKEN:
+          // report the first error, the server keeps executing the following requests of the batch
+          Throwable first = failure;
+          handleErrorToken(messageBody);
+          if (first != null) {
+            failure = first;
+          }
+          break;
+        case RETURNSTATUS_TOKEN:
+          messageBody.skipBytes(4);
+          break;
+        case RETURNVALUE_TOKEN:
+          Integer handle = decodeIntNReturnValue(messageBody);
+          if (handle != null) {
+            ((MSSQLPreparedStatement) cmd.preparedStatement()).handle = handle;
+          }
+          break;
+        case DONEPROC_TOKEN:
+          handleDoneCount(messageBody);
+          handleResultSetDone(rowCount);
+          rowCount = 0;
+          received++;
+          break;
+        default:
+          throw new UnsupportedOperationException("Unsupported token: " + tokenType);
+      }
+    }
+    MSSQLPreparedStatement ps = (MSSQLPreparedStatement) cmd.preparedStatement();
+    if (received < paramsList.size() && failure == null && ps.handle > 0) {
+      sendRequests(paramsList.size());
+    } else {
+      complete();
+    }
+  }
+
+  private void handleDoneCount(ByteBuf messageBody) {
+    int status = messageBody.readUnsignedShortLE();
+    messageBody.skipBytes(2); // current command
+    long doneRowCount = messageBody.readLongLE();
+    if ((status & DoneToken.STATUS_DONE_COUNT) != 0) {
+      rowCount += doneRowCount;
+    }
+  }
+
+  private void sendRequests(int end) {
+    MSSQLPreparedStatement ps = (MSSQLPreparedStatement) cmd.preparedStatement();
+    encodeMessage(MessageType.RPC, MessageStatus.NORMAL, 0x00, payload -> {
+      encodeAllHeaders(payload);
+      while (sent < end) {
+        if (sent > received) {
+          payload.writeByte(BATCH_FLAG);
+        }
+        encodeRpcRequest(payload, ps, paramsList.get(sent++));
+      }
+    });
+  }
+
+  private void encodeRpcRequest(ByteBuf payload, MSSQLPreparedStatement ps, Tuple params) {
+    boolean prepare = ps.handle == 0;
+
+    /*
+      RPCReqBatch
+     */
+    payload.writeShortLE(0xFFFF);
+    payload.writeShortLE(prepare ? ProcId.Sp_PrepExec : ProcId.Sp_Execute);
+
+    // Option flags
+    payload.writeShortLE(0x0000);
+
+    // Handle parameter, OUT parameter for sp_prepexec
+    payload.writeByte(0x00);
+    payload.writeByte(prepare ? 0x01 : 0x00);
+    payload.writeByte(MSSQLDataTypeId.INTNTYPE_ID);
+    payload.writeByte(0x04); // Max length
+    payload.writeByte(0x04); // Length
+    payload.writeIntLE(ps.handle);
+
+    if (prepare) {
+      // Param definitions
+      encodeNVarcharParameter(payload, parseParamDefinitions(params));
+      // SQL text
+      encodeNVarcharParameter(payload, cmd.sql());
+    }
+
+    // Param values
+    for (int i = 0; i < params.size(); i++) {
+      encodeParamValue(payload, params.getValue(i));
+    }
+  }
+}
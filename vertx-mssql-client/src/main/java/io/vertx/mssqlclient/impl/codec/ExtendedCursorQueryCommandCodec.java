@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.mssqlclient.impl.protocol.MessageStatus;
+import io.vertx.mssqlclient.impl.protocol.MessageType;
+import io.vertx.mssqlclient.impl.protocol.TdsMessage;
+import io.vertx.mssqlclient.impl.protocol.client.rpc.ProcId;
+import io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataTypeId;
+import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
+
+/**
+ * Reads the rows of a query with a server cursor, the first read opens the cursor with {@code sp_cursoropen}
+ * and each read fetches the next rows with {@code sp_cursorfetch}.
+ */
+class ExtendedCursorQueryCommandCodec<T> extends ExtendedQueryCommandBaseCodec<T> {
+
+  // sp_cursoropen scroll options
+  private static final int SCROLLOPT_FAST_FORWARD = 0x0010;
+  private static final int SCROLLOPT_PARAMETERIZED_STMT = 0x1000;
+  // sp_cursoropen concurrency options
+  private static final int CCOPT_READ_ONLY = 0x0001;
+  // sp_cursorfetch fetch type
+  private static final int FETCHTYPE_NEXT = 0x0002;
+
+  private MSSQLCursor cursor;
+  private Integer cursorHandle;
+
+  ExtendedCursorQueryCommandCodec(ExtendedQueryCommand<T> cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(TdsMessageEncoder encoder) {
+    super.encode(encoder);
+    cursor = encoder.cursors.get(cmd.cursorId());
+    if (cursor == null) {
+      sendCursorOpenRequest();
+    } else {
+      sendCursorFetchRequest();
+    }
+  }
+
+  @Override
+  void decodeMessage(TdsMessage message, TdsMessageEncoder encoder) {
+    ByteBuf messageBody = message.content();
+    while (messageBody.isReadable()) {
+      DataPacketStreamTokenType tokenType = DataPacketStreamTokenType.valueOf(messageBody.readUnsignedByte());
+      if (tokenType == null) {
+        throw new UnsupportedOperationException("Unsupported token: " + tokenType);
+      }
+      switch (tokenType) {
+        case COLMETADATA_TOKEN:
+          MSSQLRowDesc rowDesc = decodeColmetadataToken(messageBody);
+          if (cursor != null) {
+            cursor.rowDesc = rowDesc;
+          }
+          rowResultDecoder = new RowResultDecoder<>(cmd.collector(), rowDesc);
+          break;
+        case ROW_TOKEN:
+          handleRow(messageBody);
+          break;
+        case NBCROW_TOKEN:
+          handleNbcRow(messageBody);
+          break;
+        case DONE_TOKEN:
+        case DONEINPROC_TOKEN:
+        case DONEPROC_TOKEN:
+          messageBody.skipBytes(12);
+          break;
+        case INFO_TOKEN:
+          int infoTokenLength = messageBody.readUnsignedShortLE();
+          messageBody.skipBytes(infoTokenLength);
+          break;
+        case ERROR_TOKEN:
+          handleErrorToken(messageBody);
+          break;
+        case RETURNSTATUS_TOKEN:
+          messageBody.skipBytes(4);
+          break;
+        case RETURNVALUE_TOKEN:
+          // the cursor handle is the first output parameter of sp_cursoropen
+          Integer value = decodeIntNReturnValue(messageBody);
+          if (cursor == null && cursorHandle == null) {
+            cursorHandle = value;
+          }
+          break;
+        default:
+          throw new UnsupportedOperationException("Unsupported token: " + tokenType);
+      }
+    }
+    if (cursor == null) {
+      handleCursorOpened(encoder);
+    } else {
+      handleRowsFetched();
+    }
+  }
+
+  private void handleCursorOpened(TdsMessageEncoder encoder) {
+    if (failure == null && cursorHandle == null) {
+      failure = new IllegalStateException("No cursor handle returned by the server");
+    }
+    if (failure != null) {
+      complete();
+    } else {
+      MSSQLRowDesc rowDesc = rowResultDecoder != null ? rowResultDecoder.desc : null;
+      cursor = new MSSQLCursor(cursorHandle, rowDesc);
+      encoder.cursors.put(cmd.cursorId(), cursor);
+      sendCursorFetchRequest();
+    }
+  }
+
+  private void handleRowsFetched() {
+    if (failure == null) {
+      int size = rowResultDecoder != null ? rowResultDecoder.size() : 0;
+      handleResultSetDone(size);
+      // the cursor is exhausted when the server returns fewer rows than requested
+      result = size == cmd.fetch();
+    }
+    complete();
+  }
+
+  private void sendCursorOpenRequest() {
+    encodeMessage(MessageType.RPC, MessageStatus.NORMAL, 0x00, payload -> {
+      encodeAllHeaders(payload);
+
+      /*
+        RPCReqBatch
+       */
+      payload.writeShortLE(0xFFFF);
+      payload.writeShortLE(ProcId.Sp_CursorOpen);
+
+      // Option flags
+      payload.writeShortLE(0x0000);
+
+      Tuple params = cmd.params();
+
+      // Parameters
+      encodeIntParameter(payload, 0, true); // cursor handle
+      encodeNVarcharParameter(payload, cmd.sql());
+      int scrollOpt = SCROLLOPT_FAST_FORWARD;
+      if (params.size() > 0) {
+        scrollOpt |= SCROLLOPT_PARAMETERIZED_STMT;
+      }
+      encodeIntParameter(payload, scrollOpt, true);
+      encodeIntParameter(payload, CCOPT_READ_ONLY, true);
+      encodeIntParameter(payload, 0, true); // row count
+
+      if (params.size() > 0) {
+        // Param definitions
+        encodeNVarcharParameter(payload, parseParamDefinitions(params));
+        // Param values
+        for (int i = 0; i < params.size(); i++) {
+          encodeParamValue(payload, params.getValue(i));
+        }
+      }
+    });
+  }
+
+  private void sendCursorFetchRequest() {
+    if (cursor.rowDesc != null) {
+      rowResultDecoder = new RowResultDecoder<>(cmd.collector(), cursor.rowDesc);
+    } else {
+      rowResultDecoder = null;
+    }
+    encodeMessage(MessageType.RPC, MessageStatus.NORMAL, 0x00, payload -> {
+      encodeAllHeaders(payload);
+
+      /*
+        RPCReqBatch
+       */
+      payload.writeShortLE(0xFFFF);
+      payload.writeShortLE(ProcId.Sp_CursorFetch);
+
+      // Option flags
+      payload.writeShortLE(0x0000);
+
+      // Parameters
+      encodeIntParameter(payload, cursor.handle, false);
+      encodeIntParameter(payload, FETCHTYPE_NEXT, false);
+      encodeIntParameter(payload, 0, false); // row number, not used for FETCH NEXT
+      encodeIntParameter(payload, cmd.fetch(), false);
+    });
+  }
+
+  private void encodeIntParameter(ByteBuf payload, int value, boolean output) {
+    payload.writeByte(0x00); // name length
+    payload.writeByte(output ? 0x01 : 0x00); // status flags
+    payload.writeByte(MSSQLDataTypeId.INTNTYPE_ID);
+    payload.writeByte(0x04); // Max length
+    payload.writeByte(0x04); // Length
+    payload.writeIntLE(value);
+  }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataTypeId;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.data.Numeric;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static io.vertx.mssqlclient.impl.codec.MSSQLDataTypeCodec.inferenceParamDefinitionByValueType;
+
+abstract class ExtendedQueryCommandBaseCodec<T> extends QueryCommandBaseCodec<T, ExtendedQueryCommand<T>> {
+
+  ExtendedQueryCommandBaseCodec(ExtendedQueryCommand<T> cmd) {
+    super(cmd);
+  }
+
+  void encodeAllHeaders(ByteBuf payload) {
+    int start = payload.writerIndex();
+    payload.writeIntLE(0x00); // TotalLength for ALL_HEADERS
+    encodeTransactionDescriptor(payload);
+    // set TotalLength for ALL_HEADERS
+    payload.setIntLE(start, payload.writerIndex() - start);
+  }
+
+  /**
+   * Decode the value of a {@code RETURNVALUE} token for an {@code int} output parameter.
+   *
+   * @return the value or {@code null} when the server returned a {@code NULL} value
+   */
+  Integer decodeIntNReturnValue(ByteBuf messageBody) {
+    messageBody.skipBytes(2); // skip ordinal position
+    messageBody.skipBytes(2 * messageBody.readUnsignedByte()); // skip param name
+    messageBody.skipBytes(1); // skip status
+    messageBody.skipBytes(4); // skip user type
+    messageBody.skipBytes(2); // skip flags
+    messageBody.skipBytes(1); // skip type id
+    messageBody.skipBytes(1); // skip max length
+    int length = messageBody.readUnsignedByte();
+    if (length == 4) {
+      return messageBody.readIntLE();
+    } else {
+      messageBody.skipBytes(length);
+      return null;
+    }
+  }
+
+  String parseParamDefinitions(Tuple params) {
+    StringBuilder stringBuilder = new StringBuilder();
+    for (int i = 0; i < params.size(); i++) {
+      Object param = params.getValue(i);
+      stringBuilder.append("@P").append(i + 1).append(" ");
+      stringBuilder.append(inferenceParamDefinitionByValueType(param));
+      if (i != params.size() - 1) {
+        stringBuilder.append(",");
+      }
+    }
+    return stringBuilder.toString();
+  }
+
+  void encodeNVarcharParameter(ByteBuf payload, String value) {
+    payload.writeByte(0x00); // name length
+    payload.writeByte(0x00); // status flags
+    payload.writeByte(MSSQLDataTypeId.NVARCHARTYPE_ID);
+    payload.writeShortLE(8000); // maximal length
+    payload.writeByte(0x09);
+    payload.writeByte(0x04);
+    payload.writeByte(0xd0);
+    payload.writeByte(0x00);
+    payload.writeByte(0x34); // Collation for param definitions TODO always this value?
+    writeUnsignedShortLenVarChar(payload, value);
+  }
+
+  void encodeParamValue(ByteBuf payload, Object value) {
+    if (value == null) {
+      encodeNullParameter(payload);
+    } else if (value instanceof Byte) {
+      encodeIntNParameter(payload, 1, value);
+    } else if (value instanceof Short) {
+      encodeIntNParameter(payload, 2, value);
+    } else if (value instanceof Integer) {
+      encodeIntNParameter(payload, 4, value);
+    } else if (value instanceof Long) {
+      encodeIntNParameter(payload, 8, value);
+    } else if (value instanceof Float) {
+      encodeFloat4Parameter(payload, (Float) value);
+    } else if (value instanceof Double) {
+      encodeFloat8Parameter(payload, (Double) value);
+    } else if (value instanceof String) {
+      encodeNVarcharParameter(payload, (String) value);
+    } else if (value instanceof Enum){
+      encodeNVarcharParameter(payload, ((Enum<?>)value).name());
+    } else if (value instanceof Boolean) {
+      encodeBitNParameter(payload, (Boolean) value);
+    } else if (value instanceof LocalDate) {
+      encodeDateNParameter(payload, (LocalDate) value);
+    } else if (value instanceof LocalTime) {
+      encodeTimeNParameter(payload, (LocalTime) value, (byte) 6);
+    } else if (value instanceof LocalDateTime) {
+      encodeDateTimeNParameter(payload, (LocalDateTime) value, (byte) 6);
+    } else if (value instanceof OffsetDateTime) {
+      encodeOffsetDateTimeNParameter(payload, (OffsetDateTime) value, (byte) 6);
+    } else if (value instanceof Numeric) {
+      encodeNumericParameter(payload, (Numeric) value);
+    } else {
+      throw new UnsupportedOperationException("Unsupported type");
+    }
+  }
+
+  private void encodeNullParameter(ByteBuf payload) {
+    payload.writeByte(0x00);
+    payload.writeByte(0x00);
+    payload.writeByte(MSSQLDataTypeId.NULLTYPE_ID);
+  }
+
+  private void encodeIntNParameter(ByteBuf payload, int n, Object value) {
+    payload.writeByte(0x00);
+    payload.writeByte(0x00);
+    payload.writeByte(MSSQLDataTypeId.INTNTYPE_ID);
+    payload.writeByte(n);
+    payload.writeByte(n);
+    switch (n) {
+      case 1:
+        payload.writeByte((Byte) value);
+        break;
+      case 2:
+        payload.writeShortLE((Short) value);
+        break;
+      case 4:
+        payload.writeIntLE((Integer) value);
+        break;
+      case 8:
+        payload.writeLongLE((Long) value);
+        break;
+      default:
+        throw new UnsupportedOperationException();
+    }
+  }
+
+  private void encodeBitNParameter(ByteBuf payload, Boolean bit) {
+    payload.writeByte(0x00);
+    payload.writeByte(0x00);
+    payload.writeByte(MSSQLDataTypeId.BITNTYPE_ID);
+    payload.writeByte(1);
+    payload.writeByte(1);
+    payload.writeBoolean(bit);
+  }
+
+  private void encodeFloat4Parameter(ByteBuf payload, Float value) {
+    payload.writeByte(0x00);
+    payload.writeByte(0x00);
+    payload.writeByte(MSSQLDataTypeId.FLTNTYPE_ID);
+    payload.writeByte(4);
+    payload.writeByte(4);
+    payload.writeFloatLE(value);
+  }
+
+  private void encodeFloat8Parameter(ByteBuf payload, Double value) {
+    payload.writeByte(0x00);
+    payload.writeByte(0x00);
+    payload.writeByte(MSSQLDataTypeId.FLTNTYPE_ID);
+    payload.writeByte(8);
+    payload.writeByte(8);
+    payload.writeDoubleLE(value);
+  }
+
+  private void encodeDateNParameter(ByteBuf payload, LocalDate date) {
+    payload.writeByte(0x00);
+    payload.writeByte(0x00);
+    payload.writeByte(MSSQLDataTypeId.DATENTYPE_ID);
+    if (date == null) {
+      // null
+      payload.writeByte(0);
+    } else {
+      payload.writeByte(3);
+      long days = ChronoUnit.DAYS.between(MSSQLDataTypeCodec.START_DATE, date);
+      payload.writeMediumLE((int) days);
+    }
+  }
+
+  private void encodeTimeNParameter(ByteBuf payload, LocalTime time, byte scale) {
+    payload.writeByte(0x00);
+    payload.writeByte(0x00);
+    payload.writeByte(MSSQLDataTypeId.TIMENTYPE_ID);
+
+    payload.writeByte(scale); //FIXME scale?
+    if (time == null) {
+      payload.writeByte(0);
+    } else {
+      int length;
+      if (scale <= 2) {
+        length = 3;
+      } else if (scale <= 4) {
+        length = 4;
+      } else {
+        length = 5;
+      }
+      payload.writeByte(length);
+      long nanos = time.getNano();
+      int seconds = time.toSecondOfDay();
+      long value = (long) ((long) seconds * Math.pow(10, scale) + nanos);
+      encodeInt40(payload, value);
+    }
+  }
+
+  private void encodeDateTimeNParameter(ByteBuf payload, LocalDateTime dateTime, byte scale) {
+    payload.writeByte(0x00);
+    payload.writeByte(0x00);
+    payload.writeByte(MSSQLDataTypeId.DATETIME2NTYPE_ID);
+
+    payload.writeByte(scale); //FIXME scale?
+    if (dateTime == null) {
+      payload.writeByte(0);
+    } else {
+      int length;
+      if (scale <= 2) {
+        length = 3;
+      } else if (scale <= 4) {
+        length = 4;
+      } else {
+        length = 5;
+      }
+      length += 3;
+      payload.writeByte(length);
+      LocalTime localTime = dateTime.toLocalTime();
+      long nanos = localTime.getNano();
+      int seconds = localTime.toSecondOfDay();
+      long value = (long) ((long) seconds * Math.pow(10, scale) + nanos);
+      encodeInt40(payload, value);
+      long days = ChronoUnit.DAYS.between(MSSQLDataTypeCodec.START_DATE, dateTime.toLocalDate());
+      payload.writeMediumLE((int) days);
+    }
+  }
+
+  private void encodeOffsetDateTimeNParameter(ByteBuf payload, OffsetDateTime offsetDateTime, byte scale) {
+    payload.writeByte(0x00);
+    payload.writeByte(0x00);
+    payload.writeByte(MSSQLDataTypeId.DATETIMEOFFSETNTYPE_ID);
+
+    payload.writeByte(scale); //FIXME scale?
+    if (offsetDateTime == null) {
+      payload.writeByte(0);
+    } else {
+      int length;
+      if (scale <= 2) {
+        length = 3;
+      } else if (scale <= 4) {
+        length = 4;
+      } else {
+        length = 5;
+      }
+      length += 5;
+      payload.writeByte(length);
+      int minutes = offsetDateTime.getOffset().getTotalSeconds() / 60;
+      LocalDateTime localDateTime = offsetDateTime.toLocalDateTime().minusMinutes(minutes);
+      LocalTime localTime = localDateTime.toLocalTime();
+      long nanos = localTime.getNano();
+      int seconds = localTime.toSecondOfDay();
+      long value = (long) ((long) seconds * Math.pow(10, scale) + nanos);
+      encodeInt40(payload, value);
+      long days = ChronoUnit.DAYS.between(MSSQLDataTypeCodec.START_DATE, localDateTime.toLocalDate());
+      payload.writeMediumLE((int) days);
+      payload.writeShortLE(minutes);
+    }
+  }
+
+  private void encodeInt40(ByteBuf buffer, long value) {
+    buffer.writeIntLE((int) (value % 0x100000000L));
+    buffer.writeByte((int) (value / 0x100000000L));
+  }
+
+  private void encodeNumericParameter(ByteBuf buffer, Numeric value) {
+    //TODO we may need some changes in Numeric to make this work
+    throw new UnsupportedOperationException();
+  }
+}
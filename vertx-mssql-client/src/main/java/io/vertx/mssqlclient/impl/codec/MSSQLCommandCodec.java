@@ -12,11 +12,14 @@
 package io.vertx.mssqlclient.impl.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
 import io.vertx.core.Handler;
 import io.vertx.mssqlclient.MSSQLException;
 import io.vertx.mssqlclient.impl.protocol.MessageStatus;
 import io.vertx.mssqlclient.impl.protocol.MessageType;
 import io.vertx.mssqlclient.impl.protocol.TdsMessage;
+import io.vertx.mssqlclient.impl.protocol.TdsPacket;
+import io.vertx.mssqlclient.impl.protocol.client.login.LoginPacket;
 import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 
@@ -40,7 +43,31 @@ abstract class MSSQLCommandCodec<R, C extends CommandBase<R>> {
   }
 
   void encodeMessage(MessageType type, MessageStatus status, int processId, Consumer<ByteBuf> payloadEncoder) {
-    // FIXME split large message into packets
+    ChannelHandlerContext chctx = encoder.chctx;
+    ByteBuf payload = chctx.alloc().ioBuffer();
+    try {
+      payloadEncoder.accept(payload);
+      // split the message into packets of the negotiated size
+      int maxPacketDataSize = LoginPacket.DEFAULT_PACKET_SIZE - TdsPacket.PACKET_HEADER_SIZE;
+      int packetId = 1;
+      boolean last;
+      do {
+        int length = Math.min(payload.readableBytes(), maxPacketDataSize);
+        last = length == payload.readableBytes();
+        ByteBuf header = chctx.alloc().ioBuffer(TdsPacket.PACKET_HEADER_SIZE);
+        header.writeByte(type.value());
+        header.writeByte(last ? status.value() | MessageStatus.END_OF_MESSAGE.value() : status.value());
+        header.writeShort(TdsPacket.PACKET_HEADER_SIZE + length);
+        header.writeShort(processId);
+        header.writeByte(packetId++);
+        header.writeByte(0x00); // window
+        chctx.write(header, chctx.voidPromise());
+        chctx.write(payload.readRetainedSlice(length), chctx.voidPromise());
+      } while (!last);
+      chctx.flush();
+    } finally {
+      payload.release();
+    }
   }
 
   abstract void decodeMessage(TdsMessage message, TdsMessageEncoder encoder);
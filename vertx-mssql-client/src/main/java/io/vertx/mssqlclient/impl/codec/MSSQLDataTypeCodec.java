@@ -14,6 +14,7 @@ package io.vertx.mssqlclient.impl.codec;
 import io.netty.buffer.ByteBuf;
 import io.vertx.mssqlclient.impl.protocol.datatype.*;
 import io.vertx.sqlclient.data.Numeric;
+import io.vertx.sqlclient.impl.ArrayTuple;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -105,6 +106,70 @@ class MSSQLDataTypeCodec {
     }
   }
 
+  /**
+   * Decode a numeric value and add it to the row without boxing it.
+   *
+   * @return {@code true} when the value has been decoded and added, otherwise nothing has been read
+   */
+  static boolean decodePrimitive(MSSQLDataType dataType, ByteBuf in, ArrayTuple row) {
+    switch (dataType.id()) {
+      case MSSQLDataTypeId.INT1TYPE_ID:
+        row.addShortValue(decodeTinyInt(in));
+        return true;
+      case MSSQLDataTypeId.INT2TYPE_ID:
+        row.addShortValue(decodeSmallInt(in));
+        return true;
+      case MSSQLDataTypeId.INT4TYPE_ID:
+        row.addIntValue(decodeInt(in));
+        return true;
+      case MSSQLDataTypeId.INT8TYPE_ID:
+        row.addLongValue(decodeBigInt(in));
+        return true;
+      case MSSQLDataTypeId.FLT4TYPE_ID:
+        row.addFloatValue(decodeFloat4(in));
+        return true;
+      case MSSQLDataTypeId.FLT8TYPE_ID:
+        row.addDoubleValue(decodeFloat8(in));
+        return true;
+      case MSSQLDataTypeId.INTNTYPE_ID:
+        switch (in.getByte(in.readerIndex())) {
+          case 1:
+            in.skipBytes(1);
+            row.addShortValue(decodeTinyInt(in));
+            return true;
+          case 2:
+            in.skipBytes(1);
+            row.addShortValue(decodeSmallInt(in));
+            return true;
+          case 4:
+            in.skipBytes(1);
+            row.addIntValue(decodeInt(in));
+            return true;
+          case 8:
+            in.skipBytes(1);
+            row.addLongValue(decodeBigInt(in));
+            return true;
+          default:
+            return false;
+        }
+      case MSSQLDataTypeId.FLTNTYPE_ID:
+        switch (in.getByte(in.readerIndex())) {
+          case 4:
+            in.skipBytes(1);
+            row.addFloatValue(decodeFloat4(in));
+            return true;
+          case 8:
+            in.skipBytes(1);
+            row.addDoubleValue(decodeFloat8(in));
+            return true;
+          default:
+            return false;
+        }
+      default:
+        return false;
+    }
+  }
+
   private static LocalTime decodeTimeN(TimeNDataType dataType, ByteBuf in) {
     byte length = in.readByte();
     if (length == 0) {
@@ -13,7 +13,6 @@ package io.vertx.mssqlclient.impl.codec;
 
 import io.vertx.sqlclient.impl.RowDesc;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -22,7 +21,11 @@ class MSSQLRowDesc extends RowDesc {
   final ColumnData[] columnDatas;
 
   MSSQLRowDesc(ColumnData[] columnDatas) {
-    super(Stream.of(columnDatas).map(ColumnData::colName).collect(Collectors.toList()), Collections.unmodifiableList(Arrays.asList(columnDatas)));
+    super(visible(columnDatas).map(ColumnData::colName).collect(Collectors.toList()), Collections.unmodifiableList(visible(columnDatas).collect(Collectors.toList())));
     this.columnDatas = columnDatas;
   }
+
+  private static Stream<ColumnData> visible(ColumnData[] columnDatas) {
+    return Stream.of(columnDatas).filter(columnData -> !columnData.isHidden());
+  }
 }
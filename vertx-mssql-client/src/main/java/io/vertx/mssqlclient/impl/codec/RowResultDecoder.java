@@ -53,10 +53,17 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
   }
 
   private Row decodeMssqlRow(int len, ByteBuf in) {
-    Row row = new MSSQLRowImpl(desc);
+    MSSQLRowImpl row = new MSSQLRowImpl(desc);
     for (int c = 0; c < len; c++) {
       Object decoded = null;
       ColumnData columnData = desc.columnDatas[c];
+      if (columnData.isHidden()) {
+        MSSQLDataTypeCodec.decode(columnData.dataType(), in);
+        continue;
+      }
+      if (MSSQLDataTypeCodec.decodePrimitive(columnData.dataType(), in, row)) {
+        continue;
+      }
       decoded = MSSQLDataTypeCodec.decode(columnData.dataType(), in);
       row.addValue(decoded);
     }
@@ -64,7 +71,7 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
   }
 
   private Row decodeMssqlNbcRow(int len, ByteBuf in) {
-    Row row = new MSSQLRowImpl(desc);
+    MSSQLRowImpl row = new MSSQLRowImpl(desc);
     int nullBitmapByteCount = ((len - 1) >> 3) + 1;
     int nullBitMapStartIdx = in.readerIndex();
     in.skipBytes(nullBitmapByteCount);
@@ -75,10 +82,19 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
       byte mask = (byte) (1 << bitPos);
       byte nullByte = in.getByte(nullBitMapStartIdx + bytePos);
       Object decoded = null;
+      ColumnData columnData = desc.columnDatas[c];
       if ((nullByte & mask) == 0) {
         // not null
-        ColumnData columnData = desc.columnDatas[c];
+        if (columnData.isHidden()) {
+          MSSQLDataTypeCodec.decode(columnData.dataType(), in);
+          continue;
+        }
+        if (MSSQLDataTypeCodec.decodePrimitive(columnData.dataType(), in, row)) {
+          continue;
+        }
         decoded = MSSQLDataTypeCodec.decode(columnData.dataType(), in);
+      } else if (columnData.isHidden()) {
+        continue;
       }
       row.addValue(decoded);
     }
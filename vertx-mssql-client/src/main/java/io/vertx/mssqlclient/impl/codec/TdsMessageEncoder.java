@@ -18,6 +18,8 @@ import io.vertx.mssqlclient.impl.command.PreLoginCommand;
 import io.vertx.sqlclient.impl.command.*;
 
 import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
 
 class TdsMessageEncoder extends ChannelOutboundHandlerAdapter {
   private final ArrayDeque<MSSQLCommandCodec<?, ?>> inflight;
@@ -25,6 +27,9 @@ class TdsMessageEncoder extends ChannelOutboundHandlerAdapter {
   long transactionDescriptor;
   ChannelHandlerContext chctx;
 
+  // server cursors opened on the connection, by cursor id
+  final Map<String, MSSQLCursor> cursors = new HashMap<>();
+
   TdsMessageEncoder(ArrayDeque<MSSQLCommandCodec<?, ?>> inflight) {
     this.inflight = inflight;
   }
@@ -67,10 +72,14 @@ class TdsMessageEncoder extends ChannelOutboundHandlerAdapter {
     } else if (cmd instanceof ExtendedQueryCommand) {
       ExtendedQueryCommand<?> queryCmd = (ExtendedQueryCommand<?>) cmd;
       if (queryCmd.isBatch()) {
-        throw new UnsupportedOperationException();
+        return new ExtendedBatchQueryCommandCodec<>(queryCmd);
+      } else if (queryCmd.cursorId() != null) {
+        return new ExtendedCursorQueryCommandCodec<>(queryCmd);
       } else {
         return new ExtendedQueryCommandCodec((ExtendedQueryCommand) cmd);
       }
+    } else if (cmd instanceof CloseCursorCommand) {
+      return new CloseCursorCommandCodec((CloseCursorCommand) cmd);
     } else if (cmd instanceof CloseStatementCommand) {
       return new CloseStatementCommandCodec((CloseStatementCommand) cmd);
     } else if (cmd == CloseConnectionCommand.INSTANCE) {
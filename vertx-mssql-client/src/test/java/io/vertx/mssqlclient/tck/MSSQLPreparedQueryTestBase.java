@@ -42,62 +42,6 @@ public abstract class MSSQLPreparedQueryTestBase extends PreparedQueryTestBase {
     return sb.toString();
   }
 
-  @Override
-  @Test
-  @Ignore
-  public void testQueryCursor(TestContext ctx) {
-    //TODO cursor support
-    super.testQueryCursor(ctx);
-  }
-
-  @Override
-  @Test
-  @Ignore
-  public void testQueryCloseCursor(TestContext ctx) {
-    //TODO cursor support
-    super.testQueryCloseCursor(ctx);
-  }
-
-  @Override
-  @Test
-  @Ignore
-  public void testQueryStreamCloseCursor(TestContext ctx) {
-    //TODO cursor support
-    super.testQueryStreamCloseCursor(ctx);
-  }
-
-  @Override
-  @Test
-  @Ignore
-  public void testStreamQueryPauseInBatch(TestContext ctx) {
-    // TODO streaming support
-    super.testStreamQueryPauseInBatch(ctx);
-  }
-
-  @Override
-  @Test
-  @Ignore
-  public void testStreamQueryPauseInBatchFromAnotherThread(TestContext ctx) {
-    // TODO streaming support
-    super.testStreamQueryPauseInBatchFromAnotherThread(ctx);
-  }
-
-  @Override
-  @Test
-  @Ignore
-  public void testStreamQueryPauseResume(TestContext ctx) {
-    // TODO streaming support
-    super.testStreamQueryPauseResume(ctx);
-  }
-
-  @Override
-  @Test
-  @Ignore
-  public void testStreamQuery(TestContext ctx) {
-    // TODO streaming support
-    super.testStreamQuery(ctx);
-  }
-
   @Override
   @Test
   @Ignore
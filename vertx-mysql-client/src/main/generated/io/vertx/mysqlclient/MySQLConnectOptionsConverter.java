@@ -21,6 +21,11 @@ public class MySQLConnectOptionsConverter {
             obj.setAuthenticationPlugin(io.vertx.mysqlclient.MySQLAuthenticationPlugin.valueOf((String)member.getValue()));
           }
           break;
+        case "batchPipeliningLimit":
+          if (member.getValue() instanceof Number) {
+            obj.setBatchPipeliningLimit(((Number)member.getValue()).intValue());
+          }
+          break;
         case "characterEncoding":
           if (member.getValue() instanceof String) {
             obj.setCharacterEncoding((String)member.getValue());
@@ -36,6 +41,11 @@ public class MySQLConnectOptionsConverter {
             obj.setCollation((String)member.getValue());
           }
           break;
+        case "pipeliningLimit":
+          if (member.getValue() instanceof Number) {
+            obj.setPipeliningLimit(((Number)member.getValue()).intValue());
+          }
+          break;
         case "serverRsaPublicKeyPath":
           if (member.getValue() instanceof String) {
             obj.setServerRsaPublicKeyPath((String)member.getValue());
@@ -56,6 +66,11 @@ public class MySQLConnectOptionsConverter {
             obj.setUseAffectedRows((Boolean)member.getValue());
           }
           break;
+        case "useCompression":
+          if (member.getValue() instanceof Boolean) {
+            obj.setUseCompression((Boolean)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -68,6 +83,7 @@ public class MySQLConnectOptionsConverter {
     if (obj.getAuthenticationPlugin() != null) {
       json.put("authenticationPlugin", obj.getAuthenticationPlugin().name());
     }
+    json.put("batchPipeliningLimit", obj.getBatchPipeliningLimit());
     if (obj.getCharacterEncoding() != null) {
       json.put("characterEncoding", obj.getCharacterEncoding());
     }
@@ -77,6 +93,7 @@ public class MySQLConnectOptionsConverter {
     if (obj.getCollation() != null) {
       json.put("collation", obj.getCollation());
     }
+    json.put("pipeliningLimit", obj.getPipeliningLimit());
     if (obj.getServerRsaPublicKeyPath() != null) {
       json.put("serverRsaPublicKeyPath", obj.getServerRsaPublicKeyPath());
     }
@@ -87,5 +104,6 @@ public class MySQLConnectOptionsConverter {
       json.put("sslMode", obj.getSslMode().name());
     }
     json.put("useAffectedRows", obj.isUseAffectedRows());
+    json.put("useCompression", obj.isUseCompression());
   }
 }
@@ -19,6 +19,7 @@ import io.vertx.core.net.*;
 import io.vertx.core.tracing.TracingPolicy;
 import io.vertx.mysqlclient.impl.MySQLCollation;
 import io.vertx.mysqlclient.impl.MySQLConnectionUriParser;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
 import io.vertx.sqlclient.SqlConnectOptions;
 
 import java.nio.charset.Charset;
@@ -51,9 +52,12 @@ public class MySQLConnectOptions extends SqlConnectOptions {
   public static final String DEFAULT_SCHEMA = "";
   public static final String DEFAULT_CHARSET = "utf8mb4";
   public static final boolean DEFAULT_USE_AFFECTED_ROWS = false;
+  public static final boolean DEFAULT_USE_COMPRESSION = false;
   public static final Map<String, String> DEFAULT_CONNECTION_ATTRIBUTES;
   public static final SslMode DEFAULT_SSL_MODE = SslMode.DISABLED;
   public static final String DEFAULT_CHARACTER_ENCODING = "UTF-8";
+  public static final int DEFAULT_BATCH_PIPELINING_LIMIT = 256;
+  public static final int DEFAULT_PIPELINING_LIMIT = 1;
 
   static {
     Map<String, String> defaultAttributes = new HashMap<>();
@@ -64,11 +68,14 @@ public class MySQLConnectOptions extends SqlConnectOptions {
   private String collation;
   private String charset = DEFAULT_CHARSET;
   private Boolean useAffectedRows = DEFAULT_USE_AFFECTED_ROWS;
+  private boolean useCompression = DEFAULT_USE_COMPRESSION;
   private SslMode sslMode = DEFAULT_SSL_MODE;
   private String serverRsaPublicKeyPath;
   private Buffer serverRsaPublicKeyValue;
   private String characterEncoding = DEFAULT_CHARACTER_ENCODING;
   private MySQLAuthenticationPlugin authenticationPlugin = MySQLAuthenticationPlugin.DEFAULT;
+  private int batchPipeliningLimit = DEFAULT_BATCH_PIPELINING_LIMIT;
+  private int pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
 
   public MySQLConnectOptions() {
     super();
@@ -86,11 +93,14 @@ public class MySQLConnectOptions extends SqlConnectOptions {
       this.collation = opts.collation;
       this.charset = opts.charset;
       this.useAffectedRows = opts.useAffectedRows;
+      this.useCompression = opts.useCompression;
       this.sslMode = opts.sslMode;
       this.serverRsaPublicKeyPath = opts.serverRsaPublicKeyPath;
       this.serverRsaPublicKeyValue = opts.serverRsaPublicKeyValue != null ? opts.serverRsaPublicKeyValue.copy() : null;
       this.characterEncoding = opts.characterEncoding;
       this.authenticationPlugin = opts.authenticationPlugin;
+      this.batchPipeliningLimit = opts.batchPipeliningLimit;
+      this.pipeliningLimit = opts.pipeliningLimit;
     }
   }
 
@@ -99,11 +109,14 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     this.collation = other.collation;
     this.charset = other.charset;
     this.useAffectedRows = other.useAffectedRows;
+    this.useCompression = other.useCompression;
     this.sslMode = other.sslMode;
     this.serverRsaPublicKeyPath = other.serverRsaPublicKeyPath;
     this.serverRsaPublicKeyValue = other.serverRsaPublicKeyValue != null ? other.serverRsaPublicKeyValue.copy() : null;
     this.characterEncoding = other.characterEncoding;
     this.authenticationPlugin = other.authenticationPlugin;
+    this.batchPipeliningLimit = other.batchPipeliningLimit;
+    this.pipeliningLimit = other.pipeliningLimit;
   }
 
   /**
@@ -199,6 +212,91 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  /**
+   * Get whether the protocol compression is requested when connecting to the server.
+   *
+   * @return whether the protocol compression is requested
+   */
+  public boolean isUseCompression() {
+    return useCompression;
+  }
+
+  /**
+   * Sets whether to request the protocol compression when connecting to the server, if set to <code>true</code> the
+   * packets are exchanged with zlib compression when the server supports it.
+   *
+   * Compression trades CPU for bandwidth, it is useful for large result sets over slow networks.
+   *
+   * See <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_basic_compression.html">protocol compression</a> for details.
+   *
+   * @param useCompression whether the protocol compression is requested
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MySQLConnectOptions setUseCompression(boolean useCompression) {
+    this.useCompression = useCompression;
+    return this;
+  }
+
+  /**
+   * Get the maximum number of batch executions written to the server before waiting for their responses.
+   *
+   * @return the batch pipelining limit
+   */
+  public int getBatchPipeliningLimit() {
+    return batchPipeliningLimit;
+  }
+
+  /**
+   * Set the maximum number of batch executions written to the server before waiting for their responses.
+   *
+   * <p>The executions of a batch are written back-to-back and the server processes them in order, a value of
+   * {@code 1} waits for the response of each execution before sending the next one.
+   *
+   * <p>When an execution fails, the batch fails and no further execution is written, however the executions already
+   * written after the failing one are still run by the server. Outside of a transaction they are committed, a value
+   * larger than {@code 1} trades the stop-on-first-error behavior for fewer round trips. Run the batch in a
+   * transaction to discard all its effects on failure.
+   *
+   * @param batchPipeliningLimit the batch pipelining limit to set
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MySQLConnectOptions setBatchPipeliningLimit(int batchPipeliningLimit) {
+    if (batchPipeliningLimit < 1) {
+      throw new IllegalArgumentException("Batch pipelining limit must be positive");
+    }
+    this.batchPipeliningLimit = batchPipeliningLimit;
+    return this;
+  }
+
+  /**
+   * Get the maximum number of commands written to the server before waiting for their responses.
+   *
+   * @return the pipelining limit
+   */
+  public int getPipeliningLimit() {
+    return pipeliningLimit;
+  }
+
+  /**
+   * Set the maximum number of commands written to the server before waiting for their responses.
+   *
+   * <p>The server processes the commands of a connection in order, the client can write the commands queued on a
+   * connection ahead and correlate the responses in order. Commands requiring the client to write again after
+   * a response (e.g {@code LOAD DATA LOCAL INFILE}, change user) are still executed alone.
+   *
+   * <p>The default value {@code 1} waits for the response of each command before sending the next one.
+   *
+   * @param pipeliningLimit the pipelining limit to set
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MySQLConnectOptions setPipeliningLimit(int pipeliningLimit) {
+    if (pipeliningLimit < 1) {
+      throw new IllegalArgumentException("Pipelining limit must be positive");
+    }
+    this.pipeliningLimit = pipeliningLimit;
+    return this;
+  }
+
   /**
    * Get the value of the configured SSL mode.
    *
@@ -325,6 +423,11 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     return (MySQLConnectOptions) super.setPreparedStatementCacheMaxSize(preparedStatementCacheMaxSize);
   }
 
+  @Override
+  public MySQLConnectOptions setPreparedStatementCachePolicy(PreparedStatementCachePolicy preparedStatementCachePolicy) {
+    return (MySQLConnectOptions) super.setPreparedStatementCachePolicy(preparedStatementCachePolicy);
+  }
+
   @GenIgnore
   @Override
   public MySQLConnectOptions setPreparedStatementCacheSqlFilter(Predicate<String> predicate) {
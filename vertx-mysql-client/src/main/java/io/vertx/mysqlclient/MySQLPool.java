@@ -18,6 +18,7 @@ import io.vertx.core.impl.VertxInternal;
 import io.vertx.mysqlclient.impl.MySQLPoolImpl;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlClient;
 
 import static io.vertx.mysqlclient.MySQLConnectOptions.fromUri;
 
@@ -71,14 +72,70 @@ public interface MySQLPool extends Pool {
       vertxOptions.setPreferNativeTransport(true);
     }
     VertxInternal vertx = (VertxInternal) Vertx.vertx(vertxOptions);
-    return MySQLPoolImpl.create(vertx, true, connectOptions, poolOptions);
+    return MySQLPoolImpl.create(vertx, true, false, connectOptions, poolOptions);
   }
 
   /**
    * Like {@link #pool(MySQLConnectOptions, PoolOptions)} with a specific {@link Vertx} instance.
    */
   static MySQLPool pool(Vertx vertx, MySQLConnectOptions connectOptions, PoolOptions poolOptions) {
-    return MySQLPoolImpl.create((VertxInternal) vertx, false, connectOptions, poolOptions);
+    return MySQLPoolImpl.create((VertxInternal) vertx, false, false, connectOptions, poolOptions);
+  }
+
+  /**
+   * Like {@link #client(String, PoolOptions)} with a default {@code poolOptions}.
+   */
+  static SqlClient client(String connectionUri) {
+    return client(connectionUri, new PoolOptions());
+  }
+
+  /**
+   * Like {@link #client(MySQLConnectOptions, PoolOptions)} with {@code connectOptions} built from {@code connectionUri}.
+   */
+  static SqlClient client(String connectionUri, PoolOptions poolOptions) {
+    return client(fromUri(connectionUri), poolOptions);
+  }
+
+  /**
+   * Like {@link #client(Vertx, String, PoolOptions)} with a default {@code poolOptions}.
+   */
+  static SqlClient client(Vertx vertx, String connectionUri) {
+    return client(vertx, fromUri(connectionUri), new PoolOptions());
+  }
+
+  /**
+   * Like {@link #client(Vertx, MySQLConnectOptions, PoolOptions)} with {@code connectOptions} built from {@code connectionUri}.
+   */
+  static SqlClient client(Vertx vertx, String connectionUri, PoolOptions poolOptions) {
+    return client(vertx, fromUri(connectionUri), poolOptions);
+  }
+
+  /**
+   * Create a client backed by a connection pool to the MySQL server configured with the given {@code connectOptions} and {@code poolOptions}.
+   *
+   * <p>The commands of the client are pipelined on the pooled connections up to {@link MySQLConnectOptions#getPipeliningLimit()}.
+   *
+   * @param connectOptions the options for the connection
+   * @param poolOptions the options for creating the backing pool
+   * @return the client
+   */
+  static SqlClient client(MySQLConnectOptions connectOptions, PoolOptions poolOptions) {
+    if (Vertx.currentContext() != null) {
+      throw new IllegalStateException("Running in a Vertx context => use MySQLPool#client(Vertx, MySQLConnectOptions, PoolOptions) instead");
+    }
+    VertxOptions vertxOptions = new VertxOptions();
+    if (connectOptions.isUsingDomainSocket()) {
+      vertxOptions.setPreferNativeTransport(true);
+    }
+    VertxInternal vertx = (VertxInternal) Vertx.vertx(vertxOptions);
+    return MySQLPoolImpl.create(vertx, true, true, connectOptions, poolOptions);
+  }
+
+  /**
+   * Like {@link #client(MySQLConnectOptions, PoolOptions)} with a specific {@link Vertx} instance.
+   */
+  static SqlClient client(Vertx vertx, MySQLConnectOptions connectOptions, PoolOptions poolOptions) {
+    return MySQLPoolImpl.create((VertxInternal) vertx, false, true, connectOptions, poolOptions);
   }
 
 }
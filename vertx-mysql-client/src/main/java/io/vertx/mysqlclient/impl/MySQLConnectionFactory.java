@@ -37,10 +37,13 @@ public class MySQLConnectionFactory extends SqlConnectionFactoryBase implements
   private MySQLCollation collation;
   private Charset charsetEncoding;
   private boolean useAffectedRows;
+  private boolean useCompression;
   private SslMode sslMode;
   private Buffer serverRsaPublicKey;
   private int initialCapabilitiesFlags;
   private MySQLAuthenticationPlugin authenticationPlugin;
+  private int batchPipeliningLimit;
+  private int pipeliningLimit;
 
   public MySQLConnectionFactory(VertxInternal vertx, MySQLConnectOptions options) {
     super(vertx, options);
@@ -73,8 +76,11 @@ public class MySQLConnectionFactory extends SqlConnectionFactoryBase implements
     }
     this.collation = collation;
     this.useAffectedRows = options.isUseAffectedRows();
+    this.useCompression = options.isUseCompression();
     this.sslMode = options.isUsingDomainSocket() ? SslMode.DISABLED : options.getSslMode();
     this.authenticationPlugin = options.getAuthenticationPlugin();
+    this.batchPipeliningLimit = options.getBatchPipeliningLimit();
+    this.pipeliningLimit = options.getPipeliningLimit();
 
     // server RSA public key
     Buffer serverRsaPublicKey = null;
@@ -117,7 +123,7 @@ public class MySQLConnectionFactory extends SqlConnectionFactoryBase implements
     fut.onComplete(ar -> {
       if (ar.succeeded()) {
         NetSocket so = ar.result();
-        MySQLSocketConnection conn = new MySQLSocketConnection((NetSocketInternal) so, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, context);
+        MySQLSocketConnection conn = new MySQLSocketConnection((NetSocketInternal) so, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCachePolicy, preparedStatementCacheMetrics, preparedStatementCacheSqlFilter, pipeliningLimit, batchPipeliningLimit, context);
         conn.init();
         conn.sendStartupMessage(username, password, database, collation, serverRsaPublicKey, properties, sslMode, initialCapabilitiesFlags, charsetEncoding, authenticationPlugin, promise);
       } else {
@@ -137,6 +143,9 @@ public class MySQLConnectionFactory extends SqlConnectionFactoryBase implements
     if (!useAffectedRows) {
       capabilitiesFlags |= CLIENT_FOUND_ROWS;
     }
+    if (useCompression) {
+      capabilitiesFlags |= CLIENT_COMPRESS;
+    }
 
     return capabilitiesFlags;
   }
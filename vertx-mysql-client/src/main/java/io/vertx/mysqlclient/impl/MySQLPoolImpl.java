@@ -26,11 +26,12 @@ import io.vertx.sqlclient.impl.tracing.QueryTracer;
 
 public class MySQLPoolImpl extends PoolBase<MySQLPoolImpl> implements MySQLPool {
 
-  public static MySQLPoolImpl create(VertxInternal vertx, boolean closeVertx, MySQLConnectOptions connectOptions, PoolOptions poolOptions) {
+  public static MySQLPoolImpl create(VertxInternal vertx, boolean closeVertx, boolean pipelined, MySQLConnectOptions connectOptions, PoolOptions poolOptions) {
     QueryTracer tracer = vertx.tracer() == null ? null : new QueryTracer(vertx.tracer(), connectOptions);
     VertxMetrics vertxMetrics = vertx.metricsSPI();
     ClientMetrics metrics = vertxMetrics != null ? vertxMetrics.createClientMetrics(connectOptions.getSocketAddress(), "sql", connectOptions.getMetricsName()) : null;
-    MySQLPoolImpl pool = new MySQLPoolImpl(vertx, new MySQLConnectionFactory(vertx, connectOptions), tracer, metrics, poolOptions);
+    int pipeliningLimit = pipelined ? connectOptions.getPipeliningLimit() : 1;
+    MySQLPoolImpl pool = new MySQLPoolImpl(vertx, new MySQLConnectionFactory(vertx, connectOptions), tracer, metrics, pipeliningLimit, poolOptions);
     pool.init();
     CloseFuture closeFuture = pool.closeFuture();
     if (closeVertx) {
@@ -48,8 +49,8 @@ public class MySQLPoolImpl extends PoolBase<MySQLPoolImpl> implements MySQLPool
 
   private final MySQLConnectionFactory factory;
 
-  private MySQLPoolImpl(VertxInternal vertx, MySQLConnectionFactory factory, QueryTracer tracer, ClientMetrics metrics, PoolOptions poolOptions) {
-    super(vertx, factory, tracer, metrics, 1, poolOptions);
+  private MySQLPoolImpl(VertxInternal vertx, MySQLConnectionFactory factory, QueryTracer tracer, ClientMetrics metrics, int pipeliningLimit, PoolOptions poolOptions) {
+    super(vertx, factory, tracer, metrics, pipeliningLimit, poolOptions);
     this.factory = factory;
   }
 
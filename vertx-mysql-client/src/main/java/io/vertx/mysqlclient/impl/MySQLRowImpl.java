@@ -16,9 +16,10 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.mysqlclient.data.spatial.*;
 import io.vertx.mysqlclient.impl.datatype.DataType;
 import io.vertx.mysqlclient.impl.protocol.ColumnDefinition;
-import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.data.Numeric;
 import io.vertx.sqlclient.impl.ArrayTuple;
+import io.vertx.sqlclient.impl.RowDesc;
+import io.vertx.sqlclient.impl.RowInternal;
 import io.vertx.core.buffer.Buffer;
 
 import java.time.Duration;
@@ -31,7 +32,7 @@ import java.time.temporal.Temporal;
 import java.util.List;
 import java.util.UUID;
 
-public class MySQLRowImpl extends ArrayTuple implements Row {
+public class MySQLRowImpl extends ArrayTuple implements RowInternal {
 
   private final MySQLRowDesc rowDesc;
 
@@ -40,6 +41,11 @@ public class MySQLRowImpl extends ArrayTuple implements Row {
     this.rowDesc = rowDesc;
   }
 
+  @Override
+  public RowDesc desc() {
+    return rowDesc;
+  }
+
   @Override
   public <T> T get(Class<T> type, int position) {
     if (type == Boolean.class) {
@@ -106,7 +112,7 @@ public class MySQLRowImpl extends ArrayTuple implements Row {
     if (name == null) {
       throw new NullPointerException();
     }
-    return rowDesc.columnNames().indexOf(name);
+    return rowDesc.columnIndex(name);
   }
 
   @Override
@@ -26,11 +26,16 @@ import io.vertx.core.net.impl.NetSocketInternal;
 import io.vertx.mysqlclient.MySQLAuthenticationPlugin;
 import io.vertx.mysqlclient.SslMode;
 import io.vertx.mysqlclient.impl.codec.MySQLCodec;
+import io.vertx.mysqlclient.impl.codec.MySQLCompressionCodec;
+import io.vertx.mysqlclient.impl.command.ChangeUserCommand;
 import io.vertx.mysqlclient.impl.command.InitialHandshakeCommand;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
+import io.vertx.sqlclient.impl.cache.PreparedStatementCacheMetricsImpl;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.QueryResultHandler;
 import io.vertx.sqlclient.impl.SocketConnectionBase;
 import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
 import io.vertx.sqlclient.impl.command.QueryCommandBase;
 import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
 import io.vertx.sqlclient.impl.command.TxCommand;
@@ -39,21 +44,35 @@ import io.vertx.sqlclient.spi.DatabaseMetadata;
 import java.nio.charset.Charset;
 import java.util.Map;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public class MySQLSocketConnection extends SocketConnectionBase {
 
+  private static final Pattern LOCAL_INFILE = Pattern.compile("LOCAL\\s+INFILE", Pattern.CASE_INSENSITIVE);
+
   public MySQLDatabaseMetadata metaData;
+  private final int batchPipeliningLimit;
   private MySQLCodec codec;
+  private boolean compressionEnabled;
 
   public MySQLSocketConnection(NetSocketInternal socket,
                                boolean cachePreparedStatements,
                                int preparedStatementCacheSize,
+                               PreparedStatementCachePolicy preparedStatementCachePolicy,
+                               PreparedStatementCacheMetricsImpl preparedStatementCacheMetrics,
                                Predicate<String> preparedStatementCacheSqlFilter,
+                               int pipeliningLimit,
+                               int batchPipeliningLimit,
                                EventLoopContext context) {
-    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, 1, context);
+    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCachePolicy, preparedStatementCacheMetrics, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+    this.batchPipeliningLimit = batchPipeliningLimit;
+  }
+
+  public int batchPipeliningLimit() {
+    return batchPipeliningLimit;
   }
 
   void sendStartupMessage(String username,
@@ -95,6 +114,35 @@ public class MySQLSocketConnection extends SocketConnectionBase {
     }
   }
 
+  @Override
+  protected boolean isExclusive(CommandBase<?> cmd) {
+    if (cmd instanceof ExtendedQueryCommand) {
+      ExtendedQueryCommand<?> queryCmd = (ExtendedQueryCommand<?>) cmd;
+      if (queryCmd.fetch() > 0) {
+        // the cursor fetch is written when the server responds to the execution opening the cursor
+        return true;
+      }
+      // the executions past the batch pipelining window are written when the server responds
+      return queryCmd.isBatch() && queryCmd.paramsList().size() > batchPipeliningLimit;
+    } else if (cmd instanceof SimpleQueryCommand) {
+      // the server requests the file content in the response
+      return LOCAL_INFILE.matcher(((SimpleQueryCommand<?>) cmd).sql()).find();
+    } else {
+      // the authentication exchange writes again after the server response
+      return cmd instanceof InitialHandshakeCommand || cmd instanceof ChangeUserCommand;
+    }
+  }
+
+  public void enableCompression() {
+    ChannelPipeline pipeline = socket.channelHandlerContext().pipeline();
+    pipeline.addBefore("codec", "compression", new MySQLCompressionCodec());
+    compressionEnabled = true;
+  }
+
+  public boolean isCompressionEnabled() {
+    return compressionEnabled;
+  }
+
   public void upgradeToSsl(Handler<AsyncResult<Void>> completionHandler) {
     socket.upgradeToSsl(completionHandler);
   }
@@ -22,6 +22,7 @@ import io.vertx.mysqlclient.MySQLException;
 import io.vertx.mysqlclient.impl.protocol.CapabilitiesFlag;
 import io.vertx.mysqlclient.impl.datatype.DataType;
 import io.vertx.mysqlclient.impl.protocol.ColumnDefinition;
+import io.vertx.mysqlclient.impl.protocol.CommandType;
 import io.vertx.mysqlclient.impl.util.BufferUtils;
 import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.sqlclient.impl.command.CommandResponse;
@@ -78,21 +79,21 @@ abstract class CommandCodec<R, C extends CommandBase<R>> {
       ByteBuf packetHeader = allocateBuffer(4);
       packetHeader.writeMediumLE(PACKET_PAYLOAD_LENGTH_LIMIT);
       packetHeader.writeByte(sequenceId++);
-      encoder.chctx.write(packetHeader, encoder.chctx.voidPromise());
-      encoder.chctx.write(payload.readRetainedSlice(PACKET_PAYLOAD_LENGTH_LIMIT), encoder.chctx.voidPromise());
+      encoder.write(packetHeader);
+      encoder.write(payload.readRetainedSlice(PACKET_PAYLOAD_LENGTH_LIMIT));
     }
 
     // send a packet with last part of the payload
     ByteBuf packetHeader = allocateBuffer(4);
     packetHeader.writeMediumLE(payload.readableBytes());
     packetHeader.writeByte(sequenceId++);
-    encoder.chctx.write(packetHeader, encoder.chctx.voidPromise());
-    encoder.chctx.writeAndFlush(payload, encoder.chctx.voidPromise());
+    encoder.write(packetHeader);
+    encoder.write(payload);
   }
 
   void sendNonSplitPacket(ByteBuf packet) {
     sequenceId++;
-    encoder.chctx.writeAndFlush(packet, encoder.chctx.voidPromise());
+    encoder.write(packet);
   }
 
   final void sendBytesAsPacket(byte[] payload) {
@@ -122,13 +123,17 @@ abstract class CommandCodec<R, C extends CommandBase<R>> {
   }
 
   void handleErrorPacketPayload(ByteBuf payload) {
+    completionHandler.handle(CommandResponse.failure(decodeErrorPacketPayload(payload)));
+  }
+
+  MySQLException decodeErrorPacketPayload(ByteBuf payload) {
     payload.skipBytes(1); // skip ERR packet header
     int errorCode = payload.readUnsignedShortLE();
     // CLIENT_PROTOCOL_41 capability flag will always be set
     payload.skipBytes(1); // SQL state marker will always be #
     String sqlState = BufferUtils.readFixedLengthString(payload, 5, StandardCharsets.UTF_8);
     String errorMessage = readRestOfPacketString(payload, StandardCharsets.UTF_8);
-    completionHandler.handle(CommandResponse.failure(new MySQLException(errorMessage, errorCode, sqlState)));
+    return new MySQLException(errorMessage, errorCode, sqlState);
   }
 
   // simplify the ok packet as those properties are actually not used for now
@@ -181,6 +186,68 @@ abstract class CommandCodec<R, C extends CommandBase<R>> {
     return new ColumnDefinition(catalog, schema, table, orgTable, name, orgName, characterSet, columnLength, type, flags, decimals);
   }
 
+  /**
+   * Skip a column definition packet payload without decoding it when it is the same as the {@code known}
+   * column definition, otherwise the reader index is left unchanged so the payload can be decoded.
+   *
+   * @return whether the payload has been skipped
+   */
+  boolean skipColumnDefinitionPacketPayload(ByteBuf payload, ColumnDefinition known) {
+    int start = payload.readerIndex();
+    if (skipLengthEncodedString(payload, known.catalog())
+      && skipLengthEncodedString(payload, known.schema())
+      && skipLengthEncodedString(payload, known.table())
+      && skipLengthEncodedString(payload, known.orgTable())
+      && skipLengthEncodedString(payload, known.name())
+      && skipLengthEncodedString(payload, known.orgName())) {
+      BufferUtils.readLengthEncodedInteger(payload); // length of fixed length fields
+      int characterSet = payload.readUnsignedShortLE();
+      long columnLength = payload.readUnsignedIntLE();
+      int type = payload.readUnsignedByte();
+      int flags = payload.readUnsignedShortLE();
+      byte decimals = payload.readByte();
+      if (characterSet == known.characterSet() && columnLength == known.columnLength() && type == known.type().id
+        && flags == known.flags() && decimals == known.decimals()) {
+        return true;
+      }
+    }
+    payload.readerIndex(start);
+    return false;
+  }
+
+  /**
+   * Skip a length encoded string when it is equal to the {@code expected} ASCII string.
+   */
+  private static boolean skipLengthEncodedString(ByteBuf payload, String expected) {
+    int length = (int) BufferUtils.readLengthEncodedInteger(payload);
+    if (length != expected.length()) {
+      return false;
+    }
+    int index = payload.readerIndex();
+    for (int i = 0; i < length; i++) {
+      char c = expected.charAt(i);
+      // non ASCII strings are decoded
+      if (c > 0x7F || payload.getByte(index + i) != c) {
+        return false;
+      }
+    }
+    payload.skipBytes(length);
+    return true;
+  }
+
+  void sendCloseStatementCommand(long statementId) {
+    ByteBuf packet = allocateBuffer(9);
+    // encode packet header
+    packet.writeMediumLE(5);
+    packet.writeByte(0); // sequenceId set to zero
+
+    // encode packet payload
+    packet.writeByte(CommandType.COM_STMT_CLOSE);
+    packet.writeIntLE((int) statementId);
+
+    sendNonSplitPacket(packet);
+  }
+
   void skipEofPacketIfNeeded(ByteBuf payload) {
     if (!isDeprecatingEofFlagEnabled()) {
       payload.skipBytes(5);
@@ -190,4 +257,8 @@ abstract class CommandCodec<R, C extends CommandBase<R>> {
   boolean isDeprecatingEofFlagEnabled() {
     return (encoder.clientCapabilitiesFlag & CapabilitiesFlag.CLIENT_DEPRECATE_EOF) != 0;
   }
+
+  boolean isOptionalResultsetMetadataFlagEnabled() {
+    return (encoder.clientCapabilitiesFlag & CapabilitiesFlag.CLIENT_OPTIONAL_RESULTSET_METADATA) != 0;
+  }
 }
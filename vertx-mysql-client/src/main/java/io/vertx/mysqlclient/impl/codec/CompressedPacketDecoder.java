@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mysqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.DecoderException;
+
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+class CompressedPacketDecoder extends ByteToMessageDecoder {
+
+  static final int COMPRESSED_PACKET_HEADER_LENGTH = 7;
+
+  private final Inflater inflater = new Inflater();
+
+  // the compressed sequence id of the next packet sent in the current command phase
+  int sequenceId;
+
+  @Override
+  protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+    if (in.readableBytes() >= COMPRESSED_PACKET_HEADER_LENGTH) {
+      int packetStartIdx = in.readerIndex();
+      int compressedLength = in.getUnsignedMediumLE(packetStartIdx);
+      if (in.readableBytes() >= COMPRESSED_PACKET_HEADER_LENGTH + compressedLength) {
+        sequenceId = in.getUnsignedByte(packetStartIdx + 3) + 1;
+        int uncompressedLength = in.getUnsignedMediumLE(packetStartIdx + 4);
+        in.skipBytes(COMPRESSED_PACKET_HEADER_LENGTH);
+        if (uncompressedLength == 0) {
+          out.add(in.readRetainedSlice(compressedLength));
+        } else {
+          out.add(inflate(in.readSlice(compressedLength), uncompressedLength));
+        }
+      }
+    }
+  }
+
+  private ByteBuf inflate(ByteBuf compressed, int uncompressedLength) {
+    inflater.reset();
+    inflater.setInput(ByteBufUtil.getBytes(compressed));
+    byte[] output = new byte[uncompressedLength];
+    int length = 0;
+    try {
+      while (length < uncompressedLength && !inflater.finished()) {
+        int inflated = inflater.inflate(output, length, uncompressedLength - length);
+        if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+        length += inflated;
+      }
+    } catch (DataFormatException e) {
+      throw new DecoderException(e);
+    }
+    if (length != uncompressedLength) {
+      throw new DecoderException("Invalid compressed packet, expected " + uncompressedLength + " bytes but inflated " + length + " bytes");
+    }
+    return Unpooled.wrappedBuffer(output);
+  }
+
+  @Override
+  protected void handlerRemoved0(ChannelHandlerContext ctx) {
+    inflater.end();
+  }
+}
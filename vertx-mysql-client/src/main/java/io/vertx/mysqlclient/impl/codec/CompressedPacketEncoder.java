@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mysqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import static io.vertx.mysqlclient.impl.codec.CompressedPacketDecoder.COMPRESSED_PACKET_HEADER_LENGTH;
+import static io.vertx.mysqlclient.impl.protocol.Packets.PACKET_PAYLOAD_LENGTH_LIMIT;
+
+/**
+ * Aggregates the MySQL packets written until the next flush and sends them in compressed packets,
+ * small payloads and payloads that do not shrink are sent uncompressed.
+ */
+class CompressedPacketEncoder extends ChannelOutboundHandlerAdapter {
+
+  // compressing smaller payloads costs more than it saves
+  private static final int MIN_COMPRESS_LENGTH = 50;
+
+  private final CompressedPacketDecoder decoder;
+  private final Deflater deflater = new Deflater();
+  private final List<ChannelPromise> promises = new ArrayList<>();
+  private CompositeByteBuf pending;
+
+  CompressedPacketEncoder(CompressedPacketDecoder decoder) {
+    this.decoder = decoder;
+  }
+
+  @Override
+  public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+    if (msg instanceof ByteBuf) {
+      if (pending == null) {
+        pending = ctx.alloc().compositeBuffer();
+      }
+      pending.addComponent(true, (ByteBuf) msg);
+      if (!promise.isVoid()) {
+        promises.add(promise);
+      }
+    } else {
+      ctx.write(msg, promise);
+    }
+  }
+
+  @Override
+  public void flush(ChannelHandlerContext ctx) {
+    if (pending != null) {
+      ByteBuf payload = pending;
+      pending = null;
+      try {
+        writeCompressedPackets(ctx, payload);
+      } finally {
+        payload.release();
+      }
+    }
+    ctx.flush();
+  }
+
+  private void writeCompressedPackets(ChannelHandlerContext ctx, ByteBuf payload) {
+    // a packet with sequence id 0 starts a new command which resets the compressed sequence id
+    int sequenceId = payload.getUnsignedByte(payload.readerIndex() + 3) == 0 ? 0 : decoder.sequenceId;
+    while (payload.isReadable()) {
+      int length = Math.min(payload.readableBytes(), PACKET_PAYLOAD_LENGTH_LIMIT);
+      ByteBuf chunk = payload.readSlice(length);
+      ByteBuf compressed = length < MIN_COMPRESS_LENGTH ? null : deflate(chunk, length);
+      ByteBuf header = ctx.alloc().ioBuffer(COMPRESSED_PACKET_HEADER_LENGTH);
+      if (compressed == null) {
+        header.writeMediumLE(length);
+        header.writeByte(sequenceId++);
+        header.writeMediumLE(0);
+        compressed = chunk.retain();
+      } else {
+        header.writeMediumLE(compressed.readableBytes());
+        header.writeByte(sequenceId++);
+        header.writeMediumLE(length);
+      }
+      ctx.write(header, ctx.voidPromise());
+      if (payload.isReadable() || promises.isEmpty()) {
+        ctx.write(compressed, ctx.voidPromise());
+      } else {
+        List<ChannelPromise> toNotify = new ArrayList<>(promises);
+        promises.clear();
+        ctx.write(compressed).addListener(future -> {
+          for (ChannelPromise promise : toNotify) {
+            if (future.isSuccess()) {
+              promise.trySuccess();
+            } else {
+              promise.tryFailure(future.cause());
+            }
+          }
+        });
+      }
+    }
+    decoder.sequenceId = sequenceId;
+  }
+
+  private ByteBuf deflate(ByteBuf chunk, int length) {
+    deflater.reset();
+    deflater.setInput(ByteBufUtil.getBytes(chunk));
+    deflater.finish();
+    byte[] output = new byte[length];
+    int compressedLength = 0;
+    while (!deflater.finished() && compressedLength < length) {
+      compressedLength += deflater.deflate(output, compressedLength, length - compressedLength);
+    }
+    if (!deflater.finished() || compressedLength >= length) {
+      // the payload does not shrink
+      return null;
+    }
+    return Unpooled.wrappedBuffer(output, 0, compressedLength);
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext ctx) {
+    if (pending != null) {
+      pending.release();
+      pending = null;
+    }
+    deflater.end();
+  }
+}
@@ -12,9 +12,11 @@
 package io.vertx.mysqlclient.impl.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.vertx.mysqlclient.MySQLException;
 import io.vertx.mysqlclient.impl.datatype.DataType;
 import io.vertx.mysqlclient.impl.datatype.DataTypeCodec;
 import io.vertx.mysqlclient.impl.protocol.CommandType;
+import io.vertx.mysqlclient.impl.protocol.Packets.ServerStatusFlags;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
@@ -26,7 +28,10 @@ import static io.vertx.mysqlclient.impl.protocol.Packets.EnumCursorType.CURSOR_T
 class ExtendedBatchQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, ExtendedQueryCommand<R>> {
 
   private List<Tuple> params;
-  private int batchIdx = 0;
+  // number of executions written to the server
+  private int sent = 0;
+  // number of executions the server responded to
+  private int received = 0;
 
   ExtendedBatchQueryCommandCodec(ExtendedQueryCommand<R> cmd) {
     super(cmd);
@@ -40,32 +45,63 @@ class ExtendedBatchQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R,
       completionHandler.handle(CommandResponse.failure("Statement parameter is not set because of the empty batch param list"));
       return;
     }
+    // binding parameters
+    for (Tuple param : params) {
+      String bindMsg = statement.bindParameters(param);
+      if (bindMsg != null) {
+        completionHandler.handle(CommandResponse.failure(bindMsg));
+        return;
+      }
+    }
     doExecuteBatch();
   }
 
   @Override
   protected void handleSingleResultsetDecodingCompleted(int serverStatusFlags, long affectedRows, long lastInsertId) {
+    if ((serverStatusFlags & ServerStatusFlags.SERVER_MORE_RESULTS_EXISTS) == 0) {
+      received++;
+    }
     super.handleSingleResultsetDecodingCompleted(serverStatusFlags, affectedRows, lastInsertId);
-    doExecuteBatch();
+    if (failure != null) {
+      completeFailedBatchIfDrained();
+    } else {
+      doExecuteBatch();
+    }
   }
 
   @Override
   protected boolean isDecodingCompleted(int serverStatusFlags) {
-    return super.isDecodingCompleted(serverStatusFlags) && batchIdx == params.size();
+    return super.isDecodingCompleted(serverStatusFlags) && received == params.size() && failure == null;
+  }
+
+  @Override
+  void handleErrorPacketPayload(ByteBuf payload) {
+    // the executions already written will still be responded, stop sending and drain them before failing
+    MySQLException error = decodeErrorPacketPayload(payload);
+    if (failure == null) {
+      failure = error;
+    }
+    if (decoder != null) {
+      decoder.reset();
+    }
+    resetIntermediaryResult();
+    received++;
+    completeFailedBatchIfDrained();
+  }
+
+  private void completeFailedBatchIfDrained() {
+    if (received == sent) {
+      completionHandler.handle(CommandResponse.failure(failure));
+    }
   }
 
   private void doExecuteBatch() {
-    if (batchIdx < params.size()) {
+    // write the executions back-to-back, the server responds to them in order
+    int limit = encoder.socketConnection.batchPipeliningLimit();
+    while (sent < params.size() && sent - received < limit) {
       sequenceId = 0;
-      Tuple param = params.get(batchIdx);
-      // binding parameters
-      String bindMsg = statement.bindParameters(param);
-      if (bindMsg != null) {
-        completionHandler.handle(CommandResponse.failure(bindMsg));
-        return;
-      }
-      sendBatchStatementExecuteCommand(statement, param);
-      batchIdx++;
+      sendBatchStatementExecuteCommand(statement, params.get(sent));
+      sent++;
     }
   }
 
@@ -12,8 +12,8 @@
 package io.vertx.mysqlclient.impl.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.vertx.mysqlclient.impl.MySQLRowDesc;
 import io.vertx.mysqlclient.impl.datatype.DataFormat;
-import io.vertx.mysqlclient.impl.protocol.CommandType;
 import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
 
 import static io.vertx.mysqlclient.impl.protocol.Packets.*;
@@ -41,26 +41,18 @@ abstract class ExtendedQueryCommandBaseCodec<R, C extends ExtendedQueryCommand<R
     }
   }
 
+  @Override
+  protected MySQLRowDesc knownRowDesc() {
+    return statement.rowDesc;
+  }
+
   @Override
   protected void handleAllResultsetDecodingCompleted() {
     // Close prepare statement
     MySQLPreparedStatement ps = (MySQLPreparedStatement) this.cmd.ps;
     if (ps.closeAfterUsage) {
-      sendCloseStatementCommand(ps);
+      sendCloseStatementCommand(ps.statementId);
     }
     super.handleAllResultsetDecodingCompleted();
   }
-
-  private void sendCloseStatementCommand(MySQLPreparedStatement statement) {
-    ByteBuf packet = allocateBuffer(9);
-    // encode packet header
-    packet.writeMediumLE(5);
-    packet.writeByte(0); // sequenceId set to zero
-
-    // encode packet payload
-    packet.writeByte(CommandType.COM_STMT_CLOSE);
-    packet.writeIntLE((int) statement.statementId);
-
-    sendNonSplitPacket(packet);
-  }
 }
@@ -24,7 +24,7 @@ import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
 
-import static io.vertx.mysqlclient.impl.protocol.Packets.ERROR_PACKET_HEADER;
+import static io.vertx.mysqlclient.impl.protocol.Packets.*;
 import static io.vertx.mysqlclient.impl.protocol.Packets.EnumCursorType.CURSOR_TYPE_NO_CURSOR;
 import static io.vertx.mysqlclient.impl.protocol.Packets.EnumCursorType.CURSOR_TYPE_READ_ONLY;
 
@@ -33,7 +33,7 @@ class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, Exte
     super(cmd);
     if (cmd.fetch() > 0 && statement.isCursorOpen) {
       // restore the state we need for decoding fetch response
-      columnDefinitions = statement.rowDesc.columnDefinitions();
+      columnDefinitions = statement.cursorRowDesc.columnDefinitions();
     }
   }
 
@@ -42,7 +42,7 @@ class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, Exte
     super.encode(encoder);
 
     if (statement.isCursorOpen) {
-      decoder = new RowResultDecoder<>(cmd.collector(), statement.rowDesc);
+      decoder = new RowResultDecoder<>(cmd.collector(), statement.cursorRowDesc);
       sendStatementFetchCommand(statement.statementId, cmd.fetch());
     } else {
       Tuple params = cmd.params();
@@ -77,30 +77,26 @@ class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, Exte
       if (cmd.fetch() > 0) {
         switch (commandHandlerState) {
           case INIT:
-            int first = payload.getUnsignedByte(payload.readerIndex());
-            if (first == ERROR_PACKET_HEADER) {
-              handleErrorPacketPayload(payload);
-            } else {
-              handleResultsetColumnCountPacketBody(payload);
-            }
+            handleInitPacket(payload);
             break;
           case HANDLING_COLUMN_DEFINITION:
             handleResultsetColumnDefinitions(payload);
             break;
           case COLUMN_DEFINITIONS_DECODING_COMPLETED:
             // accept an EOF_Packet when DEPRECATE_EOF is not enabled
-            skipEofPacketIfNeeded(payload);
-            // do not need a break clause here
-          case HANDLING_ROW_DATA_OR_END_PACKET:
+            int serverStatusFlags = decodeEofPacketPayload(payload).serverStatusFlags();
             handleResultsetColumnDefinitionsDecodingCompleted();
-            // need to reset packet number so that we can send a fetch request
-            sequenceId = 0;
-            // send fetch after cursor opened
-            decoder = new RowResultDecoder<>(cmd.collector(), statement.rowDesc);
-
-            statement.isCursorOpen = true;
-
-            sendStatementFetchCommand(statement.statementId, cmd.fetch());
+            if ((serverStatusFlags & ServerStatusFlags.SERVER_STATUS_CURSOR_EXISTS) != 0) {
+              handleCursorOpened();
+            }
+            break;
+          case HANDLING_ROW_DATA_OR_END_PACKET:
+            if (isCursorOpenedPacket(payload, payloadLength)) {
+              handleCursorOpened();
+            } else {
+              // the server does not open a cursor for every statement, the rows are sent along the response
+              handleRows(payload, payloadLength);
+            }
             break;
           default:
             throw new IllegalStateException("Unexpected state for decoding COM_STMT_EXECUTE response with cursor opening");
@@ -111,6 +107,40 @@ class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, Exte
     }
   }
 
+  @Override
+  protected void handleSingleResultsetDecodingCompleted(int serverStatusFlags, long affectedRows, long lastInsertId) {
+    if (cmd.fetch() > 0 && !statement.isCursorOpen) {
+      // no cursor was opened, the whole result has been sent and there is nothing left to fetch
+      serverStatusFlags |= ServerStatusFlags.SERVER_STATUS_LAST_ROW_SENT;
+    }
+    super.handleSingleResultsetDecodingCompleted(serverStatusFlags, affectedRows, lastInsertId);
+  }
+
+  private boolean isCursorOpenedPacket(ByteBuf payload, int payloadLength) {
+    // an OK_Packet with a EOF_Packet header follows the column definitions when DEPRECATE_EOF is enabled
+    if (payload.getUnsignedByte(payload.readerIndex()) != EOF_PACKET_HEADER || payloadLength >= 0xFFFFFF) {
+      return false;
+    }
+    int readerIndex = payload.readerIndex();
+    int serverStatusFlags = decodeOkPacketPayload(payload).serverStatusFlags();
+    payload.readerIndex(readerIndex);
+    return (serverStatusFlags & ServerStatusFlags.SERVER_STATUS_CURSOR_EXISTS) != 0;
+  }
+
+  private void handleCursorOpened() {
+    statement.isCursorOpen = true;
+    if (decoder == null) {
+      // the rows can not be decoded, the statement reset will close the cursor
+      handleAllResultsetDecodingCompleted();
+      return;
+    }
+    // the fetch responses are decoded with the column definitions sent along the cursor opening
+    statement.cursorRowDesc = decoder.rowDesc;
+    // need to reset packet number so that we can send a fetch request
+    sequenceId = 0;
+    sendStatementFetchCommand(statement.statementId, cmd.fetch());
+  }
+
   private void sendStatementExecuteCommand(MySQLPreparedStatement statement, boolean sendTypesToServer, Tuple params, byte cursorType) {
     ByteBuf packet = allocateBuffer();
     // encode packet header
@@ -179,6 +209,6 @@ class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, Exte
     int lenOfPayload = packet.writerIndex() - packetStartIdx - 4;
     packet.setMediumLE(packetStartIdx, lenOfPayload);
 
-    encoder.chctx.writeAndFlush(packet, encoder.chctx.voidPromise());
+    encoder.write(packet);
   }
 }
@@ -142,10 +142,13 @@ class InitialHandshakeCommandCodec extends AuthenticationCommandBaseCodec<Connec
     if (upgradeToSsl) {
       encoder.clientCapabilitiesFlag |= CLIENT_SSL;
       sendSslRequest();
+      // the request must be sent in clear before the SSL handler is installed
+      encoder.flush();
 
       encoder.socketConnection.upgradeToSsl(upgrade -> {
         if (upgrade.succeeded()) {
           doSendHandshakeResponseMessage(serverAuthPluginName, cmd.authenticationPlugin(), authPluginData, serverCapabilitiesFlags);
+          encoder.flush();
         } else {
           completionHandler.handle(CommandResponse.failure(upgrade.cause()));
         }
@@ -167,6 +170,10 @@ class InitialHandshakeCommandCodec extends AuthenticationCommandBaseCodec<Connec
     switch (header) {
       case OK_PACKET_HEADER:
         status = ST_CONNECTED;
+        if ((encoder.clientCapabilitiesFlag & CLIENT_COMPRESS) != 0) {
+          // the packets following the authentication are compressed
+          encoder.socketConnection.enableCompression();
+        }
         completionHandler.handle(CommandResponse.success(cmd.connection()));
         break;
       case ERROR_PACKET_HEADER:
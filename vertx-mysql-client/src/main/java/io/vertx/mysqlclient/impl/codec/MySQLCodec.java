@@ -28,14 +28,24 @@ import java.util.Iterator;
 public class MySQLCodec extends CombinedChannelDuplexHandler<MySQLDecoder, MySQLEncoder> {
 
   ArrayDeque<CommandCodec<?, ?>> inflight;
+  private final MySQLEncoder encoder;
 
   public MySQLCodec(MySQLSocketConnection mySQLSocketConnection) {
     inflight = new ArrayDeque<>();
-    MySQLEncoder encoder = new MySQLEncoder(inflight, mySQLSocketConnection);
+    encoder = new MySQLEncoder(inflight, mySQLSocketConnection);
     MySQLDecoder decoder = new MySQLDecoder(inflight, mySQLSocketConnection);
     init(decoder, encoder);
   }
 
+  @Override
+  public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+    // flush at once the packets written while decoding the responses
+    if (encoder.isFlushNeeded()) {
+      encoder.flush();
+    }
+    super.channelReadComplete(ctx);
+  }
+
   @Override
   public void channelInactive(ChannelHandlerContext ctx) throws Exception {
     clearInflightCommands(ctx, "Fail to read any response from the server, the underlying connection might get lost unexpectedly.");
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mysqlclient.impl.codec;
+
+import io.netty.channel.CombinedChannelDuplexHandler;
+
+/**
+ * Frames the MySQL packets in zlib compressed packets once {@code CLIENT_COMPRESS} has been negotiated,
+ * the handler sits between the transport and the {@link MySQLCodec}.
+ *
+ * <p>A compressed packet has a 7 bytes header: the compressed payload length, the compressed sequence id and
+ * the uncompressed payload length, an uncompressed length of {@code 0} means the payload is sent as is.
+ */
+public class MySQLCompressionCodec extends CombinedChannelDuplexHandler<CompressedPacketDecoder, CompressedPacketEncoder> {
+
+  public MySQLCompressionCodec() {
+    CompressedPacketDecoder decoder = new CompressedPacketDecoder();
+    CompressedPacketEncoder encoder = new CompressedPacketEncoder(decoder);
+    init(decoder, encoder);
+  }
+}
@@ -11,6 +11,7 @@
 
 package io.vertx.mysqlclient.impl.codec;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
@@ -23,8 +24,13 @@ import java.util.ArrayDeque;
 
 class MySQLEncoder extends ChannelOutboundHandlerAdapter {
 
+  // packets up to this size are copied in the aggregated buffer instead of being written on their own
+  private static final int AGGREGATED_PACKET_SIZE_LIMIT = 1024;
+
   private final ArrayDeque<CommandCodec<?, ?>> inflight;
   ChannelHandlerContext chctx;
+  private ByteBuf out;
+  private boolean flushNeeded;
 
   int clientCapabilitiesFlag;
   Charset encodingCharset;
@@ -40,6 +46,19 @@ class MySQLEncoder extends ChannelOutboundHandlerAdapter {
     chctx = ctx;
   }
 
+  @Override
+  public void handlerRemoved(ChannelHandlerContext ctx) {
+    if (out != null) {
+      out.release();
+      out = null;
+    }
+  }
+
+  @Override
+  public void flush(ChannelHandlerContext ctx) {
+    flush();
+  }
+
   @Override
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
     if (msg instanceof CommandBase<?>) {
@@ -53,14 +72,51 @@ class MySQLEncoder extends ChannelOutboundHandlerAdapter {
   void write(CommandBase<?> cmd) {
     CommandCodec<?, ?> codec = wrap(cmd);
     codec.completionHandler = resp -> {
-      CommandCodec<?, ?> c = inflight.poll();
-      resp.cmd = (CommandBase) c.cmd;
+      // a command without response or failing to encode completes before the pipelined commands ahead of it
+      inflight.remove(codec);
+      resp.cmd = (CommandBase) codec.cmd;
       chctx.fireChannelRead(resp);
     };
     inflight.add(codec);
     codec.encode(this);
   }
 
+  /**
+   * Write a packet, the packet is sent on the next flush. The commands are flushed after being written and the packets
+   * written while decoding a response are flushed when the read completes, other writes must {@link #flush()} explicitly.
+   */
+  void write(ByteBuf packet) {
+    flushNeeded = true;
+    if (packet.readableBytes() <= AGGREGATED_PACKET_SIZE_LIMIT) {
+      if (out == null) {
+        out = chctx.alloc().ioBuffer();
+      }
+      out.writeBytes(packet);
+      packet.release();
+    } else {
+      writeAggregatedPackets();
+      chctx.write(packet, chctx.voidPromise());
+    }
+  }
+
+  void flush() {
+    flushNeeded = false;
+    writeAggregatedPackets();
+    chctx.flush();
+  }
+
+  boolean isFlushNeeded() {
+    return flushNeeded;
+  }
+
+  private void writeAggregatedPackets() {
+    if (out != null) {
+      ByteBuf buff = out;
+      out = null;
+      chctx.write(buff, chctx.voidPromise());
+    }
+  }
+
   private CommandCodec<?, ?> wrap(CommandBase<?> cmd) {
     if (cmd instanceof InitialHandshakeCommand) {
       return new InitialHandshakeCommandCodec((InitialHandshakeCommand) cmd);
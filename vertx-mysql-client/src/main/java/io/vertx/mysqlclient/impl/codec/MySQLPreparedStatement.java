@@ -38,6 +38,8 @@ class MySQLPreparedStatement implements PreparedStatement {
   private final DataType[] bindingTypes;
 
   boolean isCursorOpen;
+  // the row description of the opened cursor, it differs from rowDesc when the result types changed since the preparation
+  MySQLRowDesc cursorRowDesc;
 
   MySQLPreparedStatement(String sql, long statementId, MySQLParamDesc paramDesc, MySQLRowDesc rowDesc, boolean closeAfterUsage) {
     this.statementId = statementId;
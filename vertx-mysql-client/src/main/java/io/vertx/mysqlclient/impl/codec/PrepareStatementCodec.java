@@ -27,6 +27,7 @@ import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.sqlclient.impl.command.PrepareStatementCommand;
 
 import static io.vertx.mysqlclient.impl.protocol.Packets.ERROR_PACKET_HEADER;
+import static io.vertx.mysqlclient.impl.protocol.Packets.EnumResultsetMetadata.RESULTSET_METADATA_FULL;
 
 class PrepareStatementCodec extends CommandCodec<PreparedStatement, PrepareStatementCommand> {
 
@@ -60,13 +61,21 @@ class PrepareStatementCodec extends CommandCodec<PreparedStatement, PrepareState
           int numberOfParameters = payload.readUnsignedShortLE();
           payload.readByte(); // [00] filler
           int numberOfWarnings = payload.readShortLE();
+          boolean metadataFollows = !isOptionalResultsetMetadataFlagEnabled()
+            || !payload.isReadable()
+            || payload.readUnsignedByte() == RESULTSET_METADATA_FULL;
 
           // handle metadata here
           this.statementId = statementId;
           this.paramDescs = new ColumnDefinition[numberOfParameters];
           this.columnDescs = new ColumnDefinition[numberOfColumns];
 
-          if (numberOfParameters != 0) {
+          if (!metadataFollows && (numberOfParameters != 0 || numberOfColumns != 0)) {
+            // the statement can not be executed without its metadata
+            sendCloseStatementCommand(statementId);
+            resetIntermediaryResult();
+            completionHandler.handle(CommandResponse.failure("The server omitted the statement metadata, resultset_metadata must be FULL to prepare statements"));
+          } else if (numberOfParameters != 0) {
             processingIndex = 0;
             this.commandHandlerState = CommandHandlerState.HANDLING_PARAM_COLUMN_DEFINITION;
           } else if (numberOfColumns != 0) {
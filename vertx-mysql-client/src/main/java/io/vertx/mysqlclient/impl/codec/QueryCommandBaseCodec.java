@@ -39,6 +39,7 @@ abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends C
   protected CommandHandlerState commandHandlerState = CommandHandlerState.INIT;
   protected ColumnDefinition[] columnDefinitions;
   protected RowResultDecoder<?, T> decoder;
+  private MySQLRowDesc reusableRowDesc;
   private int currentColumn;
 
   QueryCommandBaseCodec(C cmd, DataFormat format) {
@@ -71,30 +72,72 @@ abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends C
 
   protected abstract void handleInitPacket(ByteBuf payload);
 
+  /**
+   * @return the row description known before the execution, e.g. the one of a prepared statement, or {@code null}
+   */
+  protected MySQLRowDesc knownRowDesc() {
+    return null;
+  }
+
   protected void handleResultsetColumnCountPacketBody(ByteBuf payload) {
+    // the server omits the column definitions when CLIENT_OPTIONAL_RESULTSET_METADATA is set and resultset_metadata is NONE
     int columnCount = decodeColumnCountPacketPayload(payload);
-    commandHandlerState = CommandHandlerState.HANDLING_COLUMN_DEFINITION;
+    boolean metadataFollows = !isOptionalResultsetMetadataFlagEnabled() || payload.readUnsignedByte() == EnumResultsetMetadata.RESULTSET_METADATA_FULL;
+    MySQLRowDesc knownRowDesc = knownRowDesc();
+    reusableRowDesc = knownRowDesc != null && knownRowDesc.columnDefinitions().length == columnCount ? knownRowDesc : null;
     columnDefinitions = new ColumnDefinition[columnCount];
+    if (metadataFollows) {
+      commandHandlerState = CommandHandlerState.HANDLING_COLUMN_DEFINITION;
+    } else {
+      if (reusableRowDesc == null) {
+        failure = new IllegalStateException("The server omitted the result set metadata, resultset_metadata must be FULL to decode the rows");
+        columnDefinitions = null;
+      }
+      handleColumnDefinitionsEnd();
+    }
   }
 
   protected void handleResultsetColumnDefinitions(ByteBuf payload) {
-    ColumnDefinition def = decodeColumnDefinitionPacketPayload(payload);
+    ColumnDefinition def;
+    if (reusableRowDesc != null && skipColumnDefinitionPacketPayload(payload, reusableRowDesc.columnDefinitions()[currentColumn])) {
+      // same column as the known one, avoid decoding it
+      def = reusableRowDesc.columnDefinitions()[currentColumn];
+    } else {
+      reusableRowDesc = null;
+      def = decodeColumnDefinitionPacketPayload(payload);
+    }
     columnDefinitions[currentColumn++] = def;
     if (currentColumn == columnDefinitions.length) {
       // all column definitions have been decoded, switch to column definitions decoding completed state
-      if (isDeprecatingEofFlagEnabled()) {
-        // we enabled the DEPRECATED_EOF flag and don't need to accept an EOF_Packet
-        handleResultsetColumnDefinitionsDecodingCompleted();
-      } else {
-        // we need to decode an EOF_Packet before handling rows, to be compatible with MySQL version below 5.7.5
-        commandHandlerState = CommandHandlerState.COLUMN_DEFINITIONS_DECODING_COMPLETED;
-      }
+      handleColumnDefinitionsEnd();
+    }
+  }
+
+  private void handleColumnDefinitionsEnd() {
+    if (isDeprecatingEofFlagEnabled()) {
+      // we enabled the DEPRECATED_EOF flag and don't need to accept an EOF_Packet
+      handleResultsetColumnDefinitionsDecodingCompleted();
+    } else {
+      // we need to decode an EOF_Packet before handling rows, to be compatible with MySQL version below 5.7.5
+      commandHandlerState = CommandHandlerState.COLUMN_DEFINITIONS_DECODING_COMPLETED;
     }
   }
 
   protected void handleResultsetColumnDefinitionsDecodingCompleted() {
     commandHandlerState = CommandHandlerState.HANDLING_ROW_DATA_OR_END_PACKET;
-    decoder = new RowResultDecoder<>(cmd.collector(), /*cmd.isSingleton()*/ new MySQLRowDesc(columnDefinitions, format));
+    MySQLRowDesc rowDesc;
+    if (reusableRowDesc != null) {
+      // every column definition matches the known row description
+      rowDesc = reusableRowDesc;
+      columnDefinitions = rowDesc.columnDefinitions();
+    } else if (columnDefinitions != null) {
+      rowDesc = new MySQLRowDesc(columnDefinitions, format);
+    } else {
+      // the rows can not be decoded and are skipped
+      decoder = null;
+      return;
+    }
+    decoder = new RowResultDecoder<>(cmd.collector(), /*cmd.isSingleton()*/ rowDesc);
   }
 
   protected void handleRows(ByteBuf payload, int payloadLength) {
@@ -122,7 +165,7 @@ abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends C
         serverStatusFlags = decodeEofPacketPayload(payload).serverStatusFlags();
       }
       handleSingleResultsetDecodingCompleted(serverStatusFlags, affectedRows, lastInsertId);
-    } else {
+    } else if (decoder != null) {
       // accept a row data
       decoder.handleRow(columnDefinitions.length, payload);
     }
@@ -178,9 +221,10 @@ abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends C
     return (int) columnCount;
   }
 
-  private void resetIntermediaryResult() {
+  void resetIntermediaryResult() {
     commandHandlerState = CommandHandlerState.INIT;
     columnDefinitions = null;
+    reusableRowDesc = null;
     currentColumn = 0;
   }
 
@@ -35,7 +35,7 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
 
   @Override
   protected Row decodeRow(int len, ByteBuf in) {
-    Row row = new MySQLRowImpl(rowDesc);
+    MySQLRowImpl row = new MySQLRowImpl(rowDesc);
     if (rowDesc.dataFormat() == DataFormat.BINARY) {
       // BINARY row decoding
       // 0x00 packet header
@@ -58,6 +58,9 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
           DataType dataType = columnDef.type();
           int collationId = rowDesc.columnDefinitions()[c].characterSet();
           int columnDefinitionFlags = columnDef.flags();
+          if (decodeBinaryPrimitive(row, dataType, columnDefinitionFlags, in)) {
+            continue;
+          }
           decoded = DataTypeCodec.decodeBinary(dataType, collationId, columnDefinitionFlags, in);
         }
         row.addValue(decoded);
@@ -79,5 +82,50 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
     }
     return row;
   }
-}
 
+  /**
+   * Add the value of a binary numeric column to the row without boxing it.
+   *
+   * @return {@code true} when the value has been read and added
+   */
+  private static boolean decodeBinaryPrimitive(MySQLRowImpl row, DataType dataType, int columnDefinitionFlags, ByteBuf in) {
+    boolean unsigned = (columnDefinitionFlags & ColumnDefinition.ColumnDefinitionFlags.UNSIGNED_FLAG) != 0;
+    switch (dataType) {
+      case YEAR:
+        row.addShortValue(in.readShortLE());
+        return true;
+      case INT2:
+        if (unsigned) {
+          row.addIntValue(in.readUnsignedShortLE());
+        } else {
+          row.addShortValue(in.readShortLE());
+        }
+        return true;
+      case INT3:
+        row.addIntValue(unsigned ? in.readIntLE() & 0xFFFFFF : in.readIntLE());
+        return true;
+      case INT4:
+        if (unsigned) {
+          row.addLongValue(in.readUnsignedIntLE());
+        } else {
+          row.addIntValue(in.readIntLE());
+        }
+        return true;
+      case INT8:
+        if (unsigned) {
+          // decoded as a Numeric
+          return false;
+        }
+        row.addLongValue(in.readLongLE());
+        return true;
+      case FLOAT:
+        row.addFloatValue(in.readFloatLE());
+        return true;
+      case DOUBLE:
+        row.addDoubleValue(in.readDoubleLE());
+        return true;
+      default:
+        return false;
+    }
+  }
+}
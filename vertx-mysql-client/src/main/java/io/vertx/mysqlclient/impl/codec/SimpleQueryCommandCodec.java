@@ -18,6 +18,10 @@ package io.vertx.mysqlclient.impl.codec;
 
 import io.netty.buffer.ByteBuf;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.mysqlclient.impl.datatype.DataFormat;
 import io.vertx.mysqlclient.impl.protocol.CommandType;
 import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
@@ -32,6 +36,9 @@ import static io.vertx.mysqlclient.impl.protocol.Packets.*;
 
 class SimpleQueryCommandCodec<T> extends QueryCommandBaseCodec<T, SimpleQueryCommand<T>> {
 
+  // the LOCAL INFILE content is read by chunks of this size when the file can not be transferred with zero-copy
+  private static final int LOCAL_INFILE_CHUNK_SIZE = 64 * 1024;
+
   SimpleQueryCommandCodec(SimpleQueryCommand<T> cmd) {
     super(cmd, DataFormat.TEXT);
   }
@@ -79,6 +86,11 @@ class SimpleQueryCommandCodec<T> extends QueryCommandBaseCodec<T, SimpleQueryCom
   private void handleLocalInfile(ByteBuf payload) {
     payload.skipBytes(1);
     String filename = readRestOfPacketString(payload, StandardCharsets.UTF_8);
+    if (encoder.socketConnection.isCompressionEnabled()) {
+      // a zero-copy file transfer would bypass the compression codec
+      sendFileInChunks(filename);
+      return;
+    }
     /*
       We will try to use zero-copy file transfer in order to gain better performance.
       File content needs to be wrapped in MySQL packets so we calculate the length of the file and then send a pre-calculated packet header with the content.
@@ -116,14 +128,57 @@ class SimpleQueryCommandCodec<T> extends QueryCommandBaseCodec<T, SimpleQueryCom
     }
 
     // an empty packet needs to be sent after the whole file is sent in MySQL packets
-    cont.onComplete(v -> sendEmptyPacket());
+    cont.onComplete(v -> {
+      sendEmptyPacket();
+      encoder.flush();
+    });
+  }
+
+  private void sendFileInChunks(String filename) {
+    FileSystem fileSystem = encoder.socketConnection.context().owner().fileSystem();
+    fileSystem.open(filename, new OpenOptions().setRead(true).setWrite(false).setCreate(false), ar -> {
+      if (ar.succeeded()) {
+        sendFileChunk(ar.result(), 0);
+      } else {
+        sendEmptyPacket();
+        encoder.flush();
+      }
+    });
+  }
+
+  private void sendFileChunk(AsyncFile file, long position) {
+    // read the next chunk once the previous one is written, so a single chunk is held in memory
+    file.read(Buffer.buffer(LOCAL_INFILE_CHUNK_SIZE), 0, position, LOCAL_INFILE_CHUNK_SIZE, ar -> {
+      if (ar.failed() || ar.result().length() == 0) {
+        file.close();
+        // an empty packet needs to be sent after the whole file is sent in MySQL packets
+        sendEmptyPacket();
+        encoder.flush();
+        return;
+      }
+      Buffer chunk = ar.result();
+      ByteBuf packet = allocateBuffer(chunk.length() + 4);
+      packet.writeMediumLE(chunk.length());
+      packet.writeByte(sequenceId++);
+      packet.writeBytes(chunk.getByteBuf());
+      // the exclusive LOCAL INFILE exchange has no other packet pending in the encoder
+      encoder.chctx.writeAndFlush(packet).addListener(future -> {
+        if (future.isSuccess()) {
+          sendFileChunk(file, position + chunk.length());
+        } else {
+          file.close();
+        }
+      });
+    });
   }
 
   private Future<Void> sendFileInPacket(String filename, int offset, int length) {
     ByteBuf packetHeader = allocateBuffer(4);
     packetHeader.writeMediumLE(length);
     packetHeader.writeByte(sequenceId++);
-    encoder.chctx.write(packetHeader, encoder.chctx.voidPromise());
+    encoder.write(packetHeader);
+    // the header must be written before the file content
+    encoder.flush();
     return encoder.socketConnection.socket().sendFile(filename, offset, length);
   }
 
@@ -26,6 +26,7 @@ import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.data.Numeric;
 import io.vertx.sqlclient.impl.codec.CommonCodec;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -87,25 +88,25 @@ public class DataTypeCodec {
           }
         case INT8:
           if (isUnsignedNumeric(columnDefinitionFlags)) {
-            return textDecodeNUMERIC(collationId, buffer, index, length);
+            return textDecodeNUMERIC(buffer, index, length);
           } else {
             return textDecodeInt8(buffer, index, length);
           }
         case FLOAT:
-          return textDecodeFloat(collationId, buffer, index, length);
+          return textDecodeFloat(buffer, index, length);
         case DOUBLE:
-          return textDecodeDouble(collationId, buffer, index, length);
+          return textDecodeDouble(buffer, index, length);
         case BIT:
           return textDecodeBit(buffer, index, length);
         case NUMERIC:
-          return textDecodeNUMERIC(collationId, buffer, index, length);
+          return textDecodeNUMERIC(buffer, index, length);
         case DATE:
-          return textDecodeDate(collationId, buffer, index, length);
+          return textDecodeDate(buffer, index, length);
         case TIME:
-          return textDecodeTime(collationId, buffer, index, length);
+          return textDecodeTime(buffer, index, length);
         case DATETIME:
         case TIMESTAMP:
-          return textDecodeDateTime(collationId, buffer, index, length);
+          return textDecodeDateTime(buffer, index, length);
         case JSON:
           return textDecodeJson(collationId, buffer, index, length);
         case GEOMETRY:
@@ -234,7 +235,7 @@ public class DataTypeCodec {
       case BIT:
         return binaryDecodeBit(buffer);
       case NUMERIC:
-        return binaryDecodeNumeric(collationId, buffer);
+        return binaryDecodeNumeric(buffer);
       case DATE:
         return binaryDecodeDate(buffer);
       case TIME:
@@ -536,9 +537,11 @@ public class DataTypeCodec {
     return result;
   }
 
-  private static Numeric binaryDecodeNumeric(int collationId, ByteBuf buffer) {
-    Charset charset = MySQLCollation.getJavaCharsetByCollationId(collationId);
-    return Numeric.parse(BufferUtils.readLengthEncodedString(buffer, charset));
+  private static Numeric binaryDecodeNumeric(ByteBuf buffer) {
+    int length = (int) BufferUtils.readLengthEncodedInteger(buffer);
+    Numeric result = textDecodeNUMERIC(buffer, buffer.readerIndex(), length);
+    buffer.skipBytes(length);
+    return result;
   }
 
   private static Object binaryDecodeBlobOrText(int collationId, int columnDefinitionFlags, ByteBuf buffer) {
@@ -657,23 +660,52 @@ public class DataTypeCodec {
     return CommonCodec.decodeDecStringToLong(index, length, buffer);
   }
 
-  private static Float textDecodeFloat(int collationId, ByteBuf buffer, int index, int length) {
-    Charset charset = MySQLCollation.getJavaCharsetByCollationId(collationId);
-    return Float.parseFloat(buffer.toString(index, length, charset));
-  }
-
-  private static Double textDecodeDouble(int collationId, ByteBuf buffer, int index, int length) {
-    Charset charset = MySQLCollation.getJavaCharsetByCollationId(collationId);
-    return Double.parseDouble(buffer.toString(index, length, charset));
+  private static Float textDecodeFloat(ByteBuf buffer, int index, int length) {
+    // fast path when the decimal significand and the power of ten are exact floats, the division is correctly rounded
+    long significand = parseDecimalSignificand(buffer, index, length);
+    if (significand == 0) {
+      return buffer.getByte(index) == '-' ? -0.0f : 0.0f;
+    } else if (significand != Long.MIN_VALUE && Math.abs(significand) <= MAX_EXACT_FLOAT_SIGNIFICAND) {
+      int exponent = decimalExponent(buffer, index, length);
+      if (exponent >= 0 && exponent < FLOAT_POWERS_OF_TEN.length) {
+        return (float) significand * FLOAT_POWERS_OF_TEN[exponent];
+      } else if (exponent < 0 && -exponent < FLOAT_POWERS_OF_TEN.length) {
+        return (float) significand / FLOAT_POWERS_OF_TEN[-exponent];
+      }
+    }
+    return Float.parseFloat(buffer.toString(index, length, StandardCharsets.US_ASCII));
+  }
+
+  private static Double textDecodeDouble(ByteBuf buffer, int index, int length) {
+    // fast path when the decimal significand and the power of ten are exact doubles, the operation is correctly rounded
+    long significand = parseDecimalSignificand(buffer, index, length);
+    if (significand == 0) {
+      return buffer.getByte(index) == '-' ? -0.0d : 0.0d;
+    } else if (significand != Long.MIN_VALUE && Math.abs(significand) <= MAX_EXACT_DOUBLE_SIGNIFICAND) {
+      int exponent = decimalExponent(buffer, index, length);
+      if (exponent >= 0 && exponent < DOUBLE_POWERS_OF_TEN.length) {
+        return (double) significand * DOUBLE_POWERS_OF_TEN[exponent];
+      } else if (exponent < 0 && -exponent < DOUBLE_POWERS_OF_TEN.length) {
+        return (double) significand / DOUBLE_POWERS_OF_TEN[-exponent];
+      }
+    }
+    return Double.parseDouble(buffer.toString(index, length, StandardCharsets.US_ASCII));
   }
 
   private static Long textDecodeBit(ByteBuf buffer, int index, int length) {
     return decodeBit(buffer, index, length);
   }
 
-  private static Number textDecodeNUMERIC(int collationId, ByteBuf buff, int index, int length) {
-    Charset charset = MySQLCollation.getJavaCharsetByCollationId(collationId);
-    return Numeric.parse(buff.toString(index, length, charset));
+  private static Numeric textDecodeNUMERIC(ByteBuf buff, int index, int length) {
+    // DECIMAL values are plain decimal strings, the BigDecimal can be built from the unscaled long when it fits
+    long unscaled = parseDecimalSignificand(buff, index, length);
+    if (unscaled != Long.MIN_VALUE) {
+      int exponent = decimalExponent(buff, index, length);
+      if (exponent <= 0) {
+        return Numeric.create(BigDecimal.valueOf(unscaled, -exponent));
+      }
+    }
+    return Numeric.parse(buff.toString(index, length, StandardCharsets.US_ASCII));
   }
 
   private static Object textDecodeBlobOrText(int collationId, int columnDefinitionFlags,
@@ -696,53 +728,156 @@ public class DataTypeCodec {
     return buffer.toString(index, length, charset);
   }
 
-  private static LocalDate textDecodeDate(int collationId, ByteBuf buffer, int index, int length) {
-    Charset charset = MySQLCollation.getJavaCharsetByCollationId(collationId);
-    CharSequence cs = buffer.toString(index, length, charset);
-    if (cs.equals("0000-00-00")) {
-      // Invalid date will be converted to zero
-      return null;
+  private static LocalDate textDecodeDate(ByteBuf buffer, int index, int length) {
+    if (length == 10) {
+      int year = CommonCodec.decodeDigits(buffer, index, 4);
+      int month = CommonCodec.decodeDigits(buffer, index + 5, 2);
+      int day = CommonCodec.decodeDigits(buffer, index + 8, 2);
+      if (year >= 0 && month >= 0 && day >= 0 && buffer.getByte(index + 4) == '-' && buffer.getByte(index + 7) == '-') {
+        if (year == 0 && month == 0 && day == 0) {
+          // Invalid date will be converted to zero
+          return null;
+        }
+        return LocalDate.of(year, month, day);
+      }
     }
-    return LocalDate.parse(cs);
+    return LocalDate.parse(buffer.toString(index, length, StandardCharsets.US_ASCII));
   }
 
-  private static Duration textDecodeTime(int collationId, ByteBuf buffer, int index, int length) {
-    // HH:mm:ss or HHH:mm:ss
-    Charset charset = MySQLCollation.getJavaCharsetByCollationId(collationId);
-    String timeString = buffer.toString(index, length, charset);
-    boolean isNegative = timeString.charAt(0) == '-';
-    if (isNegative) {
-      timeString = timeString.substring(1);
-    }
-
-    String[] timeElements = timeString.split(":");
-    if (timeElements.length != 3) {
+  private static Duration textDecodeTime(ByteBuf buffer, int index, int length) {
+    // HH:mm:ss or HHH:mm:ss with an optional fractional part
+    int to = index + length;
+    boolean isNegative = length > 0 && buffer.getByte(index) == '-';
+    int hourIndex = isNegative ? index + 1 : index;
+    int minuteIndex = buffer.indexOf(hourIndex, to, (byte) ':') + 1;
+    if (minuteIndex <= hourIndex + 1 || minuteIndex + 5 > to || buffer.getByte(minuteIndex + 2) != ':') {
       throw new DecoderException("Invalid time format");
     }
-
-    int hour = Integer.parseInt(timeElements[0]);
-    int minute = Integer.parseInt(timeElements[1]);
-    int second = Integer.parseInt(timeElements[2].substring(0, 2));
-    long nanos = 0;
-    if (timeElements[2].length() > 2) {
-      double fractionalSecondsPart = Double.parseDouble("0." + timeElements[2].substring(3));
-      nanos = (long) (1000000000 * fractionalSecondsPart);
+    int hour = CommonCodec.decodeDigits(buffer, hourIndex, minuteIndex - 1 - hourIndex);
+    int minute = CommonCodec.decodeDigits(buffer, minuteIndex, 2);
+    int second = CommonCodec.decodeDigits(buffer, minuteIndex + 3, 2);
+    int nanos = parseFraction(buffer, minuteIndex + 5, to);
+    if (hour < 0 || minute < 0 || second < 0 || nanos < 0) {
+      throw new DecoderException("Invalid time format");
     }
+    long seconds = (hour * 60L + minute) * 60L + second;
     if (isNegative) {
-      return Duration.ofHours(-hour).minusMinutes(minute).minusSeconds(second).minusNanos(nanos);
+      return Duration.ofSeconds(-seconds, -nanos);
     } else {
-      return Duration.ofHours(hour).plusMinutes(minute).plusSeconds(second).plusNanos(nanos);
+      return Duration.ofSeconds(seconds, nanos);
     }
   }
 
-  private static LocalDateTime textDecodeDateTime(int collationId, ByteBuf buffer, int index, int length) {
-    Charset charset = MySQLCollation.getJavaCharsetByCollationId(collationId);
-    CharSequence cs = buffer.toString(index, length, charset);
-    if (cs.equals("0000-00-00 00:00:00")) {
-      // Invalid datetime will be converted to zero
-      return null;
+  private static LocalDateTime textDecodeDateTime(ByteBuf buffer, int index, int length) {
+    if (length >= 19 && buffer.getByte(index + 10) == ' ') {
+      LocalDate date = textDecodeDate(buffer, index, 10);
+      if (date == null) {
+        // Invalid datetime will be converted to zero
+        return null;
+      }
+      int hour = CommonCodec.decodeDigits(buffer, index + 11, 2);
+      int minute = CommonCodec.decodeDigits(buffer, index + 14, 2);
+      int second = CommonCodec.decodeDigits(buffer, index + 17, 2);
+      int nanos = parseFraction(buffer, index + 19, index + length);
+      if (hour >= 0 && minute >= 0 && second >= 0 && nanos >= 0
+        && buffer.getByte(index + 13) == ':' && buffer.getByte(index + 16) == ':') {
+        return LocalDateTime.of(date, LocalTime.of(hour, minute, second, nanos));
+      }
+    }
+    return LocalDateTime.parse(buffer.toString(index, length, StandardCharsets.US_ASCII), DATETIME_FORMAT);
+  }
+
+  /*
+   * Numeric and temporal values are ASCII in the text protocol whatever the collation of the column, they are parsed
+   * from the buffer bytes and the String based parsers are only used for the values the fast paths do not handle.
+   */
+
+  // the significands and the powers of ten exactly representable as float and double
+  private static final long MAX_EXACT_FLOAT_SIGNIFICAND = 1L << 24;
+  private static final long MAX_EXACT_DOUBLE_SIGNIFICAND = 1L << 53;
+  private static final float[] FLOAT_POWERS_OF_TEN = { 1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f };
+  private static final double[] DOUBLE_POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+    1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+  /**
+   * Parse the digits of a {@code [-]digits[.digits][e[+|-]digits]} decimal string as a long, the decimal point is ignored.
+   *
+   * @return the significand or {@code Long.MIN_VALUE} when the string has another format or more than 18 digits
+   */
+  private static long parseDecimalSignificand(ByteBuf buffer, int index, int length) {
+    int to = index + length;
+    int i = index;
+    boolean negative = length > 0 && buffer.getByte(i) == '-';
+    if (negative) {
+      i++;
+    }
+    long significand = 0;
+    int digits = 0;
+    boolean point = false;
+    for (;i < to;i++) {
+      byte b = buffer.getByte(i);
+      if (b >= '0' && b <= '9') {
+        if (++digits > 18) {
+          return Long.MIN_VALUE;
+        }
+        significand = significand * 10 + (b - '0');
+      } else if (b == '.' && !point) {
+        point = true;
+      } else if ((b == 'e' || b == 'E') && digits > 0) {
+        int exponentIndex = i + 1;
+        if (exponentIndex < to && (buffer.getByte(exponentIndex) == '+' || buffer.getByte(exponentIndex) == '-')) {
+          exponentIndex++;
+        }
+        if (to - exponentIndex < 1 || to - exponentIndex > 3 || CommonCodec.decodeDigits(buffer, exponentIndex, to - exponentIndex) < 0) {
+          return Long.MIN_VALUE;
+        }
+        break;
+      } else {
+        return Long.MIN_VALUE;
+      }
+    }
+    if (digits == 0) {
+      return Long.MIN_VALUE;
+    }
+    return negative ? -significand : significand;
+  }
+
+  /**
+   * @return the power of ten of the significand of a decimal string accepted by {@link #parseDecimalSignificand}
+   */
+  private static int decimalExponent(ByteBuf buffer, int index, int length) {
+    int to = index + length;
+    int fractionDigits = 0;
+    boolean point = false;
+    for (int i = index;i < to;i++) {
+      byte b = buffer.getByte(i);
+      if (b == '.') {
+        point = true;
+      } else if (b == 'e' || b == 'E') {
+        int exponentIndex = buffer.getByte(i + 1) == '+' ? i + 2 : i + 1;
+        return (int) CommonCodec.decodeDecStringToLong(exponentIndex, to - exponentIndex, buffer) - fractionDigits;
+      } else if (point) {
+        fractionDigits++;
+      }
+    }
+    return -fractionDigits;
+  }
+
+  /**
+   * Parse an optional {@code .ffffff} fractional second part.
+   *
+   * @return the nanoseconds or {@code -1}
+   */
+  private static int parseFraction(ByteBuf buffer, int from, int to) {
+    int fractionLength = to - from - 1;
+    if (fractionLength < 0) {
+      return 0;
+    }
+    if (buffer.getByte(from) != '.') {
+      return -1;
     }
-    return LocalDateTime.parse(cs, DATETIME_FORMAT);
+    return CommonCodec.decodeFraction(buffer, from + 1, fractionLength);
   }
 
   private static Object textDecodeJson(int collationId, ByteBuf buffer, int index, int length) {
@@ -67,6 +67,7 @@ public final class CapabilitiesFlag {
     | CLIENT_MULTI_STATEMENTS
     | CLIENT_MULTI_RESULTS
     | CLIENT_PS_MULTI_RESULTS
+    | CLIENT_OPTIONAL_RESULTSET_METADATA
 //    | CLIENT_SESSION_TRACK disable this it's not really used for now
     | CLIENT_LOCAL_FILES);
 }
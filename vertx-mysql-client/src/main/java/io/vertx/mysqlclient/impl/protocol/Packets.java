@@ -112,6 +112,11 @@ public final class Packets {
     public static final byte CURSOR_TYPE_SCROLLABLE = 4;
   }
 
+  public static final class EnumResultsetMetadata {
+    public static final int RESULTSET_METADATA_NONE = 0;
+    public static final int RESULTSET_METADATA_FULL = 1;
+  }
+
   public static final class ParameterFlag {
     public static final int UNSIGNED = 0x80;
   }
@@ -14,11 +14,15 @@ package io.vertx.mysqlclient;
 import io.vertx.core.Vertx;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.util.Collections;
+
 @RunWith(VertxUnitRunner.class)
 public class MySQLClientCapabilitiesTest extends MySQLTestBase {
 
@@ -64,4 +68,38 @@ public class MySQLClientCapabilitiesTest extends MySQLTestBase {
       }));
     }));
   }
+
+  @Test
+  public void testCompressionClientCapability(TestContext ctx) {
+    MySQLConnectOptions connectOptions = options.setUseCompression(true);
+    MySQLConnection.connect(vertx, connectOptions, ctx.asyncAssertSuccess(conn -> {
+      conn.query("SHOW SESSION STATUS LIKE 'Compression'").execute(ctx.asyncAssertSuccess(res0 -> {
+        ctx.assertEquals("ON", res0.iterator().next().getString(1));
+        conn.query(PREPARE_TESTING_TABLE_DATA).execute(ctx.asyncAssertSuccess(res1 -> {
+          conn
+            .query("UPDATE vehicle SET type = 'car' WHERE id = 1;").execute(ctx.asyncAssertSuccess(res2 -> {
+              ctx.assertEquals(1, res2.rowCount());
+              conn.close();
+            }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testCompressionLargeResult(TestContext ctx) {
+    MySQLConnectOptions connectOptions = options.setUseCompression(true);
+    MySQLConnection.connect(vertx, connectOptions, ctx.asyncAssertSuccess(conn -> {
+      // the result spans many compressed packets and the parameter exceeds the minimum compressed length
+      String value = String.join("", Collections.nCopies(1000, "vertx"));
+      conn.preparedQuery("SELECT ?, REPEAT('x', 4096) FROM information_schema.COLLATIONS").execute(Tuple.of(value), ctx.asyncAssertSuccess(res -> {
+        ctx.assertTrue(res.size() > 0);
+        for (Row row : res) {
+          ctx.assertEquals(value, row.getString(0));
+          ctx.assertEquals(4096, row.getString(1).length());
+        }
+        conn.close();
+      }));
+    }));
+  }
 }
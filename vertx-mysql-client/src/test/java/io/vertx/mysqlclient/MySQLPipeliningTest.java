@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mysqlclient;
+
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowStream;
+import io.vertx.sqlclient.SqlClient;
+import io.vertx.sqlclient.Tuple;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+@RunWith(VertxUnitRunner.class)
+public class MySQLPipeliningTest extends MySQLTestBase {
+
+  Vertx vertx;
+  MySQLConnectOptions options;
+
+  @Before
+  public void setup() {
+    vertx = Vertx.vertx();
+    options = new MySQLConnectOptions(MySQLTestBase.options).setPipeliningLimit(16);
+  }
+
+  @After
+  public void tearDown(TestContext ctx) {
+    vertx.close(ctx.asyncAssertSuccess());
+  }
+
+  @Test
+  public void testSimpleQueriesInOrder(TestContext ctx) {
+    AtomicInteger order = new AtomicInteger();
+    repeat(ctx, (conn, async) -> {
+      int expected = order.getAndIncrement();
+      conn.query("SELECT " + expected).execute(ctx.asyncAssertSuccess(res -> {
+        ctx.assertEquals(expected, res.iterator().next().getInteger(0));
+        async.countDown();
+      }));
+    });
+  }
+
+  @Test
+  public void testPreparedQueries(TestContext ctx) {
+    options.setCachePreparedStatements(true);
+    AtomicInteger count = new AtomicInteger();
+    repeat(ctx, (conn, async) -> {
+      int val = count.getAndIncrement();
+      conn.preparedQuery("SELECT CAST(? AS SIGNED)").execute(Tuple.of(val), ctx.asyncAssertSuccess(res -> {
+        ctx.assertEquals((long) val, res.iterator().next().getLong(0));
+        async.countDown();
+      }));
+    });
+  }
+
+  @Test
+  public void testPreparedStatementValidationFailure(TestContext ctx) {
+    options.setCachePreparedStatements(true);
+    repeat(ctx, (conn, async) -> {
+      conn.preparedQuery("SELECT id FROM immutable WHERE id = ?").execute(Tuple.of(1, 2), ctx.asyncAssertFailure(err -> {
+        async.countDown();
+      }));
+    });
+  }
+
+  @Test
+  public void testQueryFailure(TestContext ctx) {
+    repeat(ctx, (conn, async) -> {
+      conn.query("SELECT * FROM does_not_exist").execute(ctx.asyncAssertFailure(err -> {
+        async.countDown();
+      }));
+    });
+  }
+
+  @Test
+  public void testBatchLargerThanWindow(TestContext ctx) {
+    options.setBatchPipeliningLimit(2);
+    repeat(ctx, (conn, async) -> {
+      conn.preparedQuery("SELECT CAST(? AS SIGNED)").executeBatch(Arrays.asList(Tuple.of(1), Tuple.of(2), Tuple.of(3)), ctx.asyncAssertSuccess(res -> {
+        ctx.assertEquals(1L, res.iterator().next().getLong(0));
+        ctx.assertEquals(3L, res.next().next().iterator().next().getLong(0));
+        async.countDown();
+      }));
+    });
+  }
+
+  @Test
+  public void testSmallAndLargePacketsInOrder(TestContext ctx) {
+    options.setCachePreparedStatements(true);
+    AtomicInteger count = new AtomicInteger();
+    repeat(ctx, (conn, async) -> {
+      int val = count.getAndIncrement();
+      // interleave packets aggregated in a single buffer with packets written on their own
+      String param = val % 2 == 0 ? "small-" + val : String.join("", Collections.nCopies(500, "large")) + val;
+      conn.preparedQuery("SELECT ?").execute(Tuple.of(param), ctx.asyncAssertSuccess(res -> {
+        ctx.assertEquals(param, res.iterator().next().getString(0));
+        async.countDown();
+      }));
+    });
+  }
+
+  @Test
+  public void testStreamWithSimpleQueries(TestContext ctx) {
+    int num = 16;
+    Async async = ctx.async(num + 1);
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.prepare("SELECT id FROM immutable ORDER BY id", ctx.asyncAssertSuccess(ps -> {
+        RowStream<Row> stream = ps.createStream(4, Tuple.tuple());
+        List<Integer> ids = new ArrayList<>();
+        stream.exceptionHandler(ctx::fail);
+        stream.endHandler(v -> {
+          ctx.assertEquals(12, ids.size());
+          ctx.assertEquals(1, ids.get(0));
+          ctx.assertEquals(12, ids.get(11));
+          async.countDown();
+        });
+        stream.handler(row -> ids.add(row.getInteger(0)));
+        // the queries are scheduled while the cursor is opened and fetched
+        for (int i = 0;i < num;i++) {
+          int val = i;
+          conn.query("SELECT " + val).execute(ctx.asyncAssertSuccess(res -> {
+            ctx.assertEquals(val, res.iterator().next().getInteger(0));
+            async.countDown();
+          }));
+        }
+      }));
+    }));
+  }
+
+  @Test
+  public void testPipelinedClient(TestContext ctx) {
+    int num = 64;
+    Async async = ctx.async(num);
+    SqlClient client = MySQLPool.client(vertx, options, new PoolOptions().setMaxSize(1));
+    for (int i = 0;i < num;i++) {
+      int val = i;
+      client.query("SELECT " + val).execute(ctx.asyncAssertSuccess(res -> {
+        ctx.assertEquals(val, res.iterator().next().getInteger(0));
+        async.countDown();
+      }));
+    }
+    async.awaitSuccess(20_000);
+    client.close();
+  }
+
+  private void repeat(TestContext ctx, BiConsumer<MySQLConnection, Async> operation) {
+    int times = 128;
+    Async async = ctx.async(times);
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      for (int i = 0;i < times;i++) {
+        operation.accept(conn, async);
+      }
+    }));
+  }
+}
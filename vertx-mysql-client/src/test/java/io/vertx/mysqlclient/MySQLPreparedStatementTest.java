@@ -16,6 +16,7 @@ import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowStream;
 import io.vertx.sqlclient.Tuple;
 import org.junit.After;
 import org.junit.Assume;
@@ -23,7 +24,9 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @RunWith(VertxUnitRunner.class)
@@ -72,6 +75,157 @@ public class MySQLPreparedStatementTest extends MySQLTestBase {
     }));
   }
 
+  @Test
+  public void testReusePreparedStatementRowDescription(TestContext ctx) {
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.prepare("SELECT id, message AS msg FROM immutable WHERE id = ?", ctx.asyncAssertSuccess(preparedQuery -> {
+        preparedQuery.query().execute(Tuple.of(1), ctx.asyncAssertSuccess(res1 -> {
+          ctx.assertEquals(Arrays.asList("id", "msg"), res1.columnsNames());
+          ctx.assertEquals("fortune: No such file or directory", res1.iterator().next().getString("msg"));
+          preparedQuery.query().execute(Tuple.of(2), ctx.asyncAssertSuccess(res2 -> {
+            ctx.assertEquals(Arrays.asList("id", "msg"), res2.columnsNames());
+            ctx.assertEquals("A computer scientist is someone who fixes things that aren't broken.", res2.iterator().next().getString("msg"));
+            conn.close();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testPreparedStatementColumnRenamed(TestContext ctx) {
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("CREATE TEMPORARY TABLE renamed_column (id INT, val INT)").execute(ctx.asyncAssertSuccess(v1 -> {
+        conn.query("INSERT INTO renamed_column VALUES (1, 2)").execute(ctx.asyncAssertSuccess(v2 -> {
+          conn.prepare("SELECT * FROM renamed_column", ctx.asyncAssertSuccess(preparedQuery -> {
+            preparedQuery.query().execute(ctx.asyncAssertSuccess(res1 -> {
+              ctx.assertEquals(Arrays.asList("id", "val"), res1.columnsNames());
+              // same column types, the names must not be reused from the prepared statement
+              conn.query("ALTER TABLE renamed_column CHANGE val renamed INT").execute(ctx.asyncAssertSuccess(v3 -> {
+                preparedQuery.query().execute(ctx.asyncAssertSuccess(res2 -> {
+                  ctx.assertEquals(Arrays.asList("id", "renamed"), res2.columnsNames());
+                  ctx.assertEquals(2, res2.iterator().next().getInteger("renamed"));
+                  conn.close();
+                }));
+              }));
+            }));
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testMultipleColumnsWithOptionalResultsetMetadata(TestContext ctx) {
+    // CLIENT_OPTIONAL_RESULTSET_METADATA is negotiated with MySQL 8
+    Assume.assumeTrue(rule.isUsingMySQL8());
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("SELECT 1 AS a, 'two' AS b, 3 AS c").execute(ctx.asyncAssertSuccess(res1 -> {
+        ctx.assertEquals(Arrays.asList("a", "b", "c"), res1.columnsNames());
+        Row row1 = res1.iterator().next();
+        ctx.assertEquals("two", row1.getString("b"));
+        ctx.assertEquals(3, row1.getInteger("c"));
+        conn.preparedQuery("SELECT id, message, ? AS extra FROM immutable WHERE id = 1").execute(Tuple.of("x"), ctx.asyncAssertSuccess(res2 -> {
+          ctx.assertEquals(Arrays.asList("id", "message", "extra"), res2.columnsNames());
+          Row row2 = res2.iterator().next();
+          ctx.assertEquals("fortune: No such file or directory", row2.getString("message"));
+          ctx.assertEquals("x", row2.getString("extra"));
+          conn.close();
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testPreparedStatementResultTypeChange(TestContext ctx) {
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      // the result type depends on the parameter type, the column definitions differ from the prepared ones
+      conn.prepare("SELECT ? AS val", ctx.asyncAssertSuccess(preparedQuery -> {
+        preparedQuery.query().execute(Tuple.of("hello"), ctx.asyncAssertSuccess(res1 -> {
+          ctx.assertEquals("hello", res1.iterator().next().getString("val"));
+          preparedQuery.query().execute(Tuple.of(42L), ctx.asyncAssertSuccess(res2 -> {
+            ctx.assertEquals(42L, res2.iterator().next().getLong("val"));
+            conn.close();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testPreparedStatementWithOmittedResultsetMetadata(TestContext ctx) {
+    Assume.assumeTrue(rule.isUsingMySQL8());
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.prepare("SELECT id, message FROM immutable WHERE id = ?", ctx.asyncAssertSuccess(preparedQuery -> {
+        conn.query("SET SESSION resultset_metadata = NONE").execute(ctx.asyncAssertSuccess(v -> {
+          preparedQuery.query().execute(Tuple.of(1), ctx.asyncAssertSuccess(res -> {
+            ctx.assertEquals(Arrays.asList("id", "message"), res.columnsNames());
+            Row row = res.iterator().next();
+            ctx.assertEquals(1, row.getInteger(0));
+            ctx.assertEquals("fortune: No such file or directory", row.getString(1));
+            // text queries can not be decoded without metadata
+            conn.query("SELECT id FROM immutable WHERE id = 1").execute(ctx.asyncAssertFailure(err -> {
+              conn.query("SET SESSION resultset_metadata = FULL").execute(ctx.asyncAssertSuccess(v2 -> {
+                conn.close();
+              }));
+            }));
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testStreamStatementWithoutResultSet(TestContext ctx) {
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      // the server does not open a cursor for a statement without result set
+      conn.prepare("DO 1", ctx.asyncAssertSuccess(ps -> {
+        RowStream<Row> stream = ps.createStream(10, Tuple.tuple());
+        AtomicInteger count = new AtomicInteger();
+        stream.exceptionHandler(ctx::fail);
+        stream.handler(row -> count.incrementAndGet());
+        stream.endHandler(v -> {
+          ctx.assertEquals(0, count.get());
+          conn.query("SELECT 1").execute(ctx.asyncAssertSuccess(res -> conn.close()));
+        });
+      }));
+    }));
+  }
+
+  @Test
+  public void testStreamResultTypeChange(TestContext ctx) {
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.prepare("SELECT ? AS val UNION ALL SELECT ?", ctx.asyncAssertSuccess(ps -> {
+        RowStream<Row> stream = ps.createStream(1, Tuple.of(42L, 43L));
+        List<Long> values = new ArrayList<>();
+        stream.exceptionHandler(ctx::fail);
+        stream.handler(row -> values.add(row.getLong("val")));
+        stream.endHandler(v -> {
+          ctx.assertEquals(Arrays.asList(42L, 43L), values);
+          conn.close();
+        });
+      }));
+    }));
+  }
+
+  @Test
+  public void testStreamLargeResultWithPrefetch(TestContext ctx) {
+    String digits = "(SELECT 0 AS n UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 " +
+      "UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9)";
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.prepare("SELECT a.n * 100 + b.n * 10 + c.n AS num FROM " + digits + " a, " + digits + " b, " + digits + " c ORDER BY num", ctx.asyncAssertSuccess(ps -> {
+        RowStream<Row> stream = ps.createStream(64, Tuple.tuple(), 2);
+        AtomicInteger expected = new AtomicInteger();
+        stream.exceptionHandler(ctx::fail);
+        stream.handler(row -> ctx.assertEquals((long) expected.getAndIncrement(), row.getLong("num")));
+        stream.endHandler(v -> {
+          ctx.assertEquals(1000, expected.get());
+          conn.close();
+        });
+      }));
+    }));
+  }
+
   @Test
   public void testContinuousOneShotPreparedQueriesWithDifferentTypeParameters(TestContext ctx) {
     options.setCachePreparedStatements(true);
@@ -137,6 +291,65 @@ public class MySQLPreparedStatementTest extends MySQLTestBase {
     }));
   }
 
+  @Test
+  public void testPipelinedBatch(TestContext ctx) {
+    options.setBatchPipeliningLimit(4);
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      List<Tuple> batch = new ArrayList<>();
+      for (int i = 0;i < 10;i++) {
+        batch.add(Tuple.of(i));
+      }
+      conn.preparedQuery("SELECT CAST(? AS SIGNED)").executeBatch(batch, ctx.asyncAssertSuccess(res -> {
+        for (int i = 0;i < 10;i++) {
+          ctx.assertEquals(1, res.size());
+          ctx.assertEquals((long) i, res.iterator().next().getLong(0));
+          res = res.next();
+        }
+        ctx.assertNull(res);
+        conn.close();
+      }));
+    }));
+  }
+
+  @Test
+  public void testPipelinedBatchWithServerFailure(TestContext ctx) {
+    options.setBatchPipeliningLimit(4);
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("CREATE TEMPORARY TABLE batch_test(id INT PRIMARY KEY)").execute(ctx.asyncAssertSuccess(created -> {
+        List<Tuple> batch = Arrays.asList(Tuple.of(1), Tuple.of(2), Tuple.of(1), Tuple.of(3), Tuple.of(4), Tuple.of(5));
+        conn.preparedQuery("INSERT INTO batch_test(id) VALUES (?)").executeBatch(batch, ctx.asyncAssertFailure(err -> {
+          ctx.assertTrue(err instanceof MySQLException);
+          // the executions written before the failure was received still run
+          conn.query("SELECT id FROM batch_test ORDER BY id").execute(ctx.asyncAssertSuccess(rows -> {
+            List<Integer> ids = new ArrayList<>();
+            rows.forEach(row -> ids.add(row.getInteger(0)));
+            ctx.assertEquals(Arrays.asList(1, 2, 3, 4, 5), ids);
+            conn.close();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testBatchStopsOnFirstServerFailure(TestContext ctx) {
+    options.setBatchPipeliningLimit(1);
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("CREATE TEMPORARY TABLE batch_test(id INT PRIMARY KEY)").execute(ctx.asyncAssertSuccess(created -> {
+        List<Tuple> batch = Arrays.asList(Tuple.of(1), Tuple.of(2), Tuple.of(1), Tuple.of(3), Tuple.of(4), Tuple.of(5));
+        conn.preparedQuery("INSERT INTO batch_test(id) VALUES (?)").executeBatch(batch, ctx.asyncAssertFailure(err -> {
+          ctx.assertTrue(err instanceof MySQLException);
+          conn.query("SELECT id FROM batch_test ORDER BY id").execute(ctx.asyncAssertSuccess(rows -> {
+            List<Integer> ids = new ArrayList<>();
+            rows.forEach(row -> ids.add(row.getInteger(0)));
+            ctx.assertEquals(Arrays.asList(1, 2), ids);
+            conn.close();
+          }));
+        }));
+      }));
+    }));
+  }
+
   @Test
   public void testMaxPreparedStatementEviction(TestContext ctx) {
     testPreparedStatements(ctx, new MySQLConnectOptions(options).setCachePreparedStatements(true).setPreparedStatementCacheMaxSize(16), 128, 16);
@@ -299,6 +299,30 @@ public class MySQLQueryTest extends MySQLTestBase {
     }));
   }
 
+  @Test
+  public void testLocalInfileRequestWithCompression(TestContext ctx) {
+    FileSystem fileSystem = vertx.fileSystem();
+    Buffer fileData = Buffer.buffer();
+    for (int i = 0; i < 10000; i++) {
+      fileData.appendString("Fluffy,Harold,cat,f,1993-02-04,NULL")
+        .appendString("\n");
+    }
+    fileSystem.createTempFile(null, null, ctx.asyncAssertSuccess(filename -> {
+      fileSystem.writeFile(filename, fileData, ctx.asyncAssertSuccess(write -> {
+        MySQLConnection.connect(vertx, new MySQLConnectOptions(options).setUseCompression(true), ctx.asyncAssertSuccess(conn -> {
+          conn.query("TRUNCATE TABLE localinfile").execute(ctx.asyncAssertSuccess(cleanup -> {
+            conn.query("LOAD DATA LOCAL INFILE '" + filename + "' INTO TABLE localinfile FIELDS TERMINATED BY ',' ENCLOSED BY '\"' LINES TERMINATED BY '\\n';").execute(ctx.asyncAssertSuccess(v -> {
+              conn.query("SELECT COUNT(*) FROM localinfile WHERE name = 'Fluffy'").execute(ctx.asyncAssertSuccess(rowSet -> {
+                ctx.assertEquals(10000L, rowSet.iterator().next().getLong(0));
+                conn.close();
+              }));
+            }));
+          }));
+        }));
+      }));
+    }));
+  }
+
   @Test
   public void testLocalInfileRequestEmptyFile(TestContext ctx) {
     FileSystem fileSystem = vertx.fileSystem();
@@ -226,4 +226,28 @@ public class NumericDataTypeTest extends MySQLDataTypeTestBase {
       ctx.assertEquals(new BigDecimal("18446744073709551615"), row.getBigDecimal(columnName));
     }));
   }
+
+  @Test
+  public void testTextDecodeDouble(TestContext ctx) {
+    testTextDecode(ctx, "SELECT 1.5e0, -2.25e-10, 1.7976931348623157e308, 0.1e0, -0e0", result -> {
+      ctx.assertEquals(1, result.size());
+      Row row = result.iterator().next();
+      ctx.assertEquals(1.5d, row.getDouble(0));
+      ctx.assertEquals(-2.25e-10d, row.getDouble(1));
+      ctx.assertEquals(Double.MAX_VALUE, row.getDouble(2));
+      ctx.assertEquals(0.1d, row.getDouble(3));
+      ctx.assertEquals(0d, Math.abs(row.getDouble(4)));
+    });
+  }
+
+  @Test
+  public void testTextDecodeDecimal(TestContext ctx) {
+    testTextDecode(ctx, "SELECT -123.4500, 0.000001, 123456789012345678901234567890.12", result -> {
+      ctx.assertEquals(1, result.size());
+      Row row = result.iterator().next();
+      ctx.assertEquals(Numeric.parse("-123.4500"), row.getValue(0));
+      ctx.assertEquals(new BigDecimal("0.000001"), row.getBigDecimal(1));
+      ctx.assertEquals(new BigDecimal("123456789012345678901234567890.12"), row.getBigDecimal(2));
+    });
+  }
 }
@@ -16,6 +16,16 @@ public class PgConnectOptionsConverter {
   public static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, PgConnectOptions obj) {
     for (java.util.Map.Entry<String, Object> member : json) {
       switch (member.getKey()) {
+        case "binarySimpleQueries":
+          if (member.getValue() instanceof Boolean) {
+            obj.setBinarySimpleQueries((Boolean)member.getValue());
+          }
+          break;
+        case "lazyRowDecoding":
+          if (member.getValue() instanceof Boolean) {
+            obj.setLazyRowDecoding((Boolean)member.getValue());
+          }
+          break;
         case "pipeliningLimit":
           if (member.getValue() instanceof Number) {
             obj.setPipeliningLimit(((Number)member.getValue()).intValue());
@@ -37,6 +47,8 @@ public class PgConnectOptionsConverter {
   }
 
   public static void toJson(PgConnectOptions obj, java.util.Map<String, Object> json) {
+    json.put("binarySimpleQueries", obj.isBinarySimpleQueries());
+    json.put("lazyRowDecoding", obj.isLazyRowDecoding());
     json.put("pipeliningLimit", obj.getPipeliningLimit());
     if (obj.getSslMode() != null) {
       json.put("sslMode", obj.getSslMode().name());
@@ -19,14 +19,22 @@ package examples;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.PemTrustOptions;
 import io.vertx.docgen.Source;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.PgConnection;
+import io.vertx.pgclient.PgCopyBinaryEncoder;
 import io.vertx.pgclient.PgPool;
 import io.vertx.pgclient.SslMode;
+import io.vertx.pgclient.pubsub.PgChannel;
 import io.vertx.pgclient.pubsub.PgSubscriber;
+import io.vertx.pgclient.replication.PgReplicationConnection;
+import io.vertx.pgclient.replication.PgReplicationStream;
 import io.vertx.sqlclient.*;
 import io.vertx.sqlclient.data.Numeric;
 
@@ -34,6 +42,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -432,6 +441,25 @@ public class PgClientExamples {
     });
   }
 
+  public void pubsub05(PgSubscriber subscriber) {
+
+    PgChannel channel = subscriber.channel("cache_invalidation")
+      // Buffer at most 1000 notifications while paused
+      .bufferSize(1000)
+      // Discard a notification when the same payload is already buffered
+      .coalesce(true);
+
+    channel.handler(key -> {
+      // Process at most one notification at a time
+      channel.pause();
+      invalidate(key).onComplete(ar -> channel.resume());
+    });
+  }
+
+  private Future<Void> invalidate(String key) {
+    return Future.succeededFuture();
+  }
+
   public void ex10(Vertx vertx) {
 
     PgConnectOptions options = new PgConnectOptions()
@@ -659,6 +687,56 @@ public class PgClientExamples {
     });
   }
 
+  public void copyFrom(PgConnection connection, AsyncFile file) {
+    connection.copyFrom("COPY users FROM STDIN", file, ar -> {
+      if (ar.succeeded()) {
+        System.out.println("Copied " + ar.result() + " rows");
+      } else {
+        System.out.println("Copy failed " + ar.cause().getMessage());
+      }
+    });
+  }
+
+  public void copyFromBinary(Vertx vertx, PgConnection connection, List<Tuple> users) {
+    Buffer data = Buffer.buffer()
+      .appendBuffer(PgCopyBinaryEncoder.header())
+      .appendBuffer(PgCopyBinaryEncoder.encode(users))
+      .appendBuffer(PgCopyBinaryEncoder.trailer());
+    FileSystem fs = vertx.fileSystem();
+    fs.writeFile("users.bin", data)
+      .compose(v -> fs.open("users.bin", new OpenOptions().setRead(true)))
+      .compose(file -> connection.copyFrom("COPY users FROM STDIN (FORMAT binary)", file))
+      .onSuccess(count -> System.out.println("Copied " + count + " rows"));
+  }
+
+  public void copyTo(PgConnection connection, AsyncFile file) {
+    connection
+      .copyTo("COPY users TO STDOUT")
+      .pipeTo(file, ar -> {
+        if (ar.succeeded()) {
+          System.out.println("Copy done");
+        } else {
+          System.out.println("Copy failed " + ar.cause().getMessage());
+        }
+      });
+  }
+
+  public void replication(Vertx vertx, PgConnectOptions options) {
+    PgReplicationConnection.connect(vertx, options)
+      .compose(conn -> conn
+        .query("CREATE_REPLICATION_SLOT my_slot LOGICAL test_decoding")
+        .execute()
+        .map(slot -> conn))
+      .onSuccess(conn -> {
+        PgReplicationStream stream = conn.replicationStream("START_REPLICATION SLOT my_slot LOGICAL 0/0");
+        stream.handler(data -> {
+          System.out.println("Received " + data.toString());
+          // The server can recycle the WAL up to this position
+          stream.flushedLSN(stream.lastReceivedLSN());
+        });
+      });
+  }
+
   public void returning(SqlClient client) {
     client
       .preparedQuery("INSERT INTO color (color_name) VALUES ($1), ($2), ($3) RETURNING color_id")
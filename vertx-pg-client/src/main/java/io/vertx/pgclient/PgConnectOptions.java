@@ -24,6 +24,7 @@ import io.vertx.codegen.annotations.DataObject;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.*;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
 import io.vertx.sqlclient.SqlConnectOptions;
 
 import java.util.Collections;
@@ -100,6 +101,8 @@ public class PgConnectOptions extends SqlConnectOptions {
   public static final String DEFAULT_PASSWORD = "pass";
   public static final int DEFAULT_PIPELINING_LIMIT = 256;
   public static final SslMode DEFAULT_SSLMODE = SslMode.DISABLE;
+  public static final boolean DEFAULT_LAZY_ROW_DECODING = false;
+  public static final boolean DEFAULT_BINARY_SIMPLE_QUERIES = false;
   public static final Map<String, String> DEFAULT_PROPERTIES;
 
   static {
@@ -113,6 +116,8 @@ public class PgConnectOptions extends SqlConnectOptions {
 
   private int pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
   private SslMode sslMode = DEFAULT_SSLMODE;
+  private boolean lazyRowDecoding = DEFAULT_LAZY_ROW_DECODING;
+  private boolean binarySimpleQueries = DEFAULT_BINARY_SIMPLE_QUERIES;
 
   public PgConnectOptions() {
     super();
@@ -129,6 +134,8 @@ public class PgConnectOptions extends SqlConnectOptions {
       PgConnectOptions opts = (PgConnectOptions) other;
       pipeliningLimit = opts.pipeliningLimit;
       sslMode = opts.sslMode;
+      lazyRowDecoding = opts.lazyRowDecoding;
+      binarySimpleQueries = opts.binarySimpleQueries;
     }
   }
 
@@ -136,6 +143,8 @@ public class PgConnectOptions extends SqlConnectOptions {
     super(other);
     pipeliningLimit = other.pipeliningLimit;
     sslMode = other.sslMode;
+    lazyRowDecoding = other.lazyRowDecoding;
+    binarySimpleQueries = other.binarySimpleQueries;
   }
 
   @Override
@@ -184,6 +193,11 @@ public class PgConnectOptions extends SqlConnectOptions {
     return (PgConnectOptions) super.setPreparedStatementCacheMaxSize(preparedStatementCacheMaxSize);
   }
 
+  @Override
+  public PgConnectOptions setPreparedStatementCachePolicy(PreparedStatementCachePolicy preparedStatementCachePolicy) {
+    return (PgConnectOptions) super.setPreparedStatementCachePolicy(preparedStatementCachePolicy);
+  }
+
   @GenIgnore
   @Override
   public PgConnectOptions setPreparedStatementCacheSqlFilter(Predicate<String> predicate) {
@@ -224,6 +238,54 @@ public class PgConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  /**
+   * @return whether rows are decoded lazily
+   */
+  public boolean isLazyRowDecoding() {
+    return lazyRowDecoding;
+  }
+
+  /**
+   * Set whether rows are decoded lazily. When enabled, a row keeps a copy of the raw {@code DataRow} message and
+   * a column value is only decoded on its first access, which saves allocations and CPU when only a few columns
+   * of wide rows are read.
+   *
+   * @param lazyRowDecoding whether rows are decoded lazily
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PgConnectOptions setLazyRowDecoding(boolean lazyRowDecoding) {
+    this.lazyRowDecoding = lazyRowDecoding;
+    return this;
+  }
+
+  /**
+   * @return whether simple queries results are received in binary format
+   */
+  public boolean isBinarySimpleQueries() {
+    return binarySimpleQueries;
+  }
+
+  /**
+   * Set whether simple queries results are received in binary format. When enabled, a query without parameters
+   * that returned a single result is described in the prepared statement cache and its next executions use the
+   * extended query protocol with an unnamed statement, so the server sends the column values in binary format
+   * instead of text.
+   *
+   * <p>The binary format is only used outside of a transaction and when no other command is pipelined on the
+   * connection, otherwise the query is sent as text. When the cached description is stale, e.g. after a table
+   * schema change, the execution fails like a prepared statement does and the description is dropped, the next
+   * execution of the query is described again. A query is never executed twice.
+   *
+   * <p>This requires the prepared statement cache to be enabled, see {@link #setCachePreparedStatements(boolean)}.
+   *
+   * @param binarySimpleQueries whether simple queries results are received in binary format
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PgConnectOptions setBinarySimpleQueries(boolean binarySimpleQueries) {
+    this.binarySimpleQueries = binarySimpleQueries;
+    return this;
+  }
+
   @Override
   public PgConnectOptions setSendBufferSize(int sendBufferSize) {
     return (PgConnectOptions)super.setSendBufferSize(sendBufferSize);
@@ -482,6 +544,8 @@ public class PgConnectOptions extends SqlConnectOptions {
 
     if (pipeliningLimit != that.pipeliningLimit) return false;
     if (sslMode != that.sslMode) return false;
+    if (lazyRowDecoding != that.lazyRowDecoding) return false;
+    if (binarySimpleQueries != that.binarySimpleQueries) return false;
 
     return true;
   }
@@ -491,6 +555,8 @@ public class PgConnectOptions extends SqlConnectOptions {
     int result = super.hashCode();
     result = 31 * result + pipeliningLimit;
     result = 31 * result + sslMode.hashCode();
+    result = 31 * result + (lazyRowDecoding ? 1 : 0);
+    result = 31 * result + (binarySimpleQueries ? 1 : 0);
     return result;
   }
 
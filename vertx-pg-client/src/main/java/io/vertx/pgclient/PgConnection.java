@@ -17,7 +17,9 @@
 
 package io.vertx.pgclient;
 
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.pgclient.impl.PgConnectionImpl;
 import io.vertx.sqlclient.PreparedStatement;
 import io.vertx.sqlclient.SqlConnection;
@@ -33,6 +35,7 @@ import io.vertx.core.*;
  *   <ul>
  *     <li>Notification</li>
  *     <li>Request Cancellation</li>
+ *     <li>COPY data streaming</li>
  *   </ul>
  * </P>
  *
@@ -115,6 +118,37 @@ public interface PgConnection extends SqlConnection {
    */
   PgConnection cancelRequest(Handler<AsyncResult<Void>> handler);
 
+  /**
+   * Execute a {@code COPY ... FROM STDIN} statement and send the data of the {@code from} stream to the server.
+   * <p/>
+   * The stream is paused until the server is ready to receive the data, the data can be in any format accepted by
+   * the statement, e.g {@link PgCopyBinaryEncoder} encodes rows in the binary format. The stream is paused when the
+   * connection cannot write more data and the copy is aborted when the stream fails.
+   *
+   * @param sql the {@code COPY ... FROM STDIN} statement
+   * @param from the stream of data to copy
+   * @param handler the handler called with the number of copied rows or the failure
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  PgConnection copyFrom(String sql, ReadStream<Buffer> from, Handler<AsyncResult<Integer>> handler);
+
+  /**
+   * Like {@link #copyFrom(String, ReadStream, Handler)} but returns a {@code Future} of the asynchronous result
+   */
+  Future<Integer> copyFrom(String sql, ReadStream<Buffer> from);
+
+  /**
+   * Create a stream of the data of a {@code COPY ... TO STDOUT} statement, the statement is executed when
+   * the stream handler is set.
+   * <p/>
+   * The connection stops reading from the server when the stream is paused.
+   *
+   * @param sql the {@code COPY ... TO STDOUT} statement
+   * @return the stream of copied data
+   */
+  ReadStream<Buffer> copyTo(String sql);
+
   /**
    * @return The process ID of the target backend
    */
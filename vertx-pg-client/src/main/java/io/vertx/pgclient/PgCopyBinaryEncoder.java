@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.impl.codec.CopyBinaryEncoder;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.List;
+
+/**
+ * Encodes data in the binary format of {@code COPY ... FROM STDIN (FORMAT binary)} statements.
+ * <p>
+ * The data must start with the {@link #header()}, followed by the rows and end with the {@link #trailer()}.
+ * The type of each field is inferred from the Java type of its value in the same way than the prepared query
+ * parameters, the server rejects a field when the inferred type does not match the column type, e.g an
+ * {@code Integer} value for a {@code BIGINT} column.
+ */
+public final class PgCopyBinaryEncoder {
+
+  private PgCopyBinaryEncoder() {
+  }
+
+  /**
+   * @return the header of the binary data
+   */
+  public static Buffer header() {
+    ByteBuf buff = Unpooled.buffer(19);
+    CopyBinaryEncoder.encodeHeader(buff);
+    return Buffer.buffer(buff);
+  }
+
+  /**
+   * Encode a row.
+   *
+   * @param row the row
+   * @return the encoded row
+   * @throws IllegalArgumentException when the type of a value cannot be encoded in the binary format
+   */
+  public static Buffer encode(Tuple row) {
+    ByteBuf buff = Unpooled.buffer();
+    CopyBinaryEncoder.encodeRow(row, buff);
+    return Buffer.buffer(buff);
+  }
+
+  /**
+   * Encode rows in a single buffer, this reduces the number of buffers to write when copying a large
+   * number of small rows.
+   *
+   * @param rows the rows
+   * @return the encoded rows
+   * @throws IllegalArgumentException when the type of a value cannot be encoded in the binary format
+   */
+  public static Buffer encode(List<Tuple> rows) {
+    ByteBuf buff = Unpooled.buffer();
+    for (Tuple row : rows) {
+      CopyBinaryEncoder.encodeRow(row, buff);
+    }
+    return Buffer.buffer(buff);
+  }
+
+  /**
+   * @return the trailer of the binary data
+   */
+  public static Buffer trailer() {
+    ByteBuf buff = Unpooled.buffer(2);
+    CopyBinaryEncoder.encodeTrailer(buff);
+    return Buffer.buffer(buff);
+  }
+}
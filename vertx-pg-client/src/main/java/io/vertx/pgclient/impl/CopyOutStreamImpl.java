@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.impl.InboundBuffer;
+import io.vertx.pgclient.impl.command.CopyOutCommand;
+
+/**
+ * The stream of a {@code COPY TO STDOUT} statement, the statement is executed when the stream handler is set.
+ * <p>
+ * The data received from the server is buffered until the stream handler accepts it, the connection stops
+ * reading from the server when the buffer is full.
+ */
+public class CopyOutStreamImpl implements ReadStream<Buffer> {
+
+  private final PgConnectionImpl conn;
+  private final ContextInternal context;
+  private final String sql;
+  private final InboundBuffer<Buffer> pending;
+  private Handler<Throwable> exceptionHandler;
+  private Handler<Void> endHandler;
+  private volatile Handler<Boolean> autoReadHandler;
+  private boolean started;
+
+  CopyOutStreamImpl(PgConnectionImpl conn, ContextInternal context, String sql) {
+    this.conn = conn;
+    this.context = context;
+    this.sql = sql;
+    this.pending = new InboundBuffer<>(context);
+    pending.drainHandler(v -> {
+      Handler<Boolean> handler = autoReadHandler;
+      if (handler != null) {
+        handler.handle(true);
+      }
+    });
+  }
+
+  @Override
+  public synchronized ReadStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> handler(Handler<Buffer> handler) {
+    pending.handler(handler);
+    boolean start;
+    synchronized (this) {
+      start = handler != null && !started;
+      if (start) {
+        started = true;
+      }
+    }
+    if (start) {
+      conn.schedule(context, new CopyOutCommand(sql, this)).onComplete(this::handleEnd);
+    }
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> pause() {
+    pending.pause();
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> resume() {
+    pending.resume();
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> fetch(long amount) {
+    pending.fetch(amount);
+    return this;
+  }
+
+  @Override
+  public synchronized ReadStream<Buffer> endHandler(Handler<Void> handler) {
+    endHandler = handler;
+    return this;
+  }
+
+  /**
+   * Set the handler controlling the reads of the connection, the handler is called with {@code false}
+   * when the stream buffer is full and with {@code true} when the buffer has been drained.
+   */
+  public void autoReadHandler(Handler<Boolean> handler) {
+    autoReadHandler = handler;
+  }
+
+  public void handleData(Buffer data) {
+    context.emit(data, this::write);
+  }
+
+  private void write(Buffer data) {
+    if (!pending.write(data)) {
+      Handler<Boolean> handler = autoReadHandler;
+      if (handler != null) {
+        handler.handle(false);
+      }
+    }
+  }
+
+  private void handleEnd(AsyncResult<Void> ar) {
+    if (ar.succeeded()) {
+      if (pending.isEmpty()) {
+        handleEnd();
+      } else {
+        pending.emptyHandler(v -> handleEnd());
+      }
+    } else {
+      Handler<Throwable> handler;
+      synchronized (this) {
+        handler = exceptionHandler;
+      }
+      if (handler != null) {
+        handler.handle(ar.cause());
+      }
+    }
+  }
+
+  private void handleEnd() {
+    Handler<Void> handler;
+    synchronized (this) {
+      handler = endHandler;
+    }
+    if (handler != null) {
+      handler.handle(null);
+    }
+  }
+}
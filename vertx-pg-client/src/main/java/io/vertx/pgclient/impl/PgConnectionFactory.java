@@ -30,10 +30,12 @@ import io.vertx.core.net.TrustOptions;
 import io.vertx.core.net.impl.NetSocketInternal;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.SslMode;
+import io.vertx.pgclient.impl.codec.PgStatementDesc;
 import io.vertx.sqlclient.SqlConnectOptions;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.ConnectionFactory;
 import io.vertx.sqlclient.impl.SqlConnectionFactoryBase;
+import io.vertx.sqlclient.impl.cache.StatementMetadataCache;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -42,6 +44,9 @@ class PgConnectionFactory extends SqlConnectionFactoryBase implements Connection
 
   private SslMode sslMode;
   private int pipeliningLimit;
+  private boolean lazyRowDecoding;
+  private boolean binarySimpleQueries;
+  private StatementMetadataCache<PgStatementDesc> statementDescCache;
 
   PgConnectionFactory(VertxInternal context, PgConnectOptions options) {
     super(context, options);
@@ -51,6 +56,10 @@ class PgConnectionFactory extends SqlConnectionFactoryBase implements Connection
   protected void initializeConfiguration(SqlConnectOptions connectOptions) {
     PgConnectOptions options = (PgConnectOptions) connectOptions;
     this.pipeliningLimit = options.getPipeliningLimit();
+    this.lazyRowDecoding = options.isLazyRowDecoding();
+    this.binarySimpleQueries = options.isBinarySimpleQueries();
+    // binary simple query descriptions are shared by all the connections created by this factory
+    this.statementDescCache = cachePreparedStatements && binarySimpleQueries ? new StatementMetadataCache<>(preparedStatementCacheSize) : null;
     this.sslMode = options.isUsingDomainSocket() ? SslMode.DISABLE : options.getSslMode();
 
     // check ssl mode here
@@ -145,6 +154,6 @@ class PgConnectionFactory extends SqlConnectionFactoryBase implements Connection
   }
 
   private PgSocketConnection newSocketConnection(EventLoopContext context, NetSocketInternal socket) {
-    return new PgSocketConnection(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+    return new PgSocketConnection(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCachePolicy, preparedStatementCacheMetrics, preparedStatementCacheSqlFilter, pipeliningLimit, lazyRowDecoding, binarySimpleQueries, statementDescCache, context);
   }
 }
@@ -16,12 +16,14 @@
  */
 package io.vertx.pgclient.impl;
 
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.future.PromiseInternal;
 import io.vertx.core.spi.metrics.ClientMetrics;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.PgConnection;
 import io.vertx.pgclient.PgNotification;
+import io.vertx.pgclient.impl.command.CopyInCommand;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.ConnectionFactory;
 import io.vertx.sqlclient.impl.Notification;
@@ -31,6 +33,7 @@ import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.sqlclient.impl.tracing.QueryTracer;
 
 public class PgConnectionImpl extends SqlConnectionImpl<PgConnectionImpl> implements PgConnection  {
@@ -91,6 +94,27 @@ public class PgConnectionImpl extends SqlConnectionImpl<PgConnectionImpl> implem
     }
   }
 
+  @Override
+  public PgConnection copyFrom(String sql, ReadStream<Buffer> from, Handler<AsyncResult<Integer>> handler) {
+    Future<Integer> fut = copyFrom(sql, from);
+    if (handler != null) {
+      fut.onComplete(handler);
+    }
+    return this;
+  }
+
+  @Override
+  public Future<Integer> copyFrom(String sql, ReadStream<Buffer> from) {
+    // the data is sent once the server is ready
+    from.pause();
+    return schedule(context, new CopyInCommand(sql, from));
+  }
+
+  @Override
+  public ReadStream<Buffer> copyTo(String sql) {
+    return new CopyOutStreamImpl(this, context, sql);
+  }
+
   @Override
   public int processId() {
     return conn.getProcessId();
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.pgclient.replication.PgReplicationConnection;
+import io.vertx.pgclient.replication.PgReplicationStream;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+
+public class PgReplicationConnectionImpl implements PgReplicationConnection {
+
+  public static Future<PgReplicationConnection> connect(ContextInternal context, PgConnectOptions options) {
+    PgConnectOptions replicationOptions = new PgConnectOptions(options)
+      // replication connections only accept simple queries
+      .setCachePreparedStatements(false)
+      .setBinarySimpleQueries(false);
+    replicationOptions.addProperty("replication", "database");
+    return PgConnectionImpl.connect(context, replicationOptions)
+      .map(conn -> new PgReplicationConnectionImpl((PgConnectionImpl) conn, context));
+  }
+
+  private final PgConnectionImpl conn;
+  private final ContextInternal context;
+
+  PgReplicationConnectionImpl(PgConnectionImpl conn, ContextInternal context) {
+    this.conn = conn;
+    this.context = context;
+  }
+
+  @Override
+  public Query<RowSet<Row>> query(String sql) {
+    return conn.query(sql);
+  }
+
+  @Override
+  public PgReplicationStream replicationStream(String sql) {
+    return new ReplicationStreamImpl(conn, context, sql);
+  }
+
+  @Override
+  public PgReplicationConnection closeHandler(Handler<Void> handler) {
+    conn.closeHandler(handler);
+    return this;
+  }
+
+  @Override
+  public Future<Void> close() {
+    return conn.close();
+  }
+
+  @Override
+  public void close(Handler<AsyncResult<Void>> handler) {
+    conn.close(handler);
+  }
+}
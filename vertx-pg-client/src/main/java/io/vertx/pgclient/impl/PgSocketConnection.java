@@ -28,7 +28,14 @@ import io.vertx.core.impl.EventLoopContext;
 import io.vertx.core.net.impl.NetSocketInternal;
 import io.vertx.pgclient.PgException;
 import io.vertx.pgclient.impl.codec.PgCodec;
+import io.vertx.pgclient.impl.codec.PgStatementDesc;
+import io.vertx.pgclient.impl.command.CopyInCommand;
+import io.vertx.pgclient.impl.command.CopyOutCommand;
+import io.vertx.pgclient.impl.command.ReplicationCommand;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
+import io.vertx.sqlclient.impl.cache.PreparedStatementCacheMetricsImpl;
 import io.vertx.sqlclient.impl.*;
+import io.vertx.sqlclient.impl.cache.StatementMetadataCache;
 import io.vertx.sqlclient.impl.command.*;
 import io.vertx.sqlclient.spi.DatabaseMetadata;
 
@@ -40,6 +47,9 @@ import java.util.function.Predicate;
  */
 public class PgSocketConnection extends SocketConnectionBase {
 
+  private final boolean lazyRowDecoding;
+  private final boolean binarySimpleQueries;
+  private final StatementMetadataCache<PgStatementDesc> statementDescCache;
   private PgCodec codec;
   public int processId;
   public int secretKey;
@@ -48,15 +58,23 @@ public class PgSocketConnection extends SocketConnectionBase {
   public PgSocketConnection(NetSocketInternal socket,
                             boolean cachePreparedStatements,
                             int preparedStatementCacheSize,
+                            PreparedStatementCachePolicy preparedStatementCachePolicy,
+                            PreparedStatementCacheMetricsImpl preparedStatementCacheMetrics,
                             Predicate<String> preparedStatementCacheSqlFilter,
                             int pipeliningLimit,
+                            boolean lazyRowDecoding,
+                            boolean binarySimpleQueries,
+                            StatementMetadataCache<PgStatementDesc> statementDescCache,
                             EventLoopContext context) {
-    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCachePolicy, preparedStatementCacheMetrics, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+    this.lazyRowDecoding = lazyRowDecoding;
+    this.binarySimpleQueries = binarySimpleQueries;
+    this.statementDescCache = statementDescCache;
   }
 
   @Override
   public void init() {
-    codec = new PgCodec();
+    codec = new PgCodec(lazyRowDecoding, binarySimpleQueries, statementDescCache);
     ChannelPipeline pipeline = socket.channelHandlerContext().pipeline();
     pipeline.addBefore("handler", "codec", codec);
     super.init();
@@ -153,6 +171,12 @@ public class PgSocketConnection extends SocketConnectionBase {
     }
   }
 
+  @Override
+  protected boolean isExclusive(CommandBase<?> cmd) {
+    // the server must not receive other messages during the copy
+    return cmd instanceof CopyInCommand || cmd instanceof CopyOutCommand || cmd instanceof ReplicationCommand;
+  }
+
   @Override
   public boolean isIndeterminatePreparedStatementError(Throwable error) {
     if (error instanceof PgException) {
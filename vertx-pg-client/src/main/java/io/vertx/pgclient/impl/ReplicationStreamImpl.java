@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.streams.impl.InboundBuffer;
+import io.vertx.pgclient.impl.command.ReplicationCommand;
+import io.vertx.pgclient.replication.PgReplicationStream;
+
+public class ReplicationStreamImpl implements PgReplicationStream {
+
+  private static final long DEFAULT_STATUS_INTERVAL = 10_000;
+
+  private final PgConnectionImpl conn;
+  private final ContextInternal context;
+  private final String sql;
+  private final InboundBuffer<XLogData> pending;
+  private Handler<Throwable> exceptionHandler;
+  private Handler<Void> endHandler;
+  private volatile Handler<Boolean> autoReadHandler;
+  private volatile Handler<Void> stopHandler;
+  private volatile boolean stopRequested;
+  private volatile long flushedLSN;
+  private volatile long lastReceivedLSN;
+  private long statusInterval = DEFAULT_STATUS_INTERVAL;
+  private Future<Void> completion;
+
+  ReplicationStreamImpl(PgConnectionImpl conn, ContextInternal context, String sql) {
+    this.conn = conn;
+    this.context = context;
+    this.sql = sql;
+    this.pending = new InboundBuffer<>(context);
+    pending.drainHandler(v -> {
+      Handler<Boolean> handler = autoReadHandler;
+      if (handler != null) {
+        handler.handle(true);
+      }
+    });
+  }
+
+  @Override
+  public synchronized PgReplicationStream exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public PgReplicationStream handler(Handler<Buffer> handler) {
+    if (handler != null) {
+      pending.handler(msg -> {
+        lastReceivedLSN = msg.lsn;
+        handler.handle(msg.data);
+      });
+    } else {
+      pending.handler(null);
+    }
+    boolean start;
+    synchronized (this) {
+      start = handler != null && completion == null;
+      if (start) {
+        completion = conn.schedule(context, new ReplicationCommand(sql, statusInterval, this));
+      }
+    }
+    if (start) {
+      completion.onComplete(this::handleEnd);
+    }
+    return this;
+  }
+
+  @Override
+  public PgReplicationStream pause() {
+    pending.pause();
+    return this;
+  }
+
+  @Override
+  public PgReplicationStream resume() {
+    pending.resume();
+    return this;
+  }
+
+  @Override
+  public PgReplicationStream fetch(long amount) {
+    pending.fetch(amount);
+    return this;
+  }
+
+  @Override
+  public synchronized PgReplicationStream endHandler(Handler<Void> handler) {
+    endHandler = handler;
+    return this;
+  }
+
+  @Override
+  public synchronized PgReplicationStream statusInterval(long interval) {
+    if (interval < 0) {
+      throw new IllegalArgumentException("Invalid status interval " + interval);
+    }
+    statusInterval = interval;
+    return this;
+  }
+
+  @Override
+  public PgReplicationStream flushedLSN(long lsn) {
+    flushedLSN = lsn;
+    return this;
+  }
+
+  public long flushedLSN() {
+    return flushedLSN;
+  }
+
+  @Override
+  public long lastReceivedLSN() {
+    return lastReceivedLSN;
+  }
+
+  @Override
+  public Future<Void> stop() {
+    Future<Void> fut;
+    synchronized (this) {
+      stopRequested = true;
+      fut = completion;
+    }
+    if (fut == null) {
+      return context.succeededFuture();
+    }
+    Handler<Void> handler = stopHandler;
+    if (handler != null) {
+      handler.handle(null);
+    }
+    return fut;
+  }
+
+  public boolean isStopRequested() {
+    return stopRequested;
+  }
+
+  /**
+   * Set the handler ending the replication, the handler is set once the server has entered the copy mode.
+   */
+  public void stopHandler(Handler<Void> handler) {
+    stopHandler = handler;
+  }
+
+  /**
+   * Set the handler controlling the reads of the connection, the handler is called with {@code false}
+   * when the stream buffer is full and with {@code true} when the buffer has been drained.
+   */
+  public void autoReadHandler(Handler<Boolean> handler) {
+    autoReadHandler = handler;
+  }
+
+  public void handleData(long lsn, Buffer data) {
+    context.emit(new XLogData(lsn, data), this::write);
+  }
+
+  private void write(XLogData data) {
+    if (!pending.write(data)) {
+      Handler<Boolean> handler = autoReadHandler;
+      if (handler != null) {
+        handler.handle(false);
+      }
+    }
+  }
+
+  private void handleEnd(AsyncResult<Void> ar) {
+    if (ar.succeeded()) {
+      if (pending.isEmpty()) {
+        handleEnd();
+      } else {
+        pending.emptyHandler(v -> handleEnd());
+      }
+    } else {
+      Handler<Throwable> handler;
+      synchronized (this) {
+        handler = exceptionHandler;
+      }
+      if (handler != null) {
+        handler.handle(ar.cause());
+      }
+    }
+  }
+
+  private void handleEnd() {
+    Handler<Void> handler;
+    synchronized (this) {
+      handler = endHandler;
+    }
+    if (handler != null) {
+      handler.handle(null);
+    }
+  }
+
+  private static class XLogData {
+
+    final long lsn;
+    final Buffer data;
+
+    XLogData(long lsn, Buffer data) {
+      this.lsn = lsn;
+      this.data = data;
+    }
+  }
+}
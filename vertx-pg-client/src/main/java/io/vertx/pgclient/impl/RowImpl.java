@@ -23,13 +23,13 @@ import io.vertx.pgclient.data.Box;
 import io.vertx.pgclient.data.Circle;
 import io.vertx.pgclient.data.Line;
 import io.vertx.pgclient.data.LineSegment;
-import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.data.Numeric;
 import io.vertx.pgclient.data.Path;
 import io.vertx.pgclient.data.Polygon;
 import io.vertx.pgclient.data.Interval;
 import io.vertx.pgclient.data.Point;
 import io.vertx.sqlclient.impl.ArrayTuple;
+import io.vertx.sqlclient.impl.RowInternal;
 import io.vertx.sqlclient.impl.RowDesc;
 import io.vertx.core.buffer.Buffer;
 
@@ -38,7 +38,7 @@ import java.time.*;
 import java.util.List;
 import java.util.UUID;
 
-public class RowImpl extends ArrayTuple implements Row {
+public class RowImpl extends ArrayTuple implements RowInternal {
 
   private final RowDesc desc;
 
@@ -52,6 +52,11 @@ public class RowImpl extends ArrayTuple implements Row {
     this.desc = row.desc;
   }
 
+  @Override
+  public RowDesc desc() {
+    return desc;
+  }
+
   @Override
   public String getColumnName(int pos) {
     List<String> columnNames = desc.columnNames();
@@ -63,7 +68,7 @@ public class RowImpl extends ArrayTuple implements Row {
     if (name == null) {
       throw new NullPointerException();
     }
-    return desc.columnNames().indexOf(name);
+    return desc.columnIndex(name);
   }
 
   @Override
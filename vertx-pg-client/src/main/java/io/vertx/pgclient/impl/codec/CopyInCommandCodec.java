@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.pgclient.impl.command.CopyInCommand;
+
+/**
+ * Sends the data of the stream with {@code CopyData} messages once the server has entered the copy-in mode,
+ * the stream is paused when the channel is not writable.
+ */
+class CopyInCommandCodec extends PgCommandCodec<Integer, CopyInCommand> {
+
+  private PgEncoder encoder;
+  private boolean copying;
+
+  CopyInCommandCodec(CopyInCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(PgEncoder encoder) {
+    this.encoder = encoder;
+    encoder.writeQuery(new Query(cmd.sql()));
+  }
+
+  @Override
+  void handleCopyInResponse() {
+    copying = true;
+    ReadStream<Buffer> stream = cmd.stream();
+    stream.exceptionHandler(err -> execute(() -> {
+      if (copying) {
+        stopCopy();
+        encoder.writeCopyFail(String.valueOf(err.getMessage()));
+        encoder.flush();
+      }
+    }));
+    stream.endHandler(v -> execute(() -> {
+      if (copying) {
+        stopCopy();
+        encoder.writeCopyDone();
+        encoder.flush();
+      }
+    }));
+    stream.handler(data -> execute(() -> {
+      if (copying) {
+        encoder.writeCopyData(data.getByteBuf());
+        encoder.flush();
+      }
+    }));
+    if (encoder.channelHandlerContext().channel().isWritable()) {
+      stream.resume();
+    }
+  }
+
+  @Override
+  void handleWritabilityChanged(boolean writable) {
+    if (copying) {
+      if (writable) {
+        cmd.stream().resume();
+      } else {
+        cmd.stream().pause();
+      }
+    }
+  }
+
+  @Override
+  void handleCommandComplete(int updated) {
+    result = updated;
+  }
+
+  @Override
+  void handleErrorResponse(ErrorResponse errorResponse) {
+    // the server ignores the data sent after an error
+    if (copying) {
+      stopCopy();
+    }
+    failure = errorResponse.toException();
+  }
+
+  private void stopCopy() {
+    copying = false;
+    ReadStream<Buffer> stream = cmd.stream();
+    stream.pause();
+    stream.handler(null);
+    stream.endHandler(null);
+    stream.exceptionHandler(null);
+  }
+
+  private void execute(Runnable task) {
+    EventExecutor executor = encoder.channelHandlerContext().executor();
+    if (executor.inEventLoop()) {
+      task.run();
+    } else {
+      executor.execute(task);
+    }
+  }
+}
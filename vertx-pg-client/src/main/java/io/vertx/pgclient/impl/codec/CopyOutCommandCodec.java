@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.impl.command.CopyOutCommand;
+
+/**
+ * Sends the {@code CopyData} messages received from the server to the stream, the channel stops reading
+ * when the stream cannot accept more data.
+ */
+class CopyOutCommandCodec extends PgCommandCodec<Void, CopyOutCommand> {
+
+  private Channel channel;
+
+  CopyOutCommandCodec(CopyOutCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(PgEncoder encoder) {
+    channel = encoder.channelHandlerContext().channel();
+    cmd.stream().autoReadHandler(autoRead -> channel.config().setAutoRead(autoRead));
+    encoder.writeQuery(new Query(cmd.sql()));
+  }
+
+  @Override
+  void handleCopyOutResponse() {
+    // Expected
+  }
+
+  @Override
+  void handleCopyData(ByteBuf in) {
+    // the decoder buffer is released after decoding
+    ByteBuf data = Unpooled.copiedBuffer(in);
+    cmd.stream().handleData(Buffer.buffer(data));
+  }
+
+  @Override
+  void handleCopyDone() {
+    // Expected
+  }
+
+  @Override
+  void handleCommandComplete(int updated) {
+    // Expected
+  }
+
+  @Override
+  void handleErrorResponse(ErrorResponse errorResponse) {
+    failure = errorResponse.toException();
+  }
+
+  @Override
+  void handleReadyForQuery() {
+    cmd.stream().autoReadHandler(null);
+    channel.config().setAutoRead(true);
+    super.handleReadyForQuery();
+  }
+}
@@ -60,8 +60,8 @@ enum DataType {
   FLOAT4_ARRAY(1021, true, Float[].class, Number[].class, JDBCType.REAL, Tuple::getArrayOfFloats),
   FLOAT8(701, true, Double.class, Number.class, JDBCType.DOUBLE, Tuple::getDouble),
   FLOAT8_ARRAY(1022, true, Double[].class, Number[].class, JDBCType.DOUBLE, Tuple::getArrayOfDoubles),
-  NUMERIC(1700, false, Numeric.class, Number.class, JDBCType.NUMERIC, Tuple::getNumeric),
-  NUMERIC_ARRAY(1231, false, Numeric[].class, Number[].class, JDBCType.NUMERIC, Tuple::getArrayOfNumerics),
+  NUMERIC(1700, true, Numeric.class, Number.class, JDBCType.NUMERIC, Tuple::getNumeric),
+  NUMERIC_ARRAY(1231, true, Numeric[].class, Number[].class, JDBCType.NUMERIC, Tuple::getArrayOfNumerics),
   MONEY(790, true, Object.class, null),
   MONEY_ARRAY(791, true, Object[].class, null),
   BIT(1560, true, Object.class, JDBCType.BIT),
@@ -32,6 +32,9 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.sqlclient.impl.codec.CommonCodec;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
@@ -102,6 +105,15 @@ class DataTypeCodec {
   private static final IntFunction<Buffer[]> BUFFER_ARRAY_FACTORY =size -> size == 0 ? empty_buffer_array : new Buffer[size];
   private static final IntFunction<UUID[]> UUID_ARRAY_FACTORY = size -> size == 0 ? empty_uuid_array : new UUID[size];
   private static final IntFunction<Object[]> JSON_ARRAY_FACTORY = size -> size == 0 ? empty_json_array : new Object[size];
+  // Binary numeric representation
+  private static final int NUMERIC_BASE = 10000;
+  private static final BigInteger NUMERIC_BASE_POW_4 = BigInteger.valueOf(NUMERIC_BASE).pow(4);
+  private static final int NUMERIC_POS = 0x0000;
+  private static final int NUMERIC_NEG = 0x4000;
+  private static final int NUMERIC_NAN = 0xC000;
+  private static final int NUMERIC_PINF = 0xD000;
+  private static final int NUMERIC_NINF = 0xF000;
+
   private static final IntFunction<Numeric[]> NUMERIC_ARRAY_FACTORY = size -> size == 0 ? empty_numeric_array : new Numeric[size];
   private static final IntFunction<Point[]> POINT_ARRAY_FACTORY = size -> size == 0 ? empty_point_array : new Point[size];
   private static final IntFunction<Line[]> LINE_ARRAY_FACTORY = size -> size == 0 ? empty_line_array : new Line[size];
@@ -194,6 +206,12 @@ class DataTypeCodec {
       case FLOAT8_ARRAY:
         binaryEncodeArray((Number[]) value, DataType.FLOAT8, buff);
         break;
+      case NUMERIC:
+        binaryEncodeNUMERIC((Number) value, buff);
+        break;
+      case NUMERIC_ARRAY:
+        binaryEncodeArray((Number[]) value, DataType.NUMERIC, buff);
+        break;
       case CHAR:
         binaryEncodeCHAR((String) value, buff);
         break;
@@ -371,6 +389,10 @@ class DataTypeCodec {
         return binaryDecodeFLOAT8(index, len, buff);
       case FLOAT8_ARRAY:
         return binaryDecodeArray(DOUBLE_ARRAY_FACTORY, DataType.FLOAT8, index, len, buff);
+      case NUMERIC:
+        return binaryDecodeNUMERIC(index, len, buff);
+      case NUMERIC_ARRAY:
+        return binaryDecodeArray(NUMERIC_ARRAY_FACTORY, DataType.NUMERIC, index, len, buff);
       case CHAR:
         return binaryDecodeCHAR(index, len, buff);
       case CHAR_ARRAY:
@@ -708,6 +730,142 @@ class DataTypeCodec {
     return Numeric.parse(cs.toString());
   }
 
+  /**
+   * Decode the binary numeric representation: {@code ndigits}, {@code weight}, {@code sign} and {@code dscale}
+   * 16 bits header followed by {@code ndigits} base 10000 digits, the first digit is multiplied by
+   * {@code 10000^weight}.
+   */
+  private static Number binaryDecodeNUMERIC(int index, int len, ByteBuf buff) {
+    int ndigits = buff.getUnsignedShort(index);
+    short weight = buff.getShort(index + 2);
+    int sign = buff.getUnsignedShort(index + 4);
+    int dscale = buff.getUnsignedShort(index + 6);
+    switch (sign) {
+      case NUMERIC_POS:
+      case NUMERIC_NEG:
+        break;
+      case NUMERIC_NAN:
+        return Numeric.NaN;
+      case NUMERIC_PINF:
+      case NUMERIC_NINF:
+        throw new NumberFormatException("Infinite numbers are not valid numerics");
+      default:
+        throw new DecoderException("Invalid numeric sign " + Integer.toHexString(sign));
+    }
+    if (ndigits == 0) {
+      return Numeric.create(BigDecimal.valueOf(0L, dscale));
+    }
+    index += 8;
+    BigInteger unscaled = null;
+    long acc = 0;
+    int accDigits = 0;
+    for (int i = 0;i < ndigits;i++) {
+      acc = acc * NUMERIC_BASE + buff.getShort(index);
+      index += 2;
+      // 4 base 10000 digits fit in a long
+      if (++accDigits == 4 && i < ndigits - 1) {
+        unscaled = unscaled == null ? BigInteger.valueOf(acc) : unscaled.multiply(NUMERIC_BASE_POW_4).add(BigInteger.valueOf(acc));
+        acc = 0;
+        accDigits = 0;
+      }
+    }
+    BigDecimal value;
+    int scale = (ndigits - 1 - weight) * 4;
+    if (unscaled == null) {
+      value = BigDecimal.valueOf(acc, scale);
+    } else {
+      unscaled = unscaled.multiply(BigInteger.valueOf(NUMERIC_BASE).pow(accDigits)).add(BigInteger.valueOf(acc));
+      value = new BigDecimal(unscaled, scale);
+    }
+    if (sign == NUMERIC_NEG) {
+      value = value.negate();
+    }
+    // the trailing digits of the last base 10000 digit beyond the display scale are zeros
+    return Numeric.create(value.setScale(dscale, RoundingMode.UNNECESSARY));
+  }
+
+  private static void binaryEncodeNUMERIC(Number value, ByteBuf buff) {
+    BigDecimal decimal;
+    if (value instanceof BigDecimal) {
+      decimal = (BigDecimal) value;
+    } else if (value instanceof Numeric) {
+      decimal = ((Numeric) value).bigDecimalValue();
+    } else if (value instanceof BigInteger) {
+      decimal = new BigDecimal((BigInteger) value);
+    } else if (value instanceof Double || value instanceof Float) {
+      double d = value.doubleValue();
+      if (Double.isNaN(d)) {
+        decimal = null;
+      } else if (Double.isInfinite(d)) {
+        binaryEncodeNUMERIC(0, 0, d > 0 ? NUMERIC_PINF : NUMERIC_NINF, 0, buff);
+        return;
+      } else {
+        decimal = new BigDecimal(value.toString());
+      }
+    } else {
+      decimal = BigDecimal.valueOf(value.longValue());
+    }
+    if (decimal == null) {
+      binaryEncodeNUMERIC(0, 0, NUMERIC_NAN, 0, buff);
+      return;
+    }
+    int dscale = Math.max(decimal.scale(), 0);
+    int sign = decimal.signum() < 0 ? NUMERIC_NEG : NUMERIC_POS;
+    if (decimal.signum() == 0) {
+      binaryEncodeNUMERIC(0, 0, sign, dscale, buff);
+      return;
+    }
+    BigInteger unscaled = decimal.unscaledValue().abs();
+    int scale = decimal.scale();
+    if (scale < 0) {
+      unscaled = unscaled.multiply(BigInteger.TEN.pow(-scale));
+      scale = 0;
+    }
+    // align the scale on the base 10000 digits
+    int pad = (4 - scale % 4) % 4;
+    if (pad > 0) {
+      unscaled = unscaled.multiply(BigInteger.TEN.pow(pad));
+      scale += pad;
+    }
+    // base 10000 digits, least significant first
+    short[] digits = new short[(int) (unscaled.bitLength() * 0.30103 / 4) + 2];
+    int ndigits = 0;
+    if (unscaled.bitLength() < 64) {
+      long l = unscaled.longValue();
+      while (l != 0) {
+        digits[ndigits++] = (short) (l % NUMERIC_BASE);
+        l /= NUMERIC_BASE;
+      }
+    } else {
+      while (unscaled.signum() != 0) {
+        BigInteger[] qr = unscaled.divideAndRemainder(NUMERIC_BASE_POW_4);
+        long l = qr[1].longValue();
+        unscaled = qr[0];
+        for (int i = 0;i < 4 && (l != 0 || unscaled.signum() != 0);i++) {
+          digits[ndigits++] = (short) (l % NUMERIC_BASE);
+          l /= NUMERIC_BASE;
+        }
+      }
+    }
+    int weight = ndigits - 1 - scale / 4;
+    // trailing zero digits are not sent
+    int last = 0;
+    while (digits[last] == 0) {
+      last++;
+    }
+    binaryEncodeNUMERIC(ndigits - last, weight, sign, dscale, buff);
+    for (int i = ndigits - 1;i >= last;i--) {
+      buff.writeShort(digits[i]);
+    }
+  }
+
+  private static void binaryEncodeNUMERIC(int ndigits, int weight, int sign, int dscale, ByteBuf buff) {
+    buff.writeShort(ndigits);
+    buff.writeShort(weight);
+    buff.writeShort(sign);
+    buff.writeShort(dscale);
+  }
+
   private static Point textDecodePOINT(int index, int len, ByteBuf buff) {
     // Point representation: (x,y)
     int idx = ++index;
@@ -987,6 +1145,10 @@ class DataTypeCodec {
   }
 
   private static LocalDate textDecodeDATE(int index, int len, ByteBuf buff) {
+    LocalDate date = parseLocalDate(buff, index, index + len);
+    if (date != null) {
+      return date;
+    }
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     String s = cs.toString();
     switch (s) {
@@ -1009,6 +1171,10 @@ class DataTypeCodec {
   }
 
   private static LocalTime textDecodeTIME(int index, int len, ByteBuf buff) {
+    long nanoOfDay = parseNanoOfDay(buff, index, index + len);
+    if (nanoOfDay >= 0) {
+      return LocalTime.ofNanoOfDay(nanoOfDay);
+    }
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     return LocalTime.parse(cs);
   }
@@ -1027,6 +1193,15 @@ class DataTypeCodec {
   }
 
   private static OffsetTime textDecodeTIMETZ(int index, int len, ByteBuf buff) {
+    int to = index + len;
+    int offsetIndex = offsetIndex(buff, index + 8, to);
+    if (offsetIndex > 0) {
+      long nanoOfDay = parseNanoOfDay(buff, index, offsetIndex);
+      ZoneOffset offset = parseOffset(buff, offsetIndex, to);
+      if (nanoOfDay >= 0 && offset != null) {
+        return OffsetTime.of(LocalTime.ofNanoOfDay(nanoOfDay), offset);
+      }
+    }
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     return OffsetTime.parse(cs, TIMETZ_FORMAT);
   }
@@ -1058,6 +1233,15 @@ class DataTypeCodec {
   }
 
   private static LocalDateTime textDecodeTIMESTAMP(int index, int len, ByteBuf buff) {
+    int to = index + len;
+    int timeIndex = buff.indexOf(index, to, (byte) ' ') + 1;
+    if (timeIndex > 0) {
+      LocalDate date = parseLocalDate(buff, index, timeIndex - 1);
+      long nanoOfDay = parseNanoOfDay(buff, timeIndex, to);
+      if (date != null && nanoOfDay >= 0) {
+        return LocalDateTime.of(date, LocalTime.ofNanoOfDay(nanoOfDay));
+      }
+    }
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     String s = cs.toString();
     switch (s) {
@@ -1102,6 +1286,17 @@ class DataTypeCodec {
   }
 
   private static OffsetDateTime textDecodeTIMESTAMPTZ(int index, int len, ByteBuf buff) {
+    int to = index + len;
+    int timeIndex = buff.indexOf(index, to, (byte) ' ') + 1;
+    int offsetIndex = timeIndex > 0 ? offsetIndex(buff, timeIndex + 8, to) : -1;
+    if (offsetIndex > 0) {
+      LocalDate date = parseLocalDate(buff, index, timeIndex - 1);
+      long nanoOfDay = parseNanoOfDay(buff, timeIndex, offsetIndex);
+      ZoneOffset offset = parseOffset(buff, offsetIndex, to);
+      if (date != null && nanoOfDay >= 0 && offset != null) {
+        return OffsetDateTime.of(date, LocalTime.ofNanoOfDay(nanoOfDay), offset);
+      }
+    }
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     String s = cs.toString();
     switch (s) {
@@ -1113,6 +1308,95 @@ class DataTypeCodec {
         return OffsetDateTime.parse(cs, TIMESTAMPTZ_FORMAT);
     }
   }
+  /*
+   * Parsers of the ISO DateStyle output operating on the buffer bytes, they return null or -1 when the value
+   * is not in the expected format (e.g BC dates or another DateStyle) and the caller falls back to the formatters.
+   */
+
+  /**
+   * Parse a {@code YYYY-MM-DD} date, the year has at least 4 digits.
+   */
+  private static LocalDate parseLocalDate(ByteBuf buff, int from, int to) {
+    int yearLen = to - from - 6;
+    if (yearLen < 4 || yearLen > 9 || buff.getByte(to - 6) != '-' || buff.getByte(to - 3) != '-') {
+      return null;
+    }
+    int year = CommonCodec.decodeDigits(buff, from, yearLen);
+    int month = CommonCodec.decodeDigits(buff, to - 5, 2);
+    int day = CommonCodec.decodeDigits(buff, to - 2, 2);
+    if (year < 0 || month < 0 || day < 0) {
+      return null;
+    }
+    return LocalDate.of(year, month, day);
+  }
+
+  /**
+   * Parse a {@code HH:MM:SS[.ffffff]} time.
+   *
+   * @return the nano of day or {@code -1}
+   */
+  private static long parseNanoOfDay(ByteBuf buff, int from, int to) {
+    int len = to - from;
+    if (len < 8 || buff.getByte(from + 2) != ':' || buff.getByte(from + 5) != ':') {
+      return -1;
+    }
+    int hour = CommonCodec.decodeDigits(buff, from, 2);
+    int minute = CommonCodec.decodeDigits(buff, from + 3, 2);
+    int second = CommonCodec.decodeDigits(buff, from + 6, 2);
+    if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+      return -1;
+    }
+    int nano = 0;
+    if (len > 8) {
+      if (buff.getByte(from + 8) != '.') {
+        return -1;
+      }
+      nano = CommonCodec.decodeFraction(buff, from + 9, len - 9);
+      if (nano < 0) {
+        return -1;
+      }
+    }
+    return ((hour * 60L + minute) * 60L + second) * 1_000_000_000L + nano;
+  }
+
+  /**
+   * Parse a {@code +HH[:MM[:SS]]} offset.
+   */
+  private static ZoneOffset parseOffset(ByteBuf buff, int from, int to) {
+    int len = to - from;
+    if (len != 3 && len != 6 && len != 9) {
+      return null;
+    }
+    int hours = CommonCodec.decodeDigits(buff, from + 1, 2);
+    int minutes = 0;
+    int seconds = 0;
+    if (len > 3) {
+      minutes = buff.getByte(from + 3) == ':' ? CommonCodec.decodeDigits(buff, from + 4, 2) : -1;
+      if (len > 6) {
+        seconds = buff.getByte(from + 6) == ':' ? CommonCodec.decodeDigits(buff, from + 7, 2) : -1;
+      }
+    }
+    if (hours < 0 || minutes < 0 || seconds < 0) {
+      return null;
+    }
+    int totalSeconds = (hours * 60 + minutes) * 60 + seconds;
+    // cached by ZoneOffset for the usual quarter hour offsets
+    return ZoneOffset.ofTotalSeconds(buff.getByte(from) == '-' ? -totalSeconds : totalSeconds);
+  }
+
+  /**
+   * @return the index of the offset sign after a time starting before {@code from} or {@code -1}
+   */
+  private static int offsetIndex(ByteBuf buff, int from, int to) {
+    for (int i = from;i < to;i++) {
+      byte b = buff.getByte(i);
+      if (b == '+' || b == '-') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
 
   private static Buffer textDecodeBYTEA(int index, int len, ByteBuf buff) {
     if (isHexFormat(index, len, buff)) {
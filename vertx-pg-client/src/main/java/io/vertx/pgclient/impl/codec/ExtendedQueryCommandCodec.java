@@ -28,9 +28,9 @@ class ExtendedQueryCommandCodec<R, C extends ExtendedQueryCommand<R>> extends Qu
 
   private static final String TABLE_SCHEMA_CHANGE_ERROR_MESSAGE_PATTERN = "bind message has \\d result formats but query has \\d columns";
 
-  ExtendedQueryCommandCodec(C cmd) {
+  ExtendedQueryCommandCodec(C cmd, boolean lazyRowDecoding) {
     super(cmd);
-    decoder = new RowResultDecoder<>(cmd.collector(), ((PgPreparedStatement)cmd.preparedStatement()).rowDesc());
+    decoder = new RowResultDecoder<>(cmd.collector(), ((PgPreparedStatement)cmd.preparedStatement()).rowDesc(), lazyRowDecoding);
   }
 
   @Override
@@ -82,6 +82,15 @@ class ExtendedQueryCommandCodec<R, C extends ExtendedQueryCommand<R>> extends Qu
     // Response to Bind
   }
 
+  @Override
+  void handleCopyInResponse() {
+    // abort the copy, the Sync sent with Execute is ignored in copy-in mode and the server
+    // discards the messages after the error until the next Sync
+    encoder.writeCopyFail(COPY_FROM_NOT_SUPPORTED);
+    encoder.writeSync();
+    encoder.flush();
+  }
+
   @Override
   public void handleErrorResponse(ErrorResponse errorResponse) {
     if (((PgPreparedStatement)cmd.preparedStatement()).isCached() && isTableSchemaErrorMessage(errorResponse)) {
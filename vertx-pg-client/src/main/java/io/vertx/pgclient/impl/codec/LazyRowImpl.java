@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.pgclient.impl.RowImpl;
+
+/**
+ * A row that retains the raw content of a {@code DataRow} message and decodes a column value on its first access.
+ * <p>
+ * The column values are copied out of the inbound buffer into an unpooled heap buffer when the row is created, so the
+ * row does not retain the pooled buffer of the decoder and does not need to be released.
+ */
+class LazyRowImpl extends RowImpl {
+
+  private static final Object UNDECODED = new Object();
+
+  static LazyRowImpl create(PgRowDesc desc, int len, ByteBuf in) {
+    int start = in.readerIndex();
+    int[] offsets = new int[len];
+    for (int c = 0; c < len; ++c) {
+      offsets[c] = in.readerIndex() - start;
+      int length = in.readInt();
+      if (length > 0) {
+        in.skipBytes(length);
+      }
+    }
+    byte[] data = new byte[in.readerIndex() - start];
+    in.getBytes(start, data);
+    return new LazyRowImpl(desc, Unpooled.wrappedBuffer(data), offsets);
+  }
+
+  private final PgColumnDesc[] columns;
+  private final ByteBuf data;
+  private final int[] offsets;
+
+  private LazyRowImpl(PgRowDesc desc, ByteBuf data, int[] offsets) {
+    super(desc);
+    this.columns = desc.columns;
+    this.data = data;
+    this.offsets = offsets;
+    for (int c = 0; c < offsets.length; ++c) {
+      addValue(UNDECODED);
+    }
+  }
+
+  @Override
+  public Object getValue(int pos) {
+    Object value = super.getValue(pos);
+    if (value == UNDECODED) {
+      value = decodeValue(pos);
+      setValue(pos, value);
+    }
+    return value;
+  }
+
+  private Object decodeValue(int pos) {
+    int index = offsets[pos];
+    int length = data.getInt(index);
+    if (length == -1) {
+      return null;
+    }
+    index += 4;
+    PgColumnDesc columnDesc = columns[pos];
+    if (columnDesc.dataFormat == DataFormat.BINARY) {
+      return DataTypeCodec.decodeBinary(columnDesc.dataType, index, length, data);
+    } else {
+      return DataTypeCodec.decodeText(columnDesc.dataType, index, length, data);
+    }
+  }
+}
@@ -19,6 +19,7 @@ package io.vertx.pgclient.impl.codec;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.CombinedChannelDuplexHandler;
 import io.vertx.core.impl.NoStackTraceThrowable;
+import io.vertx.sqlclient.impl.cache.StatementMetadataCache;
 import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 
@@ -29,9 +30,9 @@ public class PgCodec extends CombinedChannelDuplexHandler<PgDecoder, PgEncoder>
 
   private final ArrayDeque<PgCommandCodec<?, ?>> inflight = new ArrayDeque<>();
 
-  public PgCodec() {
-    PgDecoder decoder = new PgDecoder(inflight);
-    PgEncoder encoder = new PgEncoder(inflight);
+  public PgCodec(boolean lazyRowDecoding, boolean binarySimpleQueries, StatementMetadataCache<PgStatementDesc> statementDescCache) {
+    PgEncoder encoder = new PgEncoder(inflight, lazyRowDecoding, binarySimpleQueries, statementDescCache);
+    PgDecoder decoder = new PgDecoder(inflight, encoder);
     init(decoder, encoder);
   }
 
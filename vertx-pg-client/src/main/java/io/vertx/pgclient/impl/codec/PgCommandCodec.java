@@ -30,6 +30,8 @@ abstract class PgCommandCodec<R, C extends CommandBase<R>> {
 
   private static final Logger logger = LoggerFactory.getLogger(PgCommandCodec.class);
 
+  static final String COPY_FROM_NOT_SUPPORTED = "COPY FROM STDIN is not supported by queries, use PgConnection#copyFrom instead";
+
   Handler<? super CommandResponse<R>> completionHandler;
   Handler<NoticeResponse> noticeHandler;
   PgException failure;
@@ -118,6 +120,33 @@ abstract class PgCommandCodec<R, C extends CommandBase<R>> {
     logger.warn(getClass().getSimpleName() + " should handle message ParameterStatus");
   }
 
+  void handleCopyInResponse() {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyInResponse");
+  }
+
+  void handleCopyOutResponse() {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyOutResponse");
+  }
+
+  void handleCopyBothResponse() {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyBothResponse");
+  }
+
+  void handleCopyData(ByteBuf in) {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyData");
+  }
+
+  void handleCopyDone() {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyDone");
+  }
+
+  /**
+   * Called when the writability of the channel changes, a codec writing a stream of data to the server
+   * should stop reading the stream when the channel is not writable.
+   */
+  void handleWritabilityChanged(boolean writable) {
+  }
+
   /**
    * <p>
    * The frontend can issue commands. Every message returned from the backend has transaction status
@@ -38,11 +38,13 @@ import java.util.ArrayDeque;
 class PgDecoder extends ChannelInboundHandlerAdapter {
 
   private final ArrayDeque<PgCommandCodec<?, ?>> inflight;
+  private final PgEncoder encoder;
   private ByteBufAllocator alloc;
   private ByteBuf in;
 
-  PgDecoder(ArrayDeque<PgCommandCodec<?, ?>> inflight) {
+  PgDecoder(ArrayDeque<PgCommandCodec<?, ?>> inflight, PgEncoder encoder) {
     this.inflight = inflight;
+    this.encoder = encoder;
   }
 
   @Override
@@ -107,6 +109,10 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
             decodeBindComplete();
             break;
           }
+          case PgProtocolConstants.MESSAGE_TYPE_COPY_DATA: {
+            decodeCopyData(in);
+            break;
+          }
           default: {
             decodeMessage(ctx, id, in);
           }
@@ -175,6 +181,22 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
         decodeNotificationResponse(ctx, in);
         break;
       }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_IN_RESPONSE: {
+        decodeCopyInResponse();
+        break;
+      }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_OUT_RESPONSE: {
+        decodeCopyOutResponse();
+        break;
+      }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_BOTH_RESPONSE: {
+        decodeCopyBothResponse();
+        break;
+      }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_DONE: {
+        decodeCopyDone();
+        break;
+      }
       default: {
         throw new UnsupportedOperationException();
       }
@@ -225,6 +247,7 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
 
   private void decodeReadyForQuery(ByteBuf in) {
     byte id = in.readByte();
+    encoder.transactionIdle = id == I;
     if (id == I) {
       // IDLE
     } else if (id == T) {
@@ -446,4 +469,34 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
   private void decodeNotificationResponse(ChannelHandlerContext ctx, ByteBuf in) {
     ctx.fireChannelRead(new Notification(in.readInt(), Util.readCStringUTF8(in), Util.readCStringUTF8(in)));
   }
+
+  private void decodeCopyInResponse() {
+    // the overall format and the column formats are chosen by the COPY statement
+    inflight.peek().handleCopyInResponse();
+  }
+
+  private void decodeCopyOutResponse() {
+    inflight.peek().handleCopyOutResponse();
+  }
+
+  private void decodeCopyBothResponse() {
+    inflight.peek().handleCopyBothResponse();
+  }
+
+  private void decodeCopyData(ByteBuf in) {
+    inflight.peek().handleCopyData(in);
+  }
+
+  private void decodeCopyDone() {
+    inflight.peek().handleCopyDone();
+  }
+
+  @Override
+  public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+    PgCommandCodec<?, ?> codec = inflight.peek();
+    if (codec != null) {
+      codec.handleWritabilityChanged(ctx.channel().isWritable());
+    }
+    super.channelWritabilityChanged(ctx);
+  }
 }
@@ -23,11 +23,15 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.socket.SocketChannel;
+import io.vertx.pgclient.impl.command.CopyInCommand;
+import io.vertx.pgclient.impl.command.CopyOutCommand;
+import io.vertx.pgclient.impl.command.ReplicationCommand;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.pgclient.impl.util.Util;
 import io.vertx.sqlclient.impl.ParamDesc;
 import io.vertx.sqlclient.impl.RowDesc;
 import io.vertx.sqlclient.impl.StringLongSequence;
+import io.vertx.sqlclient.impl.cache.StatementMetadataCache;
 import io.vertx.sqlclient.impl.command.CloseConnectionCommand;
 import io.vertx.sqlclient.impl.command.CloseCursorCommand;
 import io.vertx.sqlclient.impl.command.CloseStatementCommand;
@@ -61,14 +65,24 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
   private static final byte EXECUTE = 'E';
   private static final byte CLOSE = 'C';
   private static final byte SYNC = 'S';
+  private static final byte COPY_DATA = 'd';
+  private static final byte COPY_DONE = 'c';
+  private static final byte COPY_FAIL = 'f';
 
   private final ArrayDeque<PgCommandCodec<?, ?>> inflight;
+  private final boolean lazyRowDecoding;
+  private final boolean binarySimpleQueries;
+  final StatementMetadataCache<PgStatementDesc> statementDescCache;
   private ChannelHandlerContext ctx;
   private ByteBuf out;
+  boolean transactionIdle = true; // the transaction status of the last ReadyForQuery
   private final StringLongSequence psSeq = new StringLongSequence(); // used for generating named prepared statement name
 
-  PgEncoder(ArrayDeque<PgCommandCodec<?, ?>> inflight) {
+  PgEncoder(ArrayDeque<PgCommandCodec<?, ?>> inflight, boolean lazyRowDecoding, boolean binarySimpleQueries, StatementMetadataCache<PgStatementDesc> statementDescCache) {
     this.inflight = inflight;
+    this.lazyRowDecoding = lazyRowDecoding;
+    this.binarySimpleQueries = binarySimpleQueries;
+    this.statementDescCache = statementDescCache;
   }
 
   @Override
@@ -92,13 +106,21 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
     codec.encode(this);
   }
 
+  /**
+   * @return whether the connection is not in a transaction block and the command being encoded is the only
+   *         inflight command, i.e no pipelined command can change the transaction status before it executes
+   */
+  boolean isIdle() {
+    return transactionIdle && inflight.size() == 1;
+  }
+
   private PgCommandCodec<?, ?> wrap(CommandBase<?> cmd) {
     if (cmd instanceof InitCommand) {
       return new InitCommandCodec((InitCommand) cmd);
     } else if (cmd instanceof SimpleQueryCommand<?>) {
-      return new SimpleQueryCodec<>((SimpleQueryCommand<?>) cmd);
+      return new SimpleQueryCodec<>((SimpleQueryCommand<?>) cmd, lazyRowDecoding, binarySimpleQueries);
     } else if (cmd instanceof ExtendedQueryCommand<?>) {
-      return new ExtendedQueryCommandCodec<>((ExtendedQueryCommand<?>) cmd);
+      return new ExtendedQueryCommandCodec<>((ExtendedQueryCommand<?>) cmd, lazyRowDecoding);
     } else if (cmd instanceof PrepareStatementCommand) {
       return new PrepareStatementCommandCodec((PrepareStatementCommand) cmd);
     } else if (cmd instanceof CloseConnectionCommand) {
@@ -107,6 +129,12 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
       return new ClosePortalCommandCodec((CloseCursorCommand) cmd);
     } else if (cmd instanceof CloseStatementCommand) {
       return new CloseStatementCommandCodec((CloseStatementCommand) cmd);
+    } else if (cmd instanceof CopyInCommand) {
+      return new CopyInCommandCodec((CopyInCommand) cmd);
+    } else if (cmd instanceof CopyOutCommand) {
+      return new CopyOutCommandCodec((CopyOutCommand) cmd);
+    } else if (cmd instanceof ReplicationCommand) {
+      return new ReplicationCommandCodec((ReplicationCommand) cmd);
     }
     throw new AssertionError();
   }
@@ -449,6 +477,45 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
     out.setInt(pos + 1, out.writerIndex() - pos - 1);
   }
 
+  /**
+   * <p>
+   * The message carries a chunk of the data stream of a {@code COPY FROM STDIN} command, the chunks do not need
+   * to be aligned on the rows of the stream.
+   */
+  void writeCopyData(ByteBuf data) {
+    ensureBuffer();
+    int len = data.readableBytes();
+    out.writeByte(COPY_DATA);
+    out.writeInt(4 + len);
+    out.writeBytes(data, data.readerIndex(), len);
+  }
+
+  /**
+   * <p>
+   * The message ends the data stream of a {@code COPY FROM STDIN} command.
+   * <p>
+   * The response is a {@link CommandComplete} followed by {@link ReadyForQuery} or an {@link ErrorResponse}.
+   */
+  void writeCopyDone() {
+    ensureBuffer();
+    out.writeByte(COPY_DONE);
+    out.writeInt(4);
+  }
+
+  /**
+   * <p>
+   * The message aborts a {@code COPY FROM STDIN} command, the backend responds with an {@link ErrorResponse}
+   * carrying the error message.
+   */
+  void writeCopyFail(String message) {
+    ensureBuffer();
+    int pos = out.writerIndex();
+    out.writeByte(COPY_FAIL);
+    out.writeInt(0);
+    Util.writeCStringUTF8(out, message);
+    out.setInt(pos + 1, out.writerIndex() - pos - 1);
+  }
+
   private void ensureBuffer() {
     if (out == null) {
       out = ctx.alloc().ioBuffer();
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+/**
+ * The description of a statement returned by the server for a {@code Describe} message, it can be
+ * shared by the connections of a pool.
+ */
+public class PgStatementDesc {
+
+  final PgParamDesc paramDesc;
+  final PgRowDesc rowDesc;
+
+  PgStatementDesc(PgParamDesc paramDesc, PgRowDesc rowDesc) {
+    this.paramDesc = paramDesc;
+    this.rowDesc = rowDesc;
+  }
+}
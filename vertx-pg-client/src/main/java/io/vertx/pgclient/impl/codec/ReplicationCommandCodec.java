@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.impl.ReplicationStreamImpl;
+import io.vertx.pgclient.impl.command.ReplicationCommand;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams the WAL data of a {@code START_REPLICATION} command, the server and the client exchange {@code CopyData}
+ * messages until either side sends {@code CopyDone}. The client reports the received and flushed positions
+ * with standby status updates sent periodically and when the server requests a reply.
+ */
+class ReplicationCommandCodec extends PgCommandCodec<Void, ReplicationCommand> {
+
+  // CopyData payloads of the streaming replication protocol
+  private static final byte XLOG_DATA = 'w';
+  private static final byte PRIMARY_KEEPALIVE = 'k';
+  private static final byte STANDBY_STATUS_UPDATE = 'r';
+
+  // microseconds between the Unix epoch and the PostgreSQL epoch 2000-01-01
+  private static final long POSTGRES_EPOCH_MICROS = 946_684_800_000_000L;
+
+  private PgEncoder encoder;
+  private Channel channel;
+  private ScheduledFuture<?> statusUpdates;
+  private ChannelFutureListener closeListener;
+  private boolean streaming;
+  private long receivedLSN;
+
+  ReplicationCommandCodec(ReplicationCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(PgEncoder encoder) {
+    this.encoder = encoder;
+    channel = encoder.channelHandlerContext().channel();
+    cmd.stream().autoReadHandler(autoRead -> channel.config().setAutoRead(autoRead));
+    encoder.writeQuery(new Query(cmd.sql()));
+  }
+
+  @Override
+  void handleCopyBothResponse() {
+    streaming = true;
+    ReplicationStreamImpl stream = cmd.stream();
+    stream.stopHandler(v -> execute(this::stopStreaming));
+    long interval = cmd.statusInterval();
+    if (interval > 0) {
+      statusUpdates = encoder.channelHandlerContext().executor().scheduleAtFixedRate(() -> {
+        if (streaming) {
+          sendStatusUpdate();
+        }
+      }, interval, interval, TimeUnit.MILLISECONDS);
+      // the codec gets no message when the connection is lost, the status updates must not outlive the channel
+      closeListener = future -> {
+        streaming = false;
+        cancelStatusUpdates();
+      };
+      channel.closeFuture().addListener(closeListener);
+    }
+    if (stream.isStopRequested()) {
+      stopStreaming();
+    }
+  }
+
+  @Override
+  void handleCopyData(ByteBuf in) {
+    byte type = in.readByte();
+    switch (type) {
+      case XLOG_DATA: {
+        long dataStart = in.readLong();
+        // the current end of WAL on the server and the send time
+        in.skipBytes(16);
+        if (dataStart > receivedLSN) {
+          receivedLSN = dataStart;
+        }
+        // the decoder buffer is released after decoding
+        ByteBuf data = Unpooled.copiedBuffer(in);
+        cmd.stream().handleData(dataStart, Buffer.buffer(data));
+        break;
+      }
+      case PRIMARY_KEEPALIVE: {
+        long walEnd = in.readLong();
+        // the send time
+        in.skipBytes(8);
+        boolean replyRequested = in.readBoolean();
+        if (walEnd > receivedLSN) {
+          receivedLSN = walEnd;
+        }
+        if (replyRequested && streaming) {
+          sendStatusUpdate();
+        }
+        break;
+      }
+    }
+  }
+
+  @Override
+  void handleCopyDone() {
+    // the server ends the copy, acknowledge it unless the client ended it already
+    if (streaming) {
+      streaming = false;
+      cancelStatusUpdates();
+      encoder.writeCopyDone();
+      encoder.flush();
+    }
+  }
+
+  @Override
+  void handleCommandComplete(int updated) {
+    // Expected
+  }
+
+  @Override
+  void handleErrorResponse(ErrorResponse errorResponse) {
+    streaming = false;
+    cancelStatusUpdates();
+    failure = errorResponse.toException();
+  }
+
+  @Override
+  void handleReadyForQuery() {
+    cancelStatusUpdates();
+    ReplicationStreamImpl stream = cmd.stream();
+    stream.stopHandler(null);
+    stream.autoReadHandler(null);
+    channel.config().setAutoRead(true);
+    super.handleReadyForQuery();
+  }
+
+  private void stopStreaming() {
+    if (streaming) {
+      streaming = false;
+      cancelStatusUpdates();
+      // report the last flushed position before leaving the copy mode
+      sendStatusUpdate();
+      encoder.writeCopyDone();
+      encoder.flush();
+    }
+  }
+
+  private void sendStatusUpdate() {
+    long flushedLSN = cmd.stream().flushedLSN();
+    ByteBuf msg = Unpooled.buffer(34);
+    msg.writeByte(STANDBY_STATUS_UPDATE);
+    msg.writeLong(receivedLSN);
+    msg.writeLong(flushedLSN);
+    msg.writeLong(flushedLSN);
+    msg.writeLong(System.currentTimeMillis() * 1000 - POSTGRES_EPOCH_MICROS);
+    msg.writeByte(0);
+    encoder.writeCopyData(msg);
+    encoder.flush();
+  }
+
+  private void cancelStatusUpdates() {
+    if (statusUpdates != null) {
+      statusUpdates.cancel(false);
+      statusUpdates = null;
+    }
+    if (closeListener != null) {
+      channel.closeFuture().removeListener(closeListener);
+      closeListener = null;
+    }
+  }
+
+  private void execute(Runnable task) {
+    EventExecutor executor = encoder.channelHandlerContext().executor();
+    if (executor.inEventLoop()) {
+      task.run();
+    } else {
+      executor.execute(task);
+    }
+  }
+}
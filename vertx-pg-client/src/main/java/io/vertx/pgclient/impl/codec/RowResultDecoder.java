@@ -21,26 +21,40 @@ import io.vertx.sqlclient.Row;
 import io.vertx.pgclient.impl.RowImpl;
 import io.netty.buffer.ByteBuf;
 import io.vertx.sqlclient.impl.RowDecoder;
+import io.vertx.sqlclient.impl.codec.CommonCodec;
 
 import java.util.stream.Collector;
 
 class RowResultDecoder<C, R> extends RowDecoder<C, R> {
 
   final PgRowDesc desc;
+  final boolean lazy;
 
   RowResultDecoder(Collector<Row, C, R> collector, PgRowDesc desc) {
+    this(collector, desc, false);
+  }
+
+  RowResultDecoder(Collector<Row, C, R> collector, PgRowDesc desc, boolean lazy) {
     super(collector);
     this.desc = desc;
+    this.lazy = lazy;
   }
 
   @Override
   protected Row decodeRow(int len, ByteBuf in) {
-    Row row = new RowImpl(desc);
+    if (lazy) {
+      return LazyRowImpl.create(desc, len, in);
+    }
+    RowImpl row = new RowImpl(desc);
     for (int c = 0; c < len; ++c) {
       int length = in.readInt();
       Object decoded = null;
       if (length != -1) {
         PgColumnDesc columnDesc = desc.columns[c];
+        if (decodePrimitive(row, columnDesc, in.readerIndex(), length, in)) {
+          in.skipBytes(length);
+          continue;
+        }
         if (columnDesc.dataFormat == DataFormat.BINARY) {
           decoded = DataTypeCodec.decodeBinary(columnDesc.dataType, in.readerIndex(), length, in);
         } else {
@@ -52,4 +66,44 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
     }
     return row;
   }
+
+  /**
+   * Add the value of a numeric column to the row without boxing it.
+   *
+   * @return {@code true} when the value has been added
+   */
+  private static boolean decodePrimitive(RowImpl row, PgColumnDesc columnDesc, int index, int length, ByteBuf in) {
+    if (columnDesc.dataFormat == DataFormat.BINARY) {
+      switch (columnDesc.dataType) {
+        case INT2:
+          row.addShortValue(in.getShort(index));
+          return true;
+        case INT4:
+          row.addIntValue(in.getInt(index));
+          return true;
+        case INT8:
+          row.addLongValue(in.getLong(index));
+          return true;
+        case FLOAT4:
+          row.addFloatValue(in.getFloat(index));
+          return true;
+        case FLOAT8:
+          row.addDoubleValue(in.getDouble(index));
+          return true;
+      }
+    } else {
+      switch (columnDesc.dataType) {
+        case INT2:
+          row.addShortValue((short) CommonCodec.decodeDecStringToLong(index, length, in));
+          return true;
+        case INT4:
+          row.addIntValue((int) CommonCodec.decodeDecStringToLong(index, length, in));
+          return true;
+        case INT8:
+          row.addLongValue(CommonCodec.decodeDecStringToLong(index, length, in));
+          return true;
+      }
+    }
+    return false;
+  }
 }
@@ -18,24 +18,143 @@ package io.vertx.pgclient.impl.codec;
 
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
+import io.vertx.pgclient.PgException;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.cache.StatementMetadataCache;
 import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
 
+/**
+ * Executes a simple query.
+ *
+ * <p>When binary simple queries are enabled, a query that returned a single result is described in the statement
+ * description cache and its next executions send {@code Parse/Bind/Describe/Execute/Sync} for the unnamed statement,
+ * so the server returns the column values in binary format. The binary format is only used outside of a transaction
+ * block and when no other command is inflight, so a rejected {@code Bind} never aborts a transaction.
+ *
+ * <p>When the cached description is stale, i.e the server rejects the result formats or the described columns
+ * cannot be decoded, the query fails and its description is dropped. A query is never executed twice.
+ */
 class SimpleQueryCodec<T> extends QueryCommandBaseCodec<T, SimpleQueryCommand<T>> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(PgCommandCodec.class);
 
-  SimpleQueryCodec(SimpleQueryCommand<T> cmd) {
+  private static final DataType[] NO_PARAMETER_TYPES = new DataType[0];
+  private static final String TABLE_SCHEMA_CHANGE_ERROR_MESSAGE_PATTERN = "bind message has \\d+ result formats but query has \\d+ columns";
+
+  private final boolean lazyRowDecoding;
+  private final boolean binarySimpleQueries;
+  private PgEncoder encoder;
+  private PgStatementDesc cachedDesc;
+  private PgColumnDesc[] columnDescs;
+  private int rowDescriptions;
+  private int completions;
+  private boolean invalidated;
+
+  SimpleQueryCodec(SimpleQueryCommand<T> cmd, boolean lazyRowDecoding, boolean binarySimpleQueries) {
     super(cmd);
+    this.lazyRowDecoding = lazyRowDecoding;
+    this.binarySimpleQueries = binarySimpleQueries;
   }
 
   @Override
   void encode(PgEncoder encoder) {
-    encoder.writeQuery(new Query(cmd.sql()));
+    this.encoder = encoder;
+    if (binarySimpleQueries && encoder.statementDescCache != null && encoder.isIdle()) {
+      PgStatementDesc desc = encoder.statementDescCache.get(cmd.sql());
+      if (desc != null && desc.rowDesc != null && desc.paramDesc.paramDataTypes().length == 0) {
+        cachedDesc = desc;
+      }
+    }
+    if (cachedDesc != null) {
+      // Sent in a single flush, the portal description gives the formats of the result columns
+      encoder.writeParse(cmd.sql(), 0, NO_PARAMETER_TYPES);
+      encoder.writeBind(new Bind(0, NO_PARAMETER_TYPES, cachedDesc.rowDesc.columns), null, Tuple.tuple());
+      encoder.writeDescribe(new Describe(0, ""));
+      encoder.writeExecute(null, 0);
+      encoder.writeSync();
+    } else {
+      encoder.writeQuery(new Query(cmd.sql()));
+    }
+  }
+
+  @Override
+  void handleParseComplete() {
+    // Response to Parse
+  }
+
+  @Override
+  void handleBindComplete() {
+    // Response to Bind
   }
 
   @Override
   void handleRowDescription(PgColumnDesc[] columnDescs) {
-    decoder = new RowResultDecoder<>(cmd.collector(), PgRowDesc.create(columnDescs));
+    this.columnDescs = columnDescs;
+    rowDescriptions++;
+    boolean lazy = lazyRowDecoding;
+    if (cachedDesc != null && !hasSameTypes(cachedDesc.rowDesc.columns, columnDescs)) {
+      invalidated = true;
+      for (PgColumnDesc columnDesc : columnDescs) {
+        if (columnDesc.dataFormat == DataFormat.BINARY && !columnDesc.dataType.supportsBinary) {
+          // The rows cannot be decoded, keep them raw and fail like the server does for a prepared statement
+          failure = new PgException("cached plan must not change result type", "ERROR", "0A000", null);
+          lazy = true;
+          break;
+        }
+      }
+    }
+    decoder = new RowResultDecoder<>(cmd.collector(), PgRowDesc.create(columnDescs), lazy);
+  }
+
+  @Override
+  public void handleCommandComplete(int updated) {
+    completions++;
+    if (failure == null) {
+      super.handleCommandComplete(updated);
+    } else {
+      this.result = false;
+    }
+  }
+
+  @Override
+  public void handleErrorResponse(ErrorResponse errorResponse) {
+    if (cachedDesc != null && errorResponse.getMessage().matches(TABLE_SCHEMA_CHANGE_ERROR_MESSAGE_PATTERN)) {
+      // The server rejected the Bind, the query has not been executed
+      invalidated = true;
+    }
+    super.handleErrorResponse(errorResponse);
+  }
+
+  @Override
+  void handleReadyForQuery() {
+    StatementMetadataCache<PgStatementDesc> cache = encoder.statementDescCache;
+    if (binarySimpleQueries && cache != null) {
+      if (failure == null && rowDescriptions == 1 && completions == 1 && (cachedDesc == null || invalidated)) {
+        cache.put(cmd.sql(), new PgStatementDesc(new PgParamDesc(NO_PARAMETER_TYPES), PgRowDesc.createBinary(columnDescs)));
+      } else if (invalidated) {
+        cache.remove(cmd.sql());
+      }
+    }
+    super.handleReadyForQuery();
+  }
+
+  private static boolean hasSameTypes(PgColumnDesc[] cached, PgColumnDesc[] described) {
+    if (cached.length != described.length) {
+      return false;
+    }
+    for (int i = 0;i < cached.length;i++) {
+      if (cached[i].dataType != described[i].dataType) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  void handleCopyInResponse() {
+    // abort the copy, otherwise the server waits for the data
+    encoder.writeCopyFail(COPY_FROM_NOT_SUPPORTED);
+    encoder.flush();
   }
 
   @Override
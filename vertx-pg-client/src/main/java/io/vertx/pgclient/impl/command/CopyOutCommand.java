@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.command;
+
+import io.vertx.pgclient.impl.CopyOutStreamImpl;
+import io.vertx.sqlclient.impl.command.CommandBase;
+
+/**
+ * Execute a {@code COPY TO STDOUT} statement and send the data received from the server to the stream.
+ */
+public class CopyOutCommand extends CommandBase<Void> {
+
+  private final String sql;
+  private final CopyOutStreamImpl stream;
+
+  public CopyOutCommand(String sql, CopyOutStreamImpl stream) {
+    this.sql = sql;
+    this.stream = stream;
+  }
+
+  public String sql() {
+    return sql;
+  }
+
+  public CopyOutStreamImpl stream() {
+    return stream;
+  }
+}
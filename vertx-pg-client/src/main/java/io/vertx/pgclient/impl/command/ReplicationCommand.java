@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.command;
+
+import io.vertx.pgclient.impl.ReplicationStreamImpl;
+import io.vertx.sqlclient.impl.command.CommandBase;
+
+public class ReplicationCommand extends CommandBase<Void> {
+
+  private final String sql;
+  private final long statusInterval;
+  private final ReplicationStreamImpl stream;
+
+  public ReplicationCommand(String sql, long statusInterval, ReplicationStreamImpl stream) {
+    this.sql = sql;
+    this.statusInterval = statusInterval;
+    this.stream = stream;
+  }
+
+  public String sql() {
+    return sql;
+  }
+
+  /**
+   * @return the interval in milliseconds between two standby status updates, {@code 0} disables the updates
+   */
+  public long statusInterval() {
+    return statusInterval;
+  }
+
+  public ReplicationStreamImpl stream() {
+    return stream;
+  }
+}
@@ -22,7 +22,6 @@ import io.vertx.pgclient.*;
 import io.vertx.pgclient.pubsub.PgSubscriber;
 import io.vertx.pgclient.pubsub.PgChannel;
 import io.vertx.core.*;
-import io.vertx.core.streams.ReadStream;
 
 import java.util.*;
 import java.util.function.Function;
@@ -38,6 +37,11 @@ public class PgSubscriberImpl implements PgSubscriber {
   private Map<String, ChannelList> channels = new HashMap<>();
   private Function<Integer, Long> reconnectPolicy = DEFAULT_RECONNECT_POLICY;
 
+  // LISTEN/UNLISTEN statements sent together in a single query
+  private final List<String> pendingStatements = new ArrayList<>();
+  private final List<ChannelImpl> pendingSubscriptions = new ArrayList<>();
+  private boolean flushScheduled;
+
   private PgConnection conn;
   private boolean connecting;
   private boolean closed = true;
@@ -58,26 +62,61 @@ public class PgSubscriberImpl implements PgSubscriber {
   }
 
   private void handleNotification(PgNotification notif) {
-    List<Handler<String>> handlers = new ArrayList<>();
+    ChannelImpl[] subs;
     synchronized (this) {
       ChannelList channel = channels.get(notif.getChannel());
-      if (channel != null) {
-        channel.subs.forEach(sub -> {
-          if (!sub.paused) {
-            Handler<String> handler = sub.eventHandler;
-            if (handler != null) {
-              handlers.add(handler);
-            } else {
-              // Race ?
-            }
+      if (channel == null) {
+        // Race ?
+        return;
+      }
+      subs = channel.subs;
+    }
+    for (ChannelImpl sub : subs) {
+      sub.handleNotification(notif.getPayload());
+    }
+  }
+
+  private void scheduleStatement(String sql, ChannelImpl subscription) {
+    pendingStatements.add(sql);
+    if (subscription != null) {
+      pendingSubscriptions.add(subscription);
+    }
+    if (!flushScheduled) {
+      flushScheduled = true;
+      vertx.runOnContext(v -> flushStatements());
+    }
+  }
+
+  private void flushStatements() {
+    PgConnection c;
+    String sql;
+    List<ChannelImpl> subscriptions;
+    synchronized (this) {
+      flushScheduled = false;
+      c = conn;
+      sql = String.join(";", pendingStatements);
+      subscriptions = new ArrayList<>(pendingSubscriptions);
+      pendingStatements.clear();
+      pendingSubscriptions.clear();
+    }
+    if (c == null || sql.isEmpty()) {
+      // the channels are subscribed again on reconnect
+      return;
+    }
+    c.query(sql).execute(ar -> {
+      if (ar.succeeded()) {
+        subscriptions.forEach(sub -> {
+          Handler<Void> handler;
+          synchronized (PgSubscriberImpl.this) {
+            handler = sub.subscribeHandler;
+          }
+          if (handler != null) {
+            handler.handle(null);
           }
         });
       } else {
-        // Race ?
+        log.error("Cannot execute " + sql, ar.cause());
       }
-    }
-    handlers.forEach(handler -> {
-      handler.handle(notif.getPayload());
     });
   }
 
@@ -118,7 +157,7 @@ public class PgSubscriberImpl implements PgSubscriber {
     List<Handler<Void>> all = channels
       .values()
       .stream()
-      .flatMap(channel -> channel.subs.stream())
+      .flatMap(channel -> Arrays.stream(channel.subs))
       .map(sub -> sub.endHandler)
       .filter(Objects::nonNull)
       .collect(Collectors.toList());
@@ -180,7 +219,7 @@ public class PgSubscriberImpl implements PgSubscriber {
       if (channels.size() > 0) {
         List<Handler<Void>> handlers = channels.values()
           .stream()
-          .flatMap(channel -> channel.subs.stream())
+          .flatMap(channel -> Arrays.stream(channel.subs))
           .map(sub -> sub.subscribeHandler)
           .filter(Objects::nonNull)
           .collect(Collectors.toList());
@@ -209,45 +248,34 @@ public class PgSubscriberImpl implements PgSubscriber {
   private class ChannelList {
 
     final String name;
-  final String quotedName;
-    final ArrayList<ChannelImpl> subs = new ArrayList<>();
+    final String quotedName;
+    // copied on write, so notifications are dispatched without holding the lock
+    ChannelImpl[] subs = new ChannelImpl[0];
     boolean subscribed;
 
     ChannelList(String name) {
       this.name = name;
-    quotedName = "\"" + name.replace("\"", "\"\"") + "\"";
+      quotedName = "\"" + name.replace("\"", "\"\"") + "\"";
     }
 
     void add(ChannelImpl sub) {
-      subs.add(sub);
+      ChannelImpl[] copy = Arrays.copyOf(subs, subs.length + 1);
+      copy[subs.length] = sub;
+      subs = copy;
       if (!subscribed) {
         if (conn != null) {
           subscribed = true;
-          String sql = "LISTEN " + quotedName;
-          conn.query(sql).execute(ar -> {
-            if (ar.succeeded()) {
-              Handler<Void> handler = sub.subscribeHandler;
-              if (handler != null) {
-                handler.handle(null);
-              }
-            } else {
-              log.error("Cannot LISTEN to channel " + name, ar.cause());
-            }
-          });
+          scheduleStatement("LISTEN " + quotedName, sub);
         }
       }
     }
 
     void remove(ChannelImpl sub) {
-      subs.remove(sub);
-      if (subs.isEmpty()) {
+      subs = Arrays.stream(subs).filter(s -> s != sub).toArray(ChannelImpl[]::new);
+      if (subs.length == 0) {
         channels.remove(name, this);
         if (conn != null) {
-          conn.query("UNLISTEN " + quotedName).execute(ar -> {
-            if (ar.failed()) {
-              log.error("Cannot UNLISTEN channel " + name, ar.cause());
-            }
-          });
+          scheduleStatement("UNLISTEN " + quotedName, null);
         }
       }
     }
@@ -260,12 +288,60 @@ public class PgSubscriberImpl implements PgSubscriber {
     private Handler<String> eventHandler;
     private Handler<Void> endHandler;
     private ChannelList channel;
-    private boolean paused;
+    private final ArrayDeque<String> pending = new ArrayDeque<>();
+    private final Set<String> coalesced = new HashSet<>();
+    private int bufferSize;
+    private boolean coalesce;
+    private long demand = Long.MAX_VALUE;
+    private boolean emitting;
 
     ChannelImpl(String name) {
       this.name = applyIdLengthLimit(name);
     }
 
+    void handleNotification(String payload) {
+      synchronized (PgSubscriberImpl.this) {
+        if (eventHandler == null || (demand == 0L && pending.size() >= bufferSize)) {
+          // no demand and the buffer is full
+          return;
+        }
+        if (coalesce && !coalesced.add(payload)) {
+          // the same payload is already buffered
+          return;
+        }
+        pending.add(payload);
+      }
+      checkPending();
+    }
+
+    private void checkPending() {
+      synchronized (PgSubscriberImpl.this) {
+        if (emitting) {
+          return;
+        }
+        emitting = true;
+      }
+      while (true) {
+        String payload;
+        Handler<String> handler;
+        synchronized (PgSubscriberImpl.this) {
+          if (demand == 0L || pending.isEmpty()) {
+            emitting = false;
+            return;
+          }
+          payload = pending.poll();
+          coalesced.remove(payload);
+          if (demand != Long.MAX_VALUE) {
+            demand--;
+          }
+          handler = eventHandler;
+        }
+        if (handler != null) {
+          handler.handle(payload);
+        }
+      }
+    }
+
     @Override
     public PgChannel subscribeHandler(Handler<Void> handler) {
       synchronized (PgSubscriberImpl.this) {
@@ -289,6 +365,9 @@ public class PgSubscriberImpl implements PgSubscriber {
             channel.add(this);
           }
         } else {
+          eventHandler = null;
+          pending.clear();
+          coalesced.clear();
           if (channel != null) {
             ChannelList ch = channel;
             channel = null;
@@ -312,24 +391,53 @@ public class PgSubscriberImpl implements PgSubscriber {
     }
 
     @Override
-    public ChannelImpl pause() {
+    public ChannelImpl bufferSize(int size) {
+      if (size < 0) {
+        throw new IllegalArgumentException("Invalid buffer size " + size);
+      }
       synchronized (PgSubscriberImpl.this) {
-        paused = true;
+        bufferSize = size;
       }
       return this;
     }
 
     @Override
-    public ChannelImpl resume() {
+    public ChannelImpl coalesce(boolean coalesce) {
       synchronized (PgSubscriberImpl.this) {
-        paused = false;
+        this.coalesce = coalesce;
+        if (!coalesce) {
+          coalesced.clear();
+        }
       }
       return this;
     }
 
-    // Since Vert.x 3.6.0 : todo
-    public ReadStream<String> fetch(long amount) {
-      throw new UnsupportedOperationException();
+    @Override
+    public ChannelImpl pause() {
+      synchronized (PgSubscriberImpl.this) {
+        demand = 0L;
+      }
+      return this;
+    }
+
+    @Override
+    public ChannelImpl resume() {
+      return fetch(Long.MAX_VALUE);
+    }
+
+    @Override
+    public ChannelImpl fetch(long amount) {
+      if (amount < 0L) {
+        throw new IllegalArgumentException("Invalid fetch amount " + amount);
+      }
+      synchronized (PgSubscriberImpl.this) {
+        demand += amount;
+        if (demand < 0L) {
+          demand = Long.MAX_VALUE;
+        }
+      }
+      checkPending();
+      return this;
     }
   }
 
@@ -24,7 +24,7 @@ import io.vertx.core.streams.ReadStream;
 /**
  * A channel to Postgres that tracks the subscription to a given Postgres channel using the {@code LISTEN/UNLISTEN} commands.
  * <p/>
- * When paused the channel discards the messages.
+ * When paused the channel buffers up to {@link #bufferSize(int)} messages and discards the others.
  */
 @VertxGen
 public interface PgChannel extends ReadStream<String> {
@@ -53,13 +53,42 @@ public interface PgChannel extends ReadStream<String> {
   PgChannel handler(Handler<String> handler);
 
   /**
-   * Pause the channel, all notifications are discarded.
+   * Set the maximum number of notifications buffered while the channel is paused or has no demand, the notifications
+   * received when the buffer is full are discarded. The default value {@code 0} discards all the notifications received
+   * while the channel is paused.
+   *
+   * @param size the buffer size
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  PgChannel bufferSize(int size);
+
+  /**
+   * Set whether a notification is discarded when a notification with the same payload is already buffered, e.g when
+   * a burst of notifications invalidates the same entry many times. The default value is {@code false}.
+   *
+   * @param coalesce whether buffered notifications are coalesced
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  PgChannel coalesce(boolean coalesce);
+
+  /**
+   * Pause the channel, notifications are buffered up to {@link #bufferSize(int)} and the others are discarded.
    *
    * @return a reference to this, so the API can be used fluently
    */
   @Override
   PgChannel pause();
 
+  /**
+   * Fetch the specified {@code amount} of notifications, buffered notifications are delivered first.
+   *
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Override
+  PgChannel fetch(long amount);
+
   /**
    * Resume the channel.
    *
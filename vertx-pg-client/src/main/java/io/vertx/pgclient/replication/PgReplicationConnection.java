@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.replication;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.pgclient.impl.PgReplicationConnectionImpl;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+
+/**
+ * A connection in logical replication mode, it executes the replication commands such as {@code IDENTIFY_SYSTEM}
+ * or {@code CREATE_REPLICATION_SLOT} and streams the changes of a replication slot.
+ * <p/>
+ * The server only accepts the simple query protocol on such connection.
+ */
+@VertxGen
+public interface PgReplicationConnection {
+
+  /**
+   * Connects to the database in logical replication mode, the {@code replication} startup property is set
+   * to {@code database}.
+   *
+   * @param vertx the vertx instance
+   * @param options the connect options
+   * @param handler the handler called with the connection or the failure
+   */
+  static void connect(Vertx vertx, PgConnectOptions options, Handler<AsyncResult<PgReplicationConnection>> handler) {
+    Future<PgReplicationConnection> fut = connect(vertx, options);
+    if (handler != null) {
+      fut.onComplete(handler);
+    }
+  }
+
+  /**
+   * Like {@link #connect(Vertx, PgConnectOptions, Handler)} but returns a {@code Future} of the asynchronous result
+   */
+  static Future<PgReplicationConnection> connect(Vertx vertx, PgConnectOptions options) {
+    return PgReplicationConnectionImpl.connect((ContextInternal) vertx.getOrCreateContext(), options);
+  }
+
+  /**
+   * Create a query for a replication command or a SQL statement.
+   *
+   * @param sql the command
+   * @return the query
+   */
+  Query<RowSet<Row>> query(String sql);
+
+  /**
+   * Create a stream of the changes of a {@code START_REPLICATION SLOT ... LOGICAL} command, the command is executed
+   * when the stream handler is set.
+   *
+   * @param sql the {@code START_REPLICATION} command
+   * @return the stream of WAL data
+   */
+  PgReplicationStream replicationStream(String sql);
+
+  /**
+   * Set an handler called when the connection is closed.
+   *
+   * @param handler the handler
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  PgReplicationConnection closeHandler(Handler<Void> handler);
+
+  /**
+   * Close the connection.
+   */
+  Future<Void> close();
+
+  /**
+   * Like {@link #close()} but with a completion handler.
+   */
+  void close(Handler<AsyncResult<Void>> handler);
+
+}
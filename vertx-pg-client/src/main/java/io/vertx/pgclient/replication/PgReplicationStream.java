@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.replication;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * A stream of the WAL data sent by the server for a {@code START_REPLICATION SLOT ... LOGICAL} command, each buffer is
+ * the payload of an {@code XLogData} message as produced by the output plugin of the slot, e.g {@code pgoutput} or
+ * {@code test_decoding}.
+ * <p/>
+ * The connection stops reading from the server when the stream is paused.
+ * <p/>
+ * The stream reports the received and flushed positions to the server with standby status updates, the server
+ * can recycle the WAL before the flushed position, so the application should set it once the data is durably processed.
+ */
+@VertxGen
+public interface PgReplicationStream extends ReadStream<Buffer> {
+
+  @Override
+  PgReplicationStream exceptionHandler(Handler<Throwable> handler);
+
+  /**
+   * Set the data handler, the replication starts when the handler is set.
+   *
+   * @param handler the handler
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Override
+  PgReplicationStream handler(Handler<Buffer> handler);
+
+  @Override
+  PgReplicationStream pause();
+
+  @Override
+  PgReplicationStream resume();
+
+  @Override
+  PgReplicationStream fetch(long amount);
+
+  @Override
+  PgReplicationStream endHandler(Handler<Void> endHandler);
+
+  /**
+   * Set the interval between two standby status updates, the default value is {@code 10} seconds.
+   * The value {@code 0} disables the periodic updates, the stream still replies when the server requests it.
+   * <p/>
+   * This must be called before the replication starts.
+   *
+   * @param interval the interval in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  PgReplicationStream statusInterval(long interval);
+
+  /**
+   * Set the WAL position up to which the data has been processed, it is reported as flushed and applied
+   * in the next standby status update.
+   *
+   * @param lsn the log sequence number
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  PgReplicationStream flushedLSN(long lsn);
+
+  /**
+   * @return the WAL start position of the last buffer delivered to the handler
+   */
+  long lastReceivedLSN();
+
+  /**
+   * Stop the replication, the stream reports the flushed position to the server and ends.
+   *
+   * @return a future completed when the server has acknowledged the end of the replication
+   */
+  Future<Void> stop();
+
+}
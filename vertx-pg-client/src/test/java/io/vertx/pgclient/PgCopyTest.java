@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class PgCopyTest extends PgTestBase {
+
+  Vertx vertx;
+
+  @Before
+  public void setup() throws Exception {
+    super.setup();
+    vertx = Vertx.vertx();
+  }
+
+  @After
+  public void teardown(TestContext ctx) {
+    vertx.close(ctx.asyncAssertSuccess());
+  }
+
+  @Test
+  public void testCopyFromText(TestContext ctx) throws Exception {
+    int num = 10_000;
+    StringBuilder data = new StringBuilder();
+    for (int i = 0;i < num;i++) {
+      data.append(i).append('\t').append("value-").append(i).append('\n');
+    }
+    Async async = ctx.async();
+    withCopyTable(ctx, conn -> {
+      openFile(ctx, Buffer.buffer(data.toString()), file -> {
+        conn.copyFrom("COPY copy_test FROM STDIN", file, ctx.asyncAssertSuccess(count -> {
+          ctx.assertEquals(num, count);
+          conn.query("SELECT COUNT(*), MAX(id) FROM copy_test").execute(ctx.asyncAssertSuccess(res -> {
+            Row row = res.iterator().next();
+            ctx.assertEquals((long) num, row.getLong(0));
+            ctx.assertEquals(num - 1, row.getInteger(1));
+            async.complete();
+          }));
+        }));
+      });
+    });
+  }
+
+  @Test
+  public void testCopyFromBinary(TestContext ctx) {
+    List<Tuple> rows = new ArrayList<>();
+    for (int i = 0;i < 100;i++) {
+      rows.add(Tuple.of(i, "value-" + i));
+    }
+    rows.add(Tuple.of(100, null));
+    Buffer data = Buffer.buffer()
+      .appendBuffer(PgCopyBinaryEncoder.header())
+      .appendBuffer(PgCopyBinaryEncoder.encode(rows))
+      .appendBuffer(PgCopyBinaryEncoder.trailer());
+    Async async = ctx.async();
+    withCopyTable(ctx, conn -> {
+      openFile(ctx, data, file -> {
+        conn.copyFrom("COPY copy_test FROM STDIN (FORMAT binary)", file, ctx.asyncAssertSuccess(count -> {
+          ctx.assertEquals(101, count);
+          conn.query("SELECT id, val FROM copy_test WHERE id IN (42, 100) ORDER BY id").execute(ctx.asyncAssertSuccess(res -> {
+            ctx.assertEquals(2, res.size());
+            Row row = res.iterator().next();
+            ctx.assertEquals("value-42", row.getString(1));
+            async.complete();
+          }));
+        }));
+      });
+    });
+  }
+
+  @Test
+  public void testCopyFromInvalidData(TestContext ctx) {
+    Async async = ctx.async();
+    withCopyTable(ctx, conn -> {
+      openFile(ctx, Buffer.buffer("0\tvalue-0\nnot-a-number\tvalue-1\n"), file -> {
+        conn.copyFrom("COPY copy_test FROM STDIN", file, ctx.asyncAssertFailure(err -> {
+          ctx.assertEquals("22P02", ((PgException) err).getCode());
+          // the connection can be used after the failure
+          conn.query("SELECT 1").execute(ctx.asyncAssertSuccess(res -> async.complete()));
+        }));
+      });
+    });
+  }
+
+  @Test
+  public void testCopyFromInvalidStatement(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      openFile(ctx, Buffer.buffer("0\tvalue-0\n"), file -> {
+        conn.copyFrom("COPY does_not_exist FROM STDIN", file, ctx.asyncAssertFailure(err -> {
+          conn.query("SELECT 1").execute(ctx.asyncAssertSuccess(res -> async.complete()));
+        }));
+      });
+    }));
+  }
+
+  @Test
+  public void testCopyFromWithQuery(TestContext ctx) {
+    Async async = ctx.async();
+    withCopyTable(ctx, conn -> {
+      conn.query("COPY copy_test FROM STDIN").execute(ctx.asyncAssertFailure(err -> {
+        ctx.assertTrue(err.getMessage().contains("PgConnection#copyFrom"));
+        conn.query("SELECT 1").execute(ctx.asyncAssertSuccess(res -> async.complete()));
+      }));
+    });
+  }
+
+  @Test
+  public void testCopyFromWithPreparedQuery(TestContext ctx) {
+    Async async = ctx.async();
+    withCopyTable(ctx, conn -> {
+      conn.preparedQuery("COPY copy_test FROM STDIN").execute(ctx.asyncAssertFailure(err -> {
+        ctx.assertTrue(err.getMessage().contains("PgConnection#copyFrom"));
+        conn.query("SELECT 1").execute(ctx.asyncAssertSuccess(res -> async.complete()));
+      }));
+    });
+  }
+
+  @Test
+  public void testCopyTo(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      Buffer received = Buffer.buffer();
+      ReadStream<Buffer> stream = conn.copyTo("COPY (SELECT i, 'value-' || i FROM generate_series(1, 10000) AS i) TO STDOUT");
+      stream.exceptionHandler(ctx::fail);
+      stream.endHandler(v -> {
+        String[] lines = received.toString().split("\n");
+        ctx.assertEquals(10000, lines.length);
+        ctx.assertTrue(lines[0].startsWith("1\t"));
+        // the connection can be used after the copy
+        conn.query("SELECT 1").execute(ctx.asyncAssertSuccess(res -> async.complete()));
+      });
+      stream.handler(received::appendBuffer);
+    }));
+  }
+
+  @Test
+  public void testCopyToPauseResume(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      Buffer received = Buffer.buffer();
+      ReadStream<Buffer> stream = conn.copyTo("COPY (SELECT i, 'value-' || i FROM generate_series(1, 10000) AS i) TO STDOUT");
+      stream.exceptionHandler(ctx::fail);
+      stream.endHandler(v -> {
+        ctx.assertEquals(10000, received.toString().split("\n").length);
+        async.complete();
+      });
+      stream.handler(data -> {
+        received.appendBuffer(data);
+        stream.pause();
+        vertx.setTimer(1, id -> stream.resume());
+      });
+    }));
+  }
+
+  @Test
+  public void testCopyToFailure(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      ReadStream<Buffer> stream = conn.copyTo("COPY does_not_exist TO STDOUT");
+      stream.endHandler(v -> ctx.fail());
+      stream.exceptionHandler(err -> {
+        conn.query("SELECT 1").execute(ctx.asyncAssertSuccess(res -> async.complete()));
+      });
+      stream.handler(data -> ctx.fail());
+    }));
+  }
+
+  private void withCopyTable(TestContext ctx, Consumer<PgConnection> test) {
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("CREATE TEMPORARY TABLE copy_test (id INTEGER PRIMARY KEY, val VARCHAR)").execute(ctx.asyncAssertSuccess(v -> {
+        test.accept(conn);
+      }));
+    }));
+  }
+
+  private void openFile(TestContext ctx, Buffer data, Consumer<AsyncFile> handler) {
+    File file;
+    try {
+      file = File.createTempFile("vertx", ".copy");
+      file.deleteOnExit();
+      Files.write(file.toPath(), data.getBytes());
+    } catch (Exception e) {
+      ctx.fail(e);
+      return;
+    }
+    vertx.fileSystem().open(file.getAbsolutePath(), new OpenOptions().setRead(true), ctx.asyncAssertSuccess(handler::accept));
+  }
+}
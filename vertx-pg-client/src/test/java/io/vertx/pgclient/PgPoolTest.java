@@ -22,12 +22,17 @@ import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.Repeat;
 import io.vertx.ext.unit.junit.RepeatRule;
 import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.PreparedStatementCacheMetrics;
+import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.SqlClient;
 import io.vertx.sqlclient.Tuple;
 import org.junit.Rule;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -175,6 +180,95 @@ public class PgPoolTest extends PgPoolTestBase {
     }
   }
 
+  // The second connection executes in binary format the simple query described by the first connection
+  @Test
+  public void testSharedStatementDescription(TestContext ctx) {
+    Async async = ctx.async();
+    List<Character> writes = Collections.synchronizedList(new ArrayList<>());
+    ProxyServer proxy = ProxyServer.create(vertx, options.getPort(), options.getHost());
+    proxy.proxyHandler(conn -> {
+      conn.clientHandler(buff -> {
+        // the type of the first message of the write
+        writes.add((char) buff.getByte(0));
+        conn.serverSocket().write(buff);
+      });
+      conn.connect();
+    });
+    proxy.listen(8080, "localhost", ctx.asyncAssertSuccess(v -> {
+      PgPool pool = createPool(new PgConnectOptions(options).setPort(8080).setHost("localhost")
+        .setCachePreparedStatements(true)
+        .setBinarySimpleQueries(true), 2);
+      String sql = "SELECT id, message FROM Fortune WHERE id=1";
+      pool.getConnection(ctx.asyncAssertSuccess(conn1 -> {
+        conn1.query(sql).execute(ctx.asyncAssertSuccess(res1 -> {
+          ctx.assertFalse(writes.contains('P'));
+          pool.getConnection(ctx.asyncAssertSuccess(conn2 -> {
+            conn2.query(sql).execute(ctx.asyncAssertSuccess(res2 -> {
+              ctx.assertTrue(writes.contains('P'));
+              Row row = res2.iterator().next();
+              ctx.assertEquals(1, row.getInteger("id"));
+              ctx.assertEquals("fortune: No such file or directory", row.getString("message"));
+              conn1.close();
+              conn2.close();
+              async.complete();
+            }));
+          }));
+        }));
+      }));
+    }));
+  }
+
+  // The second connection decodes with the types described for its execution and refreshes the shared description
+  @Test
+  public void testSharedStatementDescriptionTypeChange(TestContext ctx) {
+    Async async = ctx.async();
+    PgPool pool = createPool(new PgConnectOptions(this.options).setCachePreparedStatements(true).setBinarySimpleQueries(true), 2);
+    String sql = "SELECT val FROM shared_unstable";
+    pool.getConnection(ctx.asyncAssertSuccess(conn1 -> {
+      conn1.query("DROP TABLE IF EXISTS shared_unstable").execute(ctx.asyncAssertSuccess(drop -> {
+        conn1.query("CREATE TABLE shared_unstable (val INTEGER)").execute(ctx.asyncAssertSuccess(create -> {
+          conn1.query("INSERT INTO shared_unstable VALUES (1)").execute(ctx.asyncAssertSuccess(insert -> {
+            conn1.query(sql).execute(ctx.asyncAssertSuccess(res1 -> {
+              ctx.assertEquals(1, res1.iterator().next().getValue(0));
+              conn1.query("ALTER TABLE shared_unstable ALTER COLUMN val TYPE VARCHAR USING val::text").execute(ctx.asyncAssertSuccess(alter -> {
+                pool.getConnection(ctx.asyncAssertSuccess(conn2 -> {
+                  conn2.query(sql).execute(ctx.asyncAssertSuccess(res2 -> {
+                    ctx.assertEquals("1", res2.iterator().next().getValue(0));
+                    conn2.close();
+                    conn1.query(sql).execute(ctx.asyncAssertSuccess(res3 -> {
+                      ctx.assertEquals("1", res3.iterator().next().getValue(0));
+                      conn1.query("DROP TABLE shared_unstable").execute(ctx.asyncAssertSuccess(v -> {
+                        conn1.close();
+                        async.complete();
+                      }));
+                    }));
+                  }));
+                }));
+              }));
+            }));
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testPreparedStatementCacheMetrics(TestContext ctx) {
+    PgPool pool = createPool(new PgConnectOptions(this.options).setCachePreparedStatements(true), 1);
+    String sql = "SELECT id, message FROM Fortune WHERE id=$1";
+    pool.preparedQuery(sql).execute(Tuple.of(1), ctx.asyncAssertSuccess(res1 -> {
+      pool.preparedQuery(sql).execute(Tuple.of(2), ctx.asyncAssertSuccess(res2 -> {
+        PreparedStatementCacheMetrics metrics = pool.preparedStatementCacheMetrics();
+        ctx.assertEquals(1L, metrics.hitCount());
+        ctx.assertEquals(1L, metrics.missCount());
+        ctx.assertEquals(0.5D, metrics.hitRatio());
+        ctx.assertEquals(1L, metrics.prepareCount());
+        ctx.assertEquals(0L, metrics.evictionCount());
+        ctx.assertEquals(0L, metrics.indeterminateRetryCount());
+      }));
+    }));
+  }
+
   @Test
   public void testUseAvailableResources(TestContext ctx) {
     int poolSize = 10;
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.pgclient.replication.PgReplicationConnection;
+import io.vertx.pgclient.replication.PgReplicationStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PgReplicationTest extends PgTestBase {
+
+  Vertx vertx;
+
+  @Before
+  public void setup() throws Exception {
+    super.setup();
+    vertx = Vertx.vertx();
+  }
+
+  @After
+  public void teardown(TestContext ctx) {
+    vertx.close(ctx.asyncAssertSuccess());
+  }
+
+  @Test
+  public void testReplicationStream(TestContext ctx) {
+    Async async = ctx.async();
+    PgReplicationConnection.connect(vertx, options, ctx.asyncAssertSuccess(repl -> {
+      repl.query("CREATE_REPLICATION_SLOT stream_slot TEMPORARY LOGICAL test_decoding").execute(ctx.asyncAssertSuccess(slot -> {
+        ctx.assertEquals("stream_slot", slot.iterator().next().getString("slot_name"));
+        PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+          conn.query("CREATE TABLE IF NOT EXISTS replication_test (id INTEGER PRIMARY KEY, val VARCHAR)").execute(ctx.asyncAssertSuccess(v1 -> {
+            conn.query("INSERT INTO replication_test VALUES (1, 'replicated')").execute(ctx.asyncAssertSuccess(v2 -> {
+              PgReplicationStream stream = repl.replicationStream("START_REPLICATION SLOT stream_slot LOGICAL 0/0");
+              Buffer received = Buffer.buffer();
+              stream.exceptionHandler(ctx::fail);
+              stream.endHandler(v -> {
+                ctx.assertTrue(received.toString().contains("INSERT: id[integer]:1 val[character varying]:'replicated'"));
+                conn.query("DROP TABLE replication_test").execute(ctx.asyncAssertSuccess(v3 -> async.complete()));
+              });
+              stream.statusInterval(100).handler(data -> {
+                received.appendBuffer(data);
+                ctx.assertTrue(stream.lastReceivedLSN() > 0);
+                if (data.toString().startsWith("COMMIT")) {
+                  stream.flushedLSN(stream.lastReceivedLSN());
+                  if (received.toString().contains("INSERT")) {
+                    stream.stop();
+                  }
+                }
+              });
+            }));
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testReplicationStreamBackendTerminated(TestContext ctx) {
+    Async async = ctx.async();
+    vertx.exceptionHandler(ctx::fail);
+    PgReplicationConnection.connect(vertx, options, ctx.asyncAssertSuccess(repl -> {
+      repl.query("CREATE_REPLICATION_SLOT terminated_slot TEMPORARY LOGICAL test_decoding").execute(ctx.asyncAssertSuccess(slot -> {
+        repl.query("SELECT pg_backend_pid()").execute(ctx.asyncAssertSuccess(pid -> {
+          int backendPid = pid.iterator().next().getInteger(0);
+          PgReplicationStream stream = repl.replicationStream("START_REPLICATION SLOT terminated_slot LOGICAL 0/0");
+          stream.endHandler(v -> ctx.fail());
+          stream.exceptionHandler(err -> {
+            // the status updates are not sent on the closed connection anymore
+            vertx.setTimer(500, id -> async.complete());
+          });
+          stream.statusInterval(50).handler(data -> {});
+          vertx.setTimer(200, id -> {
+            PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+              conn.query("SELECT pg_terminate_backend(" + backendPid + ")").execute(ctx.asyncAssertSuccess(v -> conn.close()));
+            }));
+          });
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testReplicationStreamInvalidSlot(TestContext ctx) {
+    Async async = ctx.async();
+    PgReplicationConnection.connect(vertx, options, ctx.asyncAssertSuccess(repl -> {
+      PgReplicationStream stream = repl.replicationStream("START_REPLICATION SLOT does_not_exist LOGICAL 0/0");
+      stream.endHandler(v -> ctx.fail());
+      stream.exceptionHandler(err -> {
+        // the connection can be used after the failure
+        repl.query("IDENTIFY_SYSTEM").execute(ctx.asyncAssertSuccess(res -> async.complete()));
+      });
+      stream.handler(data -> ctx.fail());
+    }));
+  }
+}
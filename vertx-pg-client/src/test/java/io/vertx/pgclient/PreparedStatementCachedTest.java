@@ -17,6 +17,8 @@
 
 package io.vertx.pgclient;
 
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.sqlclient.Row;
@@ -24,6 +26,9 @@ import io.vertx.sqlclient.Tuple;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class PreparedStatementCachedTest extends PreparedStatementTestBase {
@@ -63,6 +68,136 @@ public class PreparedStatementCachedTest extends PreparedStatementTestBase {
     }));
   }
 
+  @Test
+  public void testBinarySimpleQuery(TestContext ctx) {
+    Async async = ctx.async();
+    List<Character> messages = new ArrayList<>();
+    connectWithProxy(ctx, options().setBinarySimpleQueries(true), messages, conn -> {
+      String sql = "SELECT 1::integer \"integer\", 'str' \"string\", 12.345::numeric \"numeric\", '2017-05-14 19:35:58.237666'::timestamp \"timestamp\"";
+      // the first execution describes the query, the second one receives the rows in binary format
+      conn.query(sql).execute(ctx.asyncAssertSuccess(res1 -> {
+        ctx.assertFalse(messages.contains('P'));
+        conn.query(sql).execute(ctx.asyncAssertSuccess(res2 -> {
+          // the second execution uses the extended query protocol
+          ctx.assertTrue(messages.contains('P'));
+          ctx.assertTrue(messages.contains('B'));
+          Row row1 = res1.iterator().next();
+          Row row2 = res2.iterator().next();
+          ctx.assertEquals(row1.size(), row2.size());
+          for (int i = 0;i < row1.size();i++) {
+            ctx.assertEquals(row1.getValue(i), row2.getValue(i));
+          }
+          ctx.assertEquals(res1.columnsNames(), res2.columnsNames());
+          conn.close();
+          async.complete();
+        }));
+      }));
+    });
+  }
+
+  @Test
+  public void testBinarySimpleQueryCacheRefreshOnTableSchemaChange(TestContext ctx) {
+    Async async = ctx.async();
+    List<Character> messages = new ArrayList<>();
+    connectWithProxy(ctx, options().setBinarySimpleQueries(true), messages, conn -> {
+      String sql = "SELECT * FROM simple_unstable WHERE id=1";
+      conn.query("CREATE TEMPORARY TABLE simple_unstable (id INTEGER, message VARCHAR)").execute(ctx.asyncAssertSuccess(create -> {
+        conn.query("INSERT INTO simple_unstable VALUES (1, 'hello')").execute(ctx.asyncAssertSuccess(insert -> {
+          conn.query(sql).execute(ctx.asyncAssertSuccess(res1 -> {
+            conn.query(sql).execute(ctx.asyncAssertSuccess(res2 -> {
+              ctx.assertEquals("hello", res2.iterator().next().getString(1));
+              // change table schema
+              conn.query("ALTER TABLE simple_unstable DROP COLUMN message").execute(ctx.asyncAssertSuccess(dropColumn -> {
+                // failure due to schema change, the query is not executed again
+                int executions = count(messages, 'E');
+                int queries = count(messages, 'Q');
+                conn.query(sql).execute(ctx.asyncAssertFailure(failure -> {
+                  ctx.assertEquals(executions + 1, count(messages, 'E'));
+                  ctx.assertEquals(queries, count(messages, 'Q'));
+                  // recover because the cache is refreshed
+                  conn.query(sql).execute(ctx.asyncAssertSuccess(res3 -> {
+                    ctx.assertEquals(1, res3.size());
+                    ctx.assertEquals(1, res3.iterator().next().size());
+                    conn.close();
+                    async.complete();
+                  }));
+                }));
+              }));
+            }));
+          }));
+        }));
+      }));
+    });
+  }
+
+  @Test
+  public void testBinarySimpleQueryCacheRefreshOnUndecodableColumn(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options().setBinarySimpleQueries(true), ctx.asyncAssertSuccess(conn -> {
+      String sql = "SELECT val FROM simple_unstable_type";
+      conn.query("CREATE TEMPORARY TABLE simple_unstable_type (val INTEGER)").execute(ctx.asyncAssertSuccess(create -> {
+        conn.query("INSERT INTO simple_unstable_type VALUES (1)").execute(ctx.asyncAssertSuccess(insert -> {
+          conn.query(sql).execute(ctx.asyncAssertSuccess(res1 -> {
+            conn.query(sql).execute(ctx.asyncAssertSuccess(res2 -> {
+              // same column count, the new type has no binary decoding
+              conn.query("ALTER TABLE simple_unstable_type ALTER COLUMN val TYPE tsvector USING to_tsvector('simple', val::text)").execute(ctx.asyncAssertSuccess(alter -> {
+                conn.query(sql).execute(ctx.asyncAssertFailure(failure -> {
+                  ctx.assertEquals("0A000", ((PgException) failure).getCode());
+                  conn.query(sql).execute(ctx.asyncAssertSuccess(res3 -> {
+                    ctx.assertEquals(1, res3.size());
+                    ctx.assertEquals("'1'", res3.iterator().next().getString(0));
+                    conn.close();
+                    async.complete();
+                  }));
+                }));
+              }));
+            }));
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testBinarySimpleQueryInTransaction(TestContext ctx) {
+    Async async = ctx.async();
+    List<Character> messages = new ArrayList<>();
+    connectWithProxy(ctx, options().setBinarySimpleQueries(true), messages, conn -> {
+      String sql = "SELECT 1::integer \"integer\"";
+      conn.query(sql).execute(ctx.asyncAssertSuccess(res1 -> {
+        conn.begin(ctx.asyncAssertSuccess(tx -> {
+          // a rejected Bind would abort the transaction, the query is sent as text
+          conn.query(sql).execute(ctx.asyncAssertSuccess(res2 -> {
+            ctx.assertFalse(messages.contains('P'));
+            ctx.assertEquals(1, res2.iterator().next().getInteger(0));
+            tx.commit(ctx.asyncAssertSuccess(v -> {
+              conn.close();
+              async.complete();
+            }));
+          }));
+        }));
+      }));
+    });
+  }
+
+  @Test
+  public void testBinarySimpleQueryPipelined(TestContext ctx) {
+    Async async = ctx.async(2);
+    List<Character> messages = new ArrayList<>();
+    connectWithProxy(ctx, options().setBinarySimpleQueries(true).setPipeliningLimit(16), messages, conn -> {
+      String sql = "SELECT 1::integer \"integer\"";
+      conn.query(sql).execute(ctx.asyncAssertSuccess(res1 -> {
+        // a pipelined query can follow a command changing the transaction status, the query is sent as text
+        conn.query("SELECT 2").execute(ctx.asyncAssertSuccess(res2 -> async.countDown()));
+        conn.query(sql).execute(ctx.asyncAssertSuccess(res3 -> {
+          ctx.assertFalse(messages.contains('P'));
+          ctx.assertEquals(1, res3.iterator().next().getInteger(0));
+          async.countDown();
+        }));
+      }));
+    });
+  }
+
   @Test
   public void testMaxPreparedStatementEviction(TestContext ctx) {
     testPreparedStatements(ctx, options().setCachePreparedStatements(true).setPreparedStatementCacheMaxSize(16), 128, 16);
@@ -106,4 +241,52 @@ public class PreparedStatementCachedTest extends PreparedStatementTestBase {
       }));
     }));
   }
+
+  private static int count(List<Character> messages, char type) {
+    int count = 0;
+    for (char c : messages) {
+      if (c == type) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Connect through a proxy recording the type of the messages sent by the client.
+   */
+  private void connectWithProxy(TestContext ctx, PgConnectOptions options, List<Character> messages, Handler<PgConnection> handler) {
+    ProxyServer proxy = ProxyServer.create(vertx, options.getPort(), options.getHost());
+    proxy.proxyHandler(conn -> {
+      Buffer[] pending = { Buffer.buffer() };
+      AtomicBoolean startup = new AtomicBoolean(true);
+      conn.clientHandler(buff -> {
+        Buffer data = pending[0].appendBuffer(buff);
+        int pos = 0;
+        while (true) {
+          // the startup message has no type
+          int offset = startup.get() ? 0 : 1;
+          if (data.length() - pos < offset + 4) {
+            break;
+          }
+          int len = data.getInt(pos + offset);
+          if (data.length() - pos < offset + len) {
+            break;
+          }
+          if (startup.get()) {
+            startup.set(false);
+          } else {
+            messages.add((char) data.getByte(pos));
+          }
+          pos += offset + len;
+        }
+        pending[0] = data.getBuffer(pos, data.length());
+        conn.serverSocket().write(buff);
+      });
+      conn.connect();
+    });
+    proxy.listen(8080, "localhost", ctx.asyncAssertSuccess(v -> {
+      PgConnection.connect(vertx, new PgConnectOptions(options).setPort(8080).setHost("localhost"), ctx.asyncAssertSuccess(handler));
+    }));
+  }
 }
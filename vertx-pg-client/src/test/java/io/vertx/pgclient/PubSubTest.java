@@ -26,7 +26,9 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -306,4 +308,64 @@ public class PubSubTest extends PgTestBase {
     endLatch.awaitSuccess(10000);
     closeLatch.awaitSuccess(10000);
   }
+
+  @Test
+  public void testSubscribeMultipleChannels(TestContext ctx) {
+    subscriber = PgSubscriber.subscriber(vertx, options);
+    Async connectLatch = ctx.async();
+    subscriber.connect(ctx.asyncAssertSuccess(v -> connectLatch.complete()));
+    connectLatch.awaitSuccess(10000);
+    Async subscribedLatch = ctx.async(3);
+    Async notifiedLatch = ctx.async(3);
+    for (int i = 0;i < 3;i++) {
+      String expected = "msg" + i;
+      subscriber.channel("channel" + i)
+        .subscribeHandler(v -> subscribedLatch.countDown())
+        .handler(notif -> {
+          ctx.assertEquals(expected, notif);
+          notifiedLatch.countDown();
+        });
+    }
+    subscribedLatch.awaitSuccess(10000);
+    subscriber.actualConnection().query("NOTIFY channel0, 'msg0';NOTIFY channel1, 'msg1';NOTIFY channel2, 'msg2'").execute(ctx.asyncAssertSuccess());
+    notifiedLatch.awaitSuccess(10000);
+  }
+
+  @Test
+  public void testPausedChannelBuffer(TestContext ctx) {
+    testPausedChannel(ctx, false, "NOTIFY the_channel, 'msg1';NOTIFY the_channel, 'msg2';NOTIFY the_channel, 'msg3'", Arrays.asList("msg1", "msg2"));
+  }
+
+  @Test
+  public void testPausedChannelCoalesce(TestContext ctx) {
+    // notifications with the same payload sent in the same transaction are folded by the server
+    testPausedChannel(ctx, true, "NOTIFY the_channel, 'msg1'", Arrays.asList("msg1"));
+  }
+
+  private void testPausedChannel(TestContext ctx, boolean coalesce, String notify, List<String> expected) {
+    subscriber = PgSubscriber.subscriber(vertx, options);
+    Async connectLatch = ctx.async();
+    subscriber.connect(ctx.asyncAssertSuccess(v -> connectLatch.complete()));
+    connectLatch.awaitSuccess(10000);
+    List<String> received = new ArrayList<>();
+    PgChannel channel = subscriber.channel("the_channel").bufferSize(2).coalesce(coalesce);
+    Async subscribedLatch = ctx.async();
+    channel.subscribeHandler(v -> subscribedLatch.complete());
+    channel.handler(received::add);
+    subscribedLatch.awaitSuccess(10000);
+    channel.pause();
+    Async async = ctx.async();
+    PgConnection conn = subscriber.actualConnection();
+    conn.query(notify).execute(ctx.asyncAssertSuccess(v1 -> {
+      conn.query(notify).execute(ctx.asyncAssertSuccess(v2 -> {
+        // notifications are received before the query completes
+        ctx.assertEquals(0, received.size());
+        channel.fetch(1);
+        ctx.assertEquals(expected.subList(0, 1), received);
+        channel.resume();
+        ctx.assertEquals(expected, received);
+        async.complete();
+      }));
+    }));
+  }
 }
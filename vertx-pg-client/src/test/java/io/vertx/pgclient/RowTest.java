@@ -251,4 +251,29 @@ public class RowTest extends PgTestBase {
         }));
     }));
   }
+
+  @Test
+  public void testLazyRowDecoding(TestContext ctx) {
+    Async async = ctx.async(2);
+    PgConnection.connect(vertx, new PgConnectOptions(options).setLazyRowDecoding(true), ctx.asyncAssertSuccess(conn -> {
+      String sql = "SELECT 1::integer \"integer\", 'str' \"string\", NULL::text \"null\", ARRAY[1, 2, 3] \"array\"";
+      conn.query(sql).execute(ctx.asyncAssertSuccess(result -> {
+        checkLazyRow(ctx, result.iterator().next());
+        async.countDown();
+      }));
+      conn.preparedQuery(sql).execute(ctx.asyncAssertSuccess(result -> {
+        checkLazyRow(ctx, result.iterator().next());
+        async.countDown();
+      }));
+    }));
+  }
+
+  private static void checkLazyRow(TestContext ctx, Row row) {
+    ctx.assertEquals(4, row.size());
+    ctx.assertEquals("str", row.getString("string"));
+    ctx.assertEquals(1, row.getInteger("integer"));
+    ctx.assertEquals(1, row.getInteger("integer"));
+    ctx.assertNull(row.getValue("null"));
+    ctx.assertTrue(Arrays.equals(new Integer[]{1, 2, 3}, row.getArrayOfIntegers("array")));
+  }
 }
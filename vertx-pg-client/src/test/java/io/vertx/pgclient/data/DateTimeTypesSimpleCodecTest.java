@@ -101,6 +101,16 @@ public class DateTimeTypesSimpleCodecTest extends SimpleQueryDataTypeCodecTestBa
     testTimestamp(ctx, "2017-05-14 19:35:58.237666", LocalDateTime.parse("2017-05-14T19:35:58.237666"));
   }
 
+  @Test
+  public void testTimestampShortFraction(TestContext ctx) {
+    testTimestamp(ctx, "2017-05-14 19:35:58.5", LocalDateTime.parse("2017-05-14T19:35:58.500"));
+  }
+
+  @Test
+  public void testTimestampNoFraction(TestContext ctx) {
+    testTimestamp(ctx, "12017-05-14 19:35:58", LocalDateTime.parse("+12017-05-14T19:35:58"));
+  }
+
   @Test
   public void testTimestampToday(TestContext ctx) {
     testTimestamp(ctx, "today", TODAY);
@@ -446,7 +446,6 @@ public class NumericTypesExtendedCodecTest extends ExtendedQueryDataTypeCodecTes
     }));
   }
 
-/*
   @Test
   public void testNumeric(TestContext ctx) {
     testGeneric(ctx,
@@ -458,9 +457,21 @@ public class NumericTypesExtendedCodecTest extends ExtendedQueryDataTypeCodecTes
         Numeric.NaN
       }, Tuple::getNumeric);
   }
-*/
 
-/*
+  @Test
+  public void testNumericScale(TestContext ctx) {
+    testGeneric(ctx,
+      "SELECT c FROM (VALUES ($1 :: NUMERIC)) AS t (c)",
+      new Numeric[]{
+        Numeric.create(new BigDecimal("0.00")),
+        Numeric.create(new BigDecimal("-1.50")),
+        Numeric.create(new BigDecimal("0.00005")),
+        Numeric.create(new BigDecimal("10000.0001")),
+        Numeric.create(new BigDecimal("12345678901234567890.0987654321")),
+        Numeric.create(new BigDecimal("-98765432109876543210987654321098765432109876543210"))
+      }, Tuple::getNumeric);
+  }
+
   @Test
   public void testNumericArray(TestContext ctx) {
     testGeneric(ctx,
@@ -468,7 +479,6 @@ public class NumericTypesExtendedCodecTest extends ExtendedQueryDataTypeCodecTes
       new Numeric[][]{new Numeric[]{Numeric.create(10), Numeric.create(200030004), null, Numeric.create(-500), Numeric.NaN, null}},
       Tuple::getArrayOfNumerics);
   }
-*/
 
   @Test
   public void testShortArray(TestContext ctx) {
@@ -67,6 +67,8 @@ public class ContainerPgRule extends ExternalResource {
       .withDatabaseName("postgres")
       .withUsername("postgres")
       .withPassword("postgres")
+      // logical decoding is required by the replication tests
+      .withCommand("postgres", "-c", "fsync=off", "-c", "wal_level=logical")
       .withCopyFileToContainer(MountableFile.forHostPath(setupFile.toPath()), "/docker-entrypoint-initdb.d/create-postgres.sql");
     if (ssl) {
       server.withCopyFileToContainer(MountableFile.forHostPath(getTestResource("resources" + File.separator + "server.crt").toPath()), "/server.crt")
@@ -14,11 +14,15 @@ import io.vertx.codegen.type.TypeInfo;
 import io.vertx.sqlclient.templates.RowMapper;
 import io.vertx.sqlclient.templates.annotations.Column;
 import io.vertx.sqlclient.templates.annotations.RowMapped;
+import io.vertx.sqlclient.templates.impl.ColumnIndexes;
 
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -66,6 +70,9 @@ public class RowMapperGen extends MapperGenBase {
   }
 
   private void genFromRow(String visibility, DataObjectModel model, PrintWriter writer) {
+    List<String> columns = new ArrayList<>();
+    StringWriter body = new StringWriter();
+    genFromSingleValued(model, new PrintWriter(body), columns);
     writer.print("\n");
     writer.print("  @io.vertx.codegen.annotations.GenIgnore\n");
     writer.print("  " + genSimpleName(model) + " INSTANCE = new " + genSimpleName(model) + "() { };\n");
@@ -74,16 +81,24 @@ public class RowMapperGen extends MapperGenBase {
     writer.print("  java.util.stream.Collector<io.vertx.sqlclient.Row, ?, java.util.List<" + model.getType().getSimpleName() + ">> COLLECTOR = " + "java.util.stream.Collectors.mapping(INSTANCE::map, java.util.stream.Collectors.toList());\n");
     writer.print("\n");
     writer.print("  @io.vertx.codegen.annotations.GenIgnore\n");
+    writer.print("  " + ColumnIndexes.class.getName() + " COLUMNS = new " + ColumnIndexes.class.getName() + "(");
+    for (int i = 0;i < columns.size();i++) {
+      writer.print((i > 0 ? ", " : "") + "\"" + columns.get(i) + "\"");
+    }
+    writer.print(");\n");
+    writer.print("\n");
+    writer.print("  @io.vertx.codegen.annotations.GenIgnore\n");
     writer.print("  default " + model.getType().getSimpleName() + " map(io.vertx.sqlclient.Row row) {\n");
     writer.print("    " + model.getType().getSimpleName() + " obj = new " + model.getType().getSimpleName() + "();\n");
     writer.print("    Object val;\n");
     writer.print("    int idx;\n");
-    genFromSingleValued(model, writer);
+    writer.print("    int[] indexes = COLUMNS.resolve(row);\n");
+    writer.print(body);
     writer.print("    return obj;\n");
     writer.print("  }\n");
   }
 
-  private void genFromSingleValued(DataObjectModel model, PrintWriter writer) {
+  private void genFromSingleValued(DataObjectModel model, PrintWriter writer, List<String> columns) {
     model
       .getPropertyMap()
       .values()
@@ -96,21 +111,21 @@ public class RowMapperGen extends MapperGenBase {
           case VALUE: {
             Function<String, String> meth = getter_(prop.getType(), false);
             if (meth != null) {
-              bilto4(writer, meth, prop, wrapExpr(prop.getType(), "(" + rowType + ")val"));
+              bilto4(writer, columns, meth, prop, wrapExpr(prop.getType(), "(" + rowType + ")val"));
             }
             break;
           }
           case LIST: {
             Function<String, String> meth = getter_(prop.getType(), true);
             if (meth != null) {
-              bilto4(writer, meth, prop, "java.util.Arrays.stream((" + rowType + "[])val).map(elt -> " + wrapExpr(prop.getType(), "elt") + ").collect(java.util.stream.Collectors.toCollection(java.util.ArrayList::new))");
+              bilto4(writer, columns, meth, prop, "java.util.Arrays.stream((" + rowType + "[])val).map(elt -> " + wrapExpr(prop.getType(), "elt") + ").collect(java.util.stream.Collectors.toCollection(java.util.ArrayList::new))");
             }
             break;
           }
           case SET: {
             Function<String, String> meth = getter_(prop.getType(), true);
             if (meth != null) {
-              bilto4(writer, meth, prop, "java.util.Arrays.stream((" + rowType + "[])val).map(elt -> " + wrapExpr(prop.getType(), "elt") + ").collect(java.util.stream.Collectors.toCollection(java.util.HashSet::new))");
+              bilto4(writer, columns, meth, prop, "java.util.Arrays.stream((" + rowType + "[])val).map(elt -> " + wrapExpr(prop.getType(), "elt") + ").collect(java.util.stream.Collectors.toCollection(java.util.HashSet::new))");
             }
             break;
           }
@@ -128,7 +143,8 @@ public class RowMapperGen extends MapperGenBase {
           String columnName = getMappingName(prop, Column.class.getName());
           if (columnName != null) {
             String rowType = rowType(prop.getType());
-            writer.print("    if ((idx = row.getColumnIndex(\"" + columnName + "\")) != -1 && (val = " + meth.apply("idx") + ") != null) {\n");
+            writer.print("    if ((idx = indexes[" + columns.size() + "]) != -1 && (val = " + meth.apply("idx") + ") != null) {\n");
+            columns.add(columnName);
             writer.print("      for (" + rowType + " elt : (" + rowType + "[])val) {\n");
             writer.print("        obj." + prop.getAdderMethod() + "(" + wrapExpr(prop.getType(), "elt") + ");\n");
             writer.print("      }\n");
@@ -138,10 +154,11 @@ public class RowMapperGen extends MapperGenBase {
       });
   }
 
-  private void bilto4(PrintWriter writer, Function<String, String> getter, PropertyInfo prop, String converter) {
+  private void bilto4(PrintWriter writer, List<String> columns, Function<String, String> getter, PropertyInfo prop, String converter) {
     String columnName = getMappingName(prop, Column.class.getName());
     if (columnName != null) {
-      writer.print("    if ((idx = row.getColumnIndex(\"" + columnName + "\")) != -1 && (val = " + getter.apply("idx") + ") != null) {\n");
+      writer.print("    if ((idx = indexes[" + columns.size() + "]) != -1 && (val = " + getter.apply("idx") + ") != null) {\n");
+      columns.add(columnName);
       writer.print("      obj." + prop.getSetterMethod() + "(" + converter +  ");\n");
       writer.print("    }\n");
     }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.sqlclient.templates.impl;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.impl.RowDesc;
+import io.vertx.sqlclient.impl.RowInternal;
+
+/**
+ * Resolves the indexes of a fixed set of columns against a row, used by the generated row mappers.
+ *
+ * <p>All the rows of a result share the same {@link RowDesc}, the indexes are resolved once
+ * for the description and then reused for each row of the same result.
+ */
+public class ColumnIndexes {
+
+  private final String[] columns;
+  private volatile Resolved resolved;
+
+  public ColumnIndexes(String... columns) {
+    this.columns = columns;
+  }
+
+  /**
+   * @param row the row
+   * @return the index of each column in the row or {@code -1} when the row does not contain the column
+   */
+  public int[] resolve(Row row) {
+    if (row instanceof RowInternal) {
+      RowDesc desc = ((RowInternal) row).desc();
+      Resolved r = resolved;
+      if (r == null || r.desc != desc) {
+        r = new Resolved(desc, lookup(row));
+        resolved = r;
+      }
+      return r.indexes;
+    }
+    return lookup(row);
+  }
+
+  private int[] lookup(Row row) {
+    int[] indexes = new int[columns.length];
+    for (int i = 0;i < columns.length;i++) {
+      indexes[i] = row.getColumnIndex(columns[i]);
+    }
+    return indexes;
+  }
+
+  private static class Resolved {
+
+    private final RowDesc desc;
+    private final int[] indexes;
+
+    private Resolved(RowDesc desc, int[] indexes) {
+      this.desc = desc;
+      this.indexes = indexes;
+    }
+  }
+}
@@ -13,12 +13,16 @@ public interface LocalDateTimeDataObjectRowMapper extends io.vertx.sqlclient.tem
   @io.vertx.codegen.annotations.GenIgnore
   java.util.stream.Collector<io.vertx.sqlclient.Row, ?, java.util.List<LocalDateTimeDataObject>> COLLECTOR = java.util.stream.Collectors.mapping(INSTANCE::map, java.util.stream.Collectors.toList());
 
+  @io.vertx.codegen.annotations.GenIgnore
+  io.vertx.sqlclient.templates.impl.ColumnIndexes COLUMNS = new io.vertx.sqlclient.templates.impl.ColumnIndexes("localDateTime");
+
   @io.vertx.codegen.annotations.GenIgnore
   default LocalDateTimeDataObject map(io.vertx.sqlclient.Row row) {
     LocalDateTimeDataObject obj = new LocalDateTimeDataObject();
     Object val;
     int idx;
-    if ((idx = row.getColumnIndex("localDateTime")) != -1 && (val = row.getLocalDateTime(idx)) != null) {
+    int[] indexes = COLUMNS.resolve(row);
+    if ((idx = indexes[0]) != -1 && (val = row.getLocalDateTime(idx)) != null) {
       obj.setLocalDateTime((java.time.LocalDateTime)val);
     }
     return obj;
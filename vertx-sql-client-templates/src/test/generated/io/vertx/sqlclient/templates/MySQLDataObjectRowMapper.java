@@ -13,12 +13,16 @@ public interface MySQLDataObjectRowMapper extends io.vertx.sqlclient.templates.R
   @io.vertx.codegen.annotations.GenIgnore
   java.util.stream.Collector<io.vertx.sqlclient.Row, ?, java.util.List<MySQLDataObject>> COLLECTOR = java.util.stream.Collectors.mapping(INSTANCE::map, java.util.stream.Collectors.toList());
 
+  @io.vertx.codegen.annotations.GenIgnore
+  io.vertx.sqlclient.templates.impl.ColumnIndexes COLUMNS = new io.vertx.sqlclient.templates.impl.ColumnIndexes("duration");
+
   @io.vertx.codegen.annotations.GenIgnore
   default MySQLDataObject map(io.vertx.sqlclient.Row row) {
     MySQLDataObject obj = new MySQLDataObject();
     Object val;
     int idx;
-    if ((idx = row.getColumnIndex("duration")) != -1 && (val = row.get(java.time.Duration.class, idx)) != null) {
+    int[] indexes = COLUMNS.resolve(row);
+    if ((idx = indexes[0]) != -1 && (val = row.get(java.time.Duration.class, idx)) != null) {
       obj.setDuration((java.time.Duration)val);
     }
     return obj;
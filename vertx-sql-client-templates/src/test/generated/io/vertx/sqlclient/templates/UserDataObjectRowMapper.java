@@ -13,18 +13,22 @@ public interface UserDataObjectRowMapper extends io.vertx.sqlclient.templates.Ro
   @io.vertx.codegen.annotations.GenIgnore
   java.util.stream.Collector<io.vertx.sqlclient.Row, ?, java.util.List<UserDataObject>> COLLECTOR = java.util.stream.Collectors.mapping(INSTANCE::map, java.util.stream.Collectors.toList());
 
+  @io.vertx.codegen.annotations.GenIgnore
+  io.vertx.sqlclient.templates.impl.ColumnIndexes COLUMNS = new io.vertx.sqlclient.templates.impl.ColumnIndexes("first_name", "id", "last_name");
+
   @io.vertx.codegen.annotations.GenIgnore
   default UserDataObject map(io.vertx.sqlclient.Row row) {
     UserDataObject obj = new UserDataObject();
     Object val;
     int idx;
-    if ((idx = row.getColumnIndex("first_name")) != -1 && (val = row.getString(idx)) != null) {
+    int[] indexes = COLUMNS.resolve(row);
+    if ((idx = indexes[0]) != -1 && (val = row.getString(idx)) != null) {
       obj.setFirstName((java.lang.String)val);
     }
-    if ((idx = row.getColumnIndex("id")) != -1 && (val = row.getLong(idx)) != null) {
+    if ((idx = indexes[1]) != -1 && (val = row.getLong(idx)) != null) {
       obj.setId((long)val);
     }
-    if ((idx = row.getColumnIndex("last_name")) != -1 && (val = row.getString(idx)) != null) {
+    if ((idx = indexes[2]) != -1 && (val = row.getString(idx)) != null) {
       obj.setLastName((java.lang.String)val);
     }
     return obj;
@@ -46,6 +46,11 @@ public class SqlConnectOptionsConverter {
             obj.setPreparedStatementCacheMaxSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "preparedStatementCachePolicy":
+          if (member.getValue() instanceof String) {
+            obj.setPreparedStatementCachePolicy(io.vertx.sqlclient.PreparedStatementCachePolicy.valueOf((String)member.getValue()));
+          }
+          break;
         case "preparedStatementCacheSqlLimit":
           if (member.getValue() instanceof Number) {
             obj.setPreparedStatementCacheSqlLimit(((Number)member.getValue()).intValue());
@@ -92,6 +97,9 @@ public class SqlConnectOptionsConverter {
     }
     json.put("port", obj.getPort());
     json.put("preparedStatementCacheMaxSize", obj.getPreparedStatementCacheMaxSize());
+    if (obj.getPreparedStatementCachePolicy() != null) {
+      json.put("preparedStatementCachePolicy", obj.getPreparedStatementCachePolicy().name());
+    }
     if (obj.getProperties() != null) {
       JsonObject map = new JsonObject();
       obj.getProperties().forEach((key, value) -> map.put(key, value));
@@ -203,6 +203,14 @@ public interface Pool extends SqlClient {
     return getConnection().flatMap(conn -> function.apply(conn).onComplete(ar -> conn.close()));
   }
 
+  /**
+   * @return the prepared statement metrics aggregated over the connections of this pool, the metrics are all
+   *         {@code 0} when the pool does not track them
+   */
+  default PreparedStatementCacheMetrics preparedStatementCacheMetrics() {
+    return PreparedStatementCacheMetrics.empty();
+  }
+
   /**
    * Close the pool and release the associated resources.
    *
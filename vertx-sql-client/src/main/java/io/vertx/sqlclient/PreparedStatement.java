@@ -81,6 +81,21 @@ public interface PreparedStatement {
    */
   RowStream<Row> createStream(int fetch, Tuple args);
 
+  /**
+   * Like {@link #createStream(int, Tuple)} but reads ahead up to {@code prefetch} batches of {@code fetch} rows:
+   * the next batch is fetched from the database while the rows of the current batch are emitted, instead of
+   * after the current batch is exhausted.
+   * <p/>
+   * The read-ahead stops when {@code prefetch} batches are buffered and resumes when the stream consumes them,
+   * so a paused stream buffers at most {@code (prefetch + 1) * fetch} rows.
+   *
+   * @param fetch the cursor fetch size
+   * @param args the prepared query arguments
+   * @param prefetch the maximum number of batches to read ahead, {@code 0} disables the read-ahead
+   * @return the createStream
+   */
+  RowStream<Row> createStream(int fetch, Tuple args, int prefetch);
+
   /**
    * Close the prepared query and release its resources.
    */
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.sqlclient.impl.cache.PreparedStatementCacheMetricsImpl;
+
+/**
+ * Prepared statement metrics aggregated over all the connections of a pool.
+ *
+ * <p>The metrics are counters updated since the creation of the pool, the cache counters are only updated
+ * when prepared statement caching is enabled with {@link SqlConnectOptions#setCachePreparedStatements(boolean)}.
+ */
+@VertxGen
+public interface PreparedStatementCacheMetrics {
+
+  /**
+   * @return metrics that are never updated, all the counters are {@code 0}
+   */
+  static PreparedStatementCacheMetrics empty() {
+    return PreparedStatementCacheMetricsImpl.EMPTY;
+  }
+
+  /**
+   * @return the number of statement executions that found a cached prepared statement
+   */
+  long hitCount();
+
+  /**
+   * @return the number of statement executions that did not find a cached prepared statement
+   */
+  long missCount();
+
+  /**
+   * @return the ratio of hits over the cache lookups or {@code 0} when the cache was never used
+   */
+  double hitRatio();
+
+  /**
+   * @return the number of prepared statements evicted from the caches
+   */
+  long evictionCount();
+
+  /**
+   * @return the number of statements prepared by the database server, i.e the number of prepare round trips
+   */
+  long prepareCount();
+
+  /**
+   * @return the number of statements prepared again with explicit parameter types because the database
+   *         could not determine the parameter types
+   */
+  long indeterminateRetryCount();
+
+}
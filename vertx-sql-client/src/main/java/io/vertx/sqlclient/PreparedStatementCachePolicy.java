@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * The replacement policy of the prepared statement cache of a connection.
+ */
+@VertxGen
+public enum PreparedStatementCachePolicy {
+
+  /**
+   * Evict the least recently used prepared statement.
+   */
+  LRU,
+
+  /**
+   * Segmented LRU: a statement enters a probation segment and is promoted to a protected segment when it is
+   * used again, the protected statements are evicted after all the probation statements.
+   *
+   * <p>A burst of statements executed only once does not flush the statements that are frequently used.
+   */
+  SEGMENTED_LRU
+
+}
@@ -157,6 +157,54 @@ public interface Row extends Tuple {
     return getDouble(pos);
   }
 
+  /**
+   * Get a primitive {@code int} value for the given {@code column}.
+   *
+   * @param column the column name
+   * @return the {@code column} value
+   * @throws NoSuchElementException when the {@code column} does not exist
+   * @throws NullPointerException when the value is {@code null}
+   */
+  default int getIntValue(String column) {
+    int pos = getColumnIndex(column);
+    if (pos == -1) {
+      throw new NoSuchElementException("Column " + column + " does not exist");
+    }
+    return getIntValue(pos);
+  }
+
+  /**
+   * Get a primitive {@code long} value for the given {@code column}.
+   *
+   * @param column the column name
+   * @return the {@code column} value
+   * @throws NoSuchElementException when the {@code column} does not exist
+   * @throws NullPointerException when the value is {@code null}
+   */
+  default long getLongValue(String column) {
+    int pos = getColumnIndex(column);
+    if (pos == -1) {
+      throw new NoSuchElementException("Column " + column + " does not exist");
+    }
+    return getLongValue(pos);
+  }
+
+  /**
+   * Get a primitive {@code double} value for the given {@code column}.
+   *
+   * @param column the column name
+   * @return the {@code column} value
+   * @throws NoSuchElementException when the {@code column} does not exist
+   * @throws NullPointerException when the value is {@code null}
+   */
+  default double getDoubleValue(String column) {
+    int pos = getColumnIndex(column);
+    if (pos == -1) {
+      throw new NoSuchElementException("Column " + column + " does not exist");
+    }
+    return getDoubleValue(pos);
+  }
+
   /**
    * Get {@link Numeric} value for the given {@code column}.
    *
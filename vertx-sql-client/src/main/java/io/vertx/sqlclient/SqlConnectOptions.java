@@ -31,6 +31,7 @@ public class SqlConnectOptions extends NetClientOptions {
 
   public static final boolean DEFAULT_CACHE_PREPARED_STATEMENTS = false;
   public static final int DEFAULT_PREPARED_STATEMENT_CACHE_MAX_SIZE = 256;
+  public static final PreparedStatementCachePolicy DEFAULT_PREPARED_STATEMENT_CACHE_POLICY = PreparedStatementCachePolicy.LRU;
   public static final int DEFAULT_PREPARED_STATEMENT_CACHE_SQL_LIMIT = 2048;
   public static final Predicate<String> DEFAULT_PREPARED_STATEMENT_CACHE_FILTER = sql -> sql.length() < DEFAULT_PREPARED_STATEMENT_CACHE_SQL_LIMIT;
 
@@ -41,6 +42,7 @@ public class SqlConnectOptions extends NetClientOptions {
   private String database;
   private boolean cachePreparedStatements = DEFAULT_CACHE_PREPARED_STATEMENTS;
   private int preparedStatementCacheMaxSize = DEFAULT_PREPARED_STATEMENT_CACHE_MAX_SIZE;
+  private PreparedStatementCachePolicy preparedStatementCachePolicy = DEFAULT_PREPARED_STATEMENT_CACHE_POLICY;
   private Predicate<String> preparedStatementCacheSqlFilter = DEFAULT_PREPARED_STATEMENT_CACHE_FILTER;
   private Map<String, String> properties = new HashMap<>(4);
   private TracingPolicy tracingPolicy;
@@ -65,6 +67,7 @@ public class SqlConnectOptions extends NetClientOptions {
     this.database = other.database;
     this.cachePreparedStatements = other.cachePreparedStatements;
     this.preparedStatementCacheMaxSize = other.preparedStatementCacheMaxSize;
+    this.preparedStatementCachePolicy = other.preparedStatementCachePolicy;
     this.preparedStatementCacheSqlFilter = other.preparedStatementCacheSqlFilter;
     if (other.properties != null) {
       this.properties = new HashMap<>(other.properties);
@@ -218,6 +221,26 @@ public class SqlConnectOptions extends NetClientOptions {
     return this;
   }
 
+  /**
+   * Get the replacement policy of the prepared statement cache.
+   *
+   * @return the policy
+   */
+  public PreparedStatementCachePolicy getPreparedStatementCachePolicy() {
+    return preparedStatementCachePolicy;
+  }
+
+  /**
+   * Set the replacement policy of the prepared statement cache, the default policy is {@link PreparedStatementCachePolicy#LRU}.
+   *
+   * @param preparedStatementCachePolicy the policy to set
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlConnectOptions setPreparedStatementCachePolicy(PreparedStatementCachePolicy preparedStatementCachePolicy) {
+    this.preparedStatementCachePolicy = Objects.requireNonNull(preparedStatementCachePolicy, "Prepared statement cache policy can not be null");
+    return this;
+  }
+
   /**
    * Get the predicate filtering prepared statements that the connection will cache.
    *
@@ -369,6 +369,39 @@ public interface Tuple {
     }
   }
 
+  /**
+   * Get a primitive {@code int} value at {@code pos}, the value is not boxed when the tuple holds it as a primitive.
+   *
+   * @param pos the position
+   * @return the value
+   * @throws NullPointerException when the value is {@code null}
+   */
+  default int getIntValue(int pos) {
+    return getInteger(pos);
+  }
+
+  /**
+   * Get a primitive {@code long} value at {@code pos}, the value is not boxed when the tuple holds it as a primitive.
+   *
+   * @param pos the position
+   * @return the value
+   * @throws NullPointerException when the value is {@code null}
+   */
+  default long getLongValue(int pos) {
+    return getLong(pos);
+  }
+
+  /**
+   * Get a primitive {@code double} value at {@code pos}, the value is not boxed when the tuple holds it as a primitive.
+   *
+   * @param pos the position
+   * @return the value
+   * @throws NullPointerException when the value is {@code null}
+   */
+  default double getDoubleValue(int pos) {
+    return getDouble(pos);
+  }
+
   /**
    * Get {@link Numeric} value at {@code pos}.
    *
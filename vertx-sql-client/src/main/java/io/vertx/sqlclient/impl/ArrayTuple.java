@@ -28,6 +28,7 @@ public class ArrayTuple implements TupleInternal {
   public static Tuple EMPTY = new ArrayTuple(0);
 
   private Object[] values;
+  private long[] primitives;
   private int size;
 
   public ArrayTuple(int len) {
@@ -53,7 +54,53 @@ public class ArrayTuple implements TupleInternal {
 
   @Override
   public Object getValue(int pos) {
-    return pos >= 0 && pos < size ? values[pos] : null;
+    if (pos >= 0 && pos < size) {
+      Object value = values[pos];
+      if (value instanceof Primitive) {
+        // box once, later reads return the same instance
+        value = ((Primitive) value).box(primitives[pos]);
+        values[pos] = value;
+      }
+      return value;
+    }
+    return null;
+  }
+
+  @Override
+  public int getIntValue(int pos) {
+    Primitive primitive = primitive(pos);
+    if (primitive != null) {
+      return primitive.intValue(primitives[pos]);
+    }
+    return TupleInternal.super.getIntValue(pos);
+  }
+
+  @Override
+  public long getLongValue(int pos) {
+    Primitive primitive = primitive(pos);
+    if (primitive != null) {
+      return primitive.longValue(primitives[pos]);
+    }
+    return TupleInternal.super.getLongValue(pos);
+  }
+
+  @Override
+  public double getDoubleValue(int pos) {
+    Primitive primitive = primitive(pos);
+    if (primitive != null) {
+      return primitive.doubleValue(primitives[pos]);
+    }
+    return TupleInternal.super.getDoubleValue(pos);
+  }
+
+  private Primitive primitive(int pos) {
+    if (pos >= 0 && pos < size) {
+      Object value = values[pos];
+      if (value instanceof Primitive) {
+        return (Primitive) value;
+      }
+    }
+    return null;
   }
 
   @Override
@@ -67,6 +114,55 @@ public class ArrayTuple implements TupleInternal {
     return this;
   }
 
+  /**
+   * Add a {@code short} value without boxing it, the value is boxed as a {@code Short} by {@link #getValue(int)} on first access.
+   */
+  public Tuple addShortValue(short value) {
+    return addPrimitive(SHORT, value);
+  }
+
+  /**
+   * Add an {@code int} value without boxing it, the value is boxed as an {@code Integer} by {@link #getValue(int)} on first access.
+   */
+  public Tuple addIntValue(int value) {
+    return addPrimitive(INT, value);
+  }
+
+  /**
+   * Add a {@code long} value without boxing it, the value is boxed as a {@code Long} by {@link #getValue(int)} on first access.
+   */
+  public Tuple addLongValue(long value) {
+    return addPrimitive(LONG, value);
+  }
+
+  /**
+   * Add a {@code float} value without boxing it, the value is boxed as a {@code Float} by {@link #getValue(int)} on first access.
+   */
+  public Tuple addFloatValue(float value) {
+    return addPrimitive(FLOAT, Float.floatToRawIntBits(value));
+  }
+
+  /**
+   * Add a {@code double} value without boxing it, the value is boxed as a {@code Double} by {@link #getValue(int)} on first access.
+   */
+  public Tuple addDoubleValue(double value) {
+    return addPrimitive(DOUBLE, Double.doubleToRawLongBits(value));
+  }
+
+  private Tuple addPrimitive(Primitive primitive, long bits) {
+    int pos = size;
+    addValue(primitive);
+    if (primitives == null || primitives.length < values.length) {
+      long[] copy = new long[values.length];
+      if (primitives != null) {
+        System.arraycopy(primitives, 0, copy, 0, primitives.length);
+      }
+      primitives = copy;
+    }
+    primitives[pos] = bits;
+    return this;
+  }
+
   @Override
   public int size() {
     return size;
@@ -89,4 +185,79 @@ public class ArrayTuple implements TupleInternal {
     values[pos] = value;
   }
 
+  /**
+   * Marker stored in {@code values} for a value held in {@code primitives}, it knows how to convert the raw bits.
+   */
+  private static class Primitive {
+
+    Object box(long bits) {
+      return bits;
+    }
+
+    int intValue(long bits) {
+      return (int) bits;
+    }
+
+    long longValue(long bits) {
+      return bits;
+    }
+
+    double doubleValue(long bits) {
+      return bits;
+    }
+  }
+
+  private static final Primitive SHORT = new Primitive() {
+    @Override
+    Object box(long bits) {
+      return (short) bits;
+    }
+  };
+
+  private static final Primitive INT = new Primitive() {
+    @Override
+    Object box(long bits) {
+      return (int) bits;
+    }
+  };
+
+  private static final Primitive LONG = new Primitive();
+
+  private static final Primitive FLOAT = new Primitive() {
+    @Override
+    Object box(long bits) {
+      return Float.intBitsToFloat((int) bits);
+    }
+    @Override
+    int intValue(long bits) {
+      return (int) Float.intBitsToFloat((int) bits);
+    }
+    @Override
+    long longValue(long bits) {
+      return (long) Float.intBitsToFloat((int) bits);
+    }
+    @Override
+    double doubleValue(long bits) {
+      return Float.intBitsToFloat((int) bits);
+    }
+  };
+
+  private static final Primitive DOUBLE = new Primitive() {
+    @Override
+    Object box(long bits) {
+      return Double.longBitsToDouble(bits);
+    }
+    @Override
+    int intValue(long bits) {
+      return (int) Double.longBitsToDouble(bits);
+    }
+    @Override
+    long longValue(long bits) {
+      return (long) Double.longBitsToDouble(bits);
+    }
+    @Override
+    double doubleValue(long bits) {
+      return Double.longBitsToDouble(bits);
+    }
+  };
 }
@@ -21,6 +21,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.EventLoopContext;
+import io.vertx.sqlclient.PreparedStatementCacheMetrics;
 
 public interface ConnectionFactory extends Closeable {
 
@@ -39,6 +40,13 @@ public interface ConnectionFactory extends Closeable {
    */
   void connect(Promise<Connection> promise);
 
+  /**
+   * @return the prepared statement metrics of the connections created by this factory
+   */
+  default PreparedStatementCacheMetrics preparedStatementCacheMetrics() {
+    return PreparedStatementCacheMetrics.empty();
+  }
+
   default void close(Promise<Void> promise) {
     promise.complete();
   }
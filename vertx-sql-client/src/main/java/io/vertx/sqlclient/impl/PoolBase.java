@@ -26,6 +26,7 @@ import io.vertx.core.impl.future.PromiseInternal;
 import io.vertx.core.spi.metrics.ClientMetrics;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.PreparedStatementCacheMetrics;
 import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.sqlclient.impl.pool.SqlConnectionPool;
@@ -111,6 +112,11 @@ public abstract class PoolBase<P extends Pool> extends SqlClientBase<P> implemen
     return vertx.promise(handler);
   }
 
+  @Override
+  public PreparedStatementCacheMetrics preparedStatementCacheMetrics() {
+    return factory.preparedStatementCacheMetrics();
+  }
+
   @Override
   public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
     Future<SqlConnection> fut = getConnection();
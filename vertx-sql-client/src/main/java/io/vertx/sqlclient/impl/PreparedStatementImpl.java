@@ -188,6 +188,11 @@ class PreparedStatementImpl implements PreparedStatement {
     return new RowStreamImpl(this, context, fetch, args);
   }
 
+  @Override
+  public RowStream<Row> createStream(int fetch, Tuple args, int prefetch) {
+    return new RowStreamImpl(this, context, fetch, args, prefetch);
+  }
+
   @Override
   public void close(Handler<AsyncResult<Void>> completionHandler) {
     Future<Void> fut = close();
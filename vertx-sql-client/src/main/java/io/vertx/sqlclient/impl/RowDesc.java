@@ -20,7 +20,9 @@ package io.vertx.sqlclient.impl;
 import io.vertx.sqlclient.desc.ColumnDescriptor;
 
 import java.sql.JDBCType;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +33,7 @@ public class RowDesc {
 
   private final List<String> columnNames;
   private final List<ColumnDescriptor> columnDescriptors;
+  private final Map<String, Integer> columnIndexes;
 
   public RowDesc(List<String> columnNames) {
     this(columnNames, columnNames.stream().map(colName -> new ColumnDescriptor() {
@@ -52,13 +55,25 @@ public class RowDesc {
   public RowDesc(List<String> columnNames, List<ColumnDescriptor> columnDescriptors) {
     this.columnNames = columnNames;
     this.columnDescriptors = columnDescriptors;
+    this.columnIndexes = columnIndexes(columnNames);
+  }
+
+  private static Map<String, Integer> columnIndexes(List<String> columnNames) {
+    int size = columnNames.size();
+    Map<String, Integer> columnIndexes = new HashMap<>(size * 4 / 3 + 1);
+    for (int i = 0; i < size; i++) {
+      // keep the first column when names are duplicated
+      columnIndexes.putIfAbsent(columnNames.get(i), i);
+    }
+    return columnIndexes;
   }
 
   public int columnIndex(String columnName) {
     if (columnName == null) {
       throw new NullPointerException("Column name must not be null");
     }
-    return columnNames.indexOf(columnName);
+    Integer index = columnIndexes.get(columnName);
+    return index != null ? index : -1;
   }
 
   public List<String> columnNames() {
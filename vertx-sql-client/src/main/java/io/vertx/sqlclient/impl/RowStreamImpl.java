@@ -28,6 +28,8 @@ import io.vertx.sqlclient.Tuple;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 
 public class RowStreamImpl implements RowStreamInternal, Handler<AsyncResult<RowSet<Row>>> {
@@ -35,6 +37,7 @@ public class RowStreamImpl implements RowStreamInternal, Handler<AsyncResult<Row
   private final PreparedStatementImpl ps;
   private final ContextInternal context;
   private final int fetch;
+  private final int prefetch;
   private final Tuple params;
 
   private Handler<Void> endHandler;
@@ -45,11 +48,20 @@ public class RowStreamImpl implements RowStreamInternal, Handler<AsyncResult<Row
   private Cursor cursor;
   private boolean readInProgress;
   private Iterator<Row> result;
+  private final Deque<Iterator<Row>> prefetched = new ArrayDeque<>();
 
   RowStreamImpl(PreparedStatementImpl ps, ContextInternal context, int fetch, Tuple params) {
+    this(ps, context, fetch, params, 0);
+  }
+
+  RowStreamImpl(PreparedStatementImpl ps, ContextInternal context, int fetch, Tuple params, int prefetch) {
+    if (prefetch < 0) {
+      throw new IllegalArgumentException("Invalid prefetch " + prefetch);
+    }
     this.ps = ps;
     this.context = context;
     this.fetch = fetch;
+    this.prefetch = prefetch;
     this.params = params;
     this.demand = Long.MAX_VALUE;
   }
@@ -86,6 +98,7 @@ public class RowStreamImpl implements RowStreamInternal, Handler<AsyncResult<Row
           readInProgress = false;
           cursor = null;
           result = null; // Will stop the current emission if any
+          prefetched.clear();
         }
         return this;
       }
@@ -134,18 +147,32 @@ public class RowStreamImpl implements RowStreamInternal, Handler<AsyncResult<Row
         readInProgress = false;
         cursor = null;
         result = null;
+        prefetched.clear();
         handler = exceptionHandler;
       }
       if (handler != null) {
         handler.handle(ar.cause());
       }
     } else {
+      Cursor c;
       synchronized (this) {
         readInProgress = false;
+        if (cursor == null) {
+          // Closed while reading
+          return;
+        }
         RowIterator<Row> it = ar.result().iterator();
         if (it.hasNext()) {
-          result = it;
+          if (result == null) {
+            result = it;
+          } else {
+            prefetched.add(it);
+          }
         }
+        c = prefetchCursor();
+      }
+      if (c != null) {
+        c.read(fetch, this);
       }
       checkPending();
     }
@@ -157,6 +184,7 @@ public class RowStreamImpl implements RowStreamInternal, Handler<AsyncResult<Row
     synchronized (this) {
       c = cursor;
       cursor = null;
+      prefetched.clear();
     }
     if (c != null) {
       return c.close();
@@ -173,6 +201,20 @@ public class RowStreamImpl implements RowStreamInternal, Handler<AsyncResult<Row
     }
   }
 
+  /**
+   * Start the read of the next batch while the current batch is emitted, when read-ahead is enabled and less than
+   * {@code prefetch} batches are buffered.
+   *
+   * @return the cursor to read from or {@code null}
+   */
+  private Cursor prefetchCursor() {
+    if (prefetch > 0 && !readInProgress && cursor != null && prefetched.size() < prefetch && cursor.hasMore()) {
+      readInProgress = true;
+      return cursor;
+    }
+    return null;
+  }
+
   private void checkPending() {
     synchronized (RowStreamImpl.this) {
       if (emitting) {
@@ -195,7 +237,11 @@ public class RowStreamImpl implements RowStreamInternal, Handler<AsyncResult<Row
             demand--;
           }
           if (!result.hasNext()) {
-            result = null;
+            result = prefetched.poll();
+            Cursor c = prefetchCursor();
+            if (c != null) {
+              c.read(fetch, this);
+            }
           }
         } else {
           emitting = false;
@@ -33,7 +33,9 @@ import io.vertx.core.impl.NoStackTraceThrowable;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
 import io.vertx.core.net.impl.NetSocketInternal;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
 import io.vertx.sqlclient.impl.cache.PreparedStatementCache;
+import io.vertx.sqlclient.impl.cache.PreparedStatementCacheMetricsImpl;
 import io.vertx.sqlclient.impl.codec.InvalidCachedStatementEvent;
 import io.vertx.sqlclient.impl.command.*;
 
@@ -57,6 +59,7 @@ public abstract class SocketConnectionBase implements Connection {
   private static final String PENDING_CMD_CONNECTION_CORRUPT_MSG = "Pending requests failed to be sent due to connection has been closed.";
 
   protected final PreparedStatementCache psCache;
+  private final PreparedStatementCacheMetricsImpl psMetrics;
   protected final EventLoopContext context;
   private final Predicate<String> preparedStatementCacheSqlFilter;
   private Holder holder;
@@ -67,6 +70,7 @@ public abstract class SocketConnectionBase implements Connection {
   private boolean executing;
   private int inflight;
   private boolean paused;
+  private boolean exclusive;
 
   protected final NetSocketInternal socket;
   protected Status status = Status.CONNECTED;
@@ -74,6 +78,8 @@ public abstract class SocketConnectionBase implements Connection {
   public SocketConnectionBase(NetSocketInternal socket,
                               boolean cachePreparedStatements,
                               int preparedStatementCacheSize,
+                              PreparedStatementCachePolicy preparedStatementCachePolicy,
+                              PreparedStatementCacheMetricsImpl preparedStatementCacheMetrics,
                               Predicate<String> preparedStatementCacheSqlFilter,
                               int pipeliningLimit,
                               EventLoopContext context) {
@@ -81,8 +87,9 @@ public abstract class SocketConnectionBase implements Connection {
     this.context = context;
     this.pipeliningLimit = pipeliningLimit;
     this.paused = false;
-    this.psCache = cachePreparedStatements ? new PreparedStatementCache(preparedStatementCacheSize) : null;
+    this.psCache = cachePreparedStatements ? new PreparedStatementCache(preparedStatementCacheSize, preparedStatementCachePolicy, preparedStatementCacheMetrics) : null;
     this.preparedStatementCacheSqlFilter = preparedStatementCacheSqlFilter;
+    this.psMetrics = preparedStatementCacheMetrics;
   }
 
   public Context context() {
@@ -175,7 +182,13 @@ public abstract class SocketConnectionBase implements Connection {
       ChannelHandlerContext ctx = socket.channelHandlerContext();
       int written = 0;
       CommandBase<?> cmd;
-      while (!paused && inflight < pipeliningLimit && (cmd = pending.poll()) != null) {
+      while (!paused && inflight < pipeliningLimit && (cmd = pending.peek()) != null) {
+        boolean exclusiveCmd = isExclusive(cmd);
+        if (inflight > 0 && (exclusive || exclusiveCmd)) {
+          break;
+        }
+        pending.poll();
+        exclusive = exclusiveCmd;
         inflight++;
         if (cmd instanceof ExtendedQueryCommand) {
           ExtendedQueryCommand queryCmd = (ExtendedQueryCommand) cmd;
@@ -208,6 +221,9 @@ public abstract class SocketConnectionBase implements Connection {
             }
           }
         }
+        if (cmd instanceof PrepareStatementCommand && psMetrics != null) {
+          psMetrics.prepare();
+        }
         written++;
         ctx.write(cmd, ctx.voidPromise());
       }
@@ -219,6 +235,18 @@ public abstract class SocketConnectionBase implements Connection {
     }
   }
 
+  /**
+   * Returns whether a command must be the only command in flight on the connection, e.g when the protocol
+   * requires the client to write again after a response of the command, such command is not pipelined
+   * with other commands.
+   *
+   * @param cmd the command
+   * @return whether the command must be executed alone
+   */
+  protected boolean isExclusive(CommandBase<?> cmd) {
+    return false;
+  }
+
   private PrepareStatementCommand prepareCommand(ExtendedQueryCommand<?> queryCmd, boolean cache, boolean sendParameterTypes) {
     PrepareStatementCommand prepareCmd = new PrepareStatementCommand(queryCmd.sql(), cache, sendParameterTypes ? queryCmd.parameterTypes() : null);
     prepareCmd.handler = ar -> {
@@ -243,6 +271,10 @@ public abstract class SocketConnectionBase implements Connection {
         if (isIndeterminatePreparedStatementError(cause) && !sendParameterTypes) {
           ChannelHandlerContext ctx = socket.channelHandlerContext();
           // We cannot cache this prepared statement because it might be executed with another type
+          if (psMetrics != null) {
+            psMetrics.prepare();
+            psMetrics.indeterminateRetry();
+          }
           ctx.write(prepareCommand(queryCmd, false, true), ctx.voidPromise());
           ctx.flush();
         } else {
@@ -21,7 +21,10 @@ import io.vertx.core.impl.future.PromiseInternal;
 import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.SocketAddress;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
+import io.vertx.sqlclient.PreparedStatementCacheMetrics;
 import io.vertx.sqlclient.SqlConnectOptions;
+import io.vertx.sqlclient.impl.cache.PreparedStatementCacheMetricsImpl;
 
 import java.util.Collections;
 import java.util.Map;
@@ -43,7 +46,9 @@ public abstract class SqlConnectionFactoryBase implements ConnectionFactory {
   // cache
   protected final boolean cachePreparedStatements;
   protected final int preparedStatementCacheSize;
+  protected final PreparedStatementCachePolicy preparedStatementCachePolicy;
   protected final Predicate<String> preparedStatementCacheSqlFilter;
+  protected final PreparedStatementCacheMetricsImpl preparedStatementCacheMetrics = new PreparedStatementCacheMetricsImpl();
 
   // close hook
   protected final CloseFuture clientCloseFuture = new CloseFuture();
@@ -62,6 +67,7 @@ public abstract class SqlConnectionFactoryBase implements ConnectionFactory {
 
     this.cachePreparedStatements = options.getCachePreparedStatements();
     this.preparedStatementCacheSize = options.getPreparedStatementCacheMaxSize();
+    this.preparedStatementCachePolicy = options.getPreparedStatementCachePolicy();
     this.preparedStatementCacheSqlFilter = options.getPreparedStatementCacheSqlFilter();
 
     this.reconnectAttempts = options.getReconnectAttempts();
@@ -75,6 +81,11 @@ public abstract class SqlConnectionFactoryBase implements ConnectionFactory {
     this.netClient = vertx.createNetClient(netClientOptions, clientCloseFuture);
   }
 
+  @Override
+  public PreparedStatementCacheMetrics preparedStatementCacheMetrics() {
+    return preparedStatementCacheMetrics;
+  }
+
   @Override
   public void connect(Promise<Connection> promise) {
     PromiseInternal<Connection> promiseInternal = (PromiseInternal<Connection>) promise;
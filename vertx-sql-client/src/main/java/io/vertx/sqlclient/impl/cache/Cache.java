@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.cache;
+
+import java.util.List;
+
+/**
+ * A bounded cache implementing a replacement policy.
+ */
+public interface Cache<K, V> {
+
+  V get(Object key);
+
+  /**
+   * Put an entry in the cache.
+   *
+   * @return the list of values evicted to make room for the entry
+   */
+  List<V> cache(K key, V value);
+
+  V remove(Object key);
+
+  /**
+   * Evict the entry chosen by the replacement policy.
+   *
+   * @return the evicted value or {@code null} when the cache is empty
+   */
+  V evict();
+
+  int size();
+
+}
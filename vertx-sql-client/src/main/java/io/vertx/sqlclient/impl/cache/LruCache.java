@@ -25,7 +25,7 @@ import java.util.Map;
 /**
  * A LRU replacement strategy cache based on {@link java.util.LinkedHashMap} for prepared statements.
  */
-public class LruCache<K, V> extends LinkedHashMap<K, V> {
+public class LruCache<K, V> extends LinkedHashMap<K, V> implements Cache<K, V> {
 
   List<V> removed;
   private final int capacity;
@@ -40,6 +40,7 @@ public class LruCache<K, V> extends LinkedHashMap<K, V> {
    *
    * @return the eldest value or {@code null}
    */
+  @Override
   public V evict() {
     Iterator<V> it = values().iterator();
     if (it.hasNext()) {
@@ -51,6 +52,7 @@ public class LruCache<K, V> extends LinkedHashMap<K, V> {
     }
   }
 
+  @Override
   public List<V> cache(K key, V value) {
     put(key, value);
     if (removed != null) {
@@ -11,6 +11,7 @@
 
 package io.vertx.sqlclient.impl.cache;
 
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
 import io.vertx.sqlclient.impl.PreparedStatement;
 
 import java.util.List;
@@ -21,15 +22,44 @@ import java.util.List;
 public class PreparedStatementCache {
 
   private final int capacity;
-  private final LruCache<String, PreparedStatement> cache;
+  private final Cache<String, PreparedStatement> cache;
+  private final PreparedStatementCacheMetricsImpl metrics;
 
   public PreparedStatementCache(int cacheCapacity) {
+    this(cacheCapacity, PreparedStatementCachePolicy.LRU, null);
+  }
+
+  /**
+   * @param cacheCapacity the cache capacity
+   * @param policy the replacement policy
+   * @param metrics the metrics shared with other caches to report to or {@code null}
+   */
+  public PreparedStatementCache(int cacheCapacity, PreparedStatementCachePolicy policy, PreparedStatementCacheMetricsImpl metrics) {
     this.capacity = cacheCapacity;
-    this.cache = new LruCache<>(cacheCapacity);
+    this.metrics = metrics;
+    switch (policy) {
+      case SEGMENTED_LRU:
+        this.cache = new SegmentedLruCache<>(cacheCapacity);
+        break;
+      case LRU:
+      default:
+        this.cache = new LruCache<>(cacheCapacity);
+        break;
+    }
   }
 
   public PreparedStatement get(String sql) {
-    return cache.get(sql);
+    PreparedStatement ps = cache.get(sql);
+    if (ps != null) {
+      if (metrics != null) {
+        metrics.hit();
+      }
+    } else {
+      if (metrics != null) {
+        metrics.miss();
+      }
+    }
+    return ps;
   }
 
   /**
@@ -39,7 +69,13 @@ public class PreparedStatementCache {
    * @return the list of prepared statement to evict and close
    */
   public List<PreparedStatement> put(PreparedStatement preparedStatement) {
-    return cache.cache(preparedStatement.sql(), preparedStatement);
+    List<PreparedStatement> evicted = cache.cache(preparedStatement.sql(), preparedStatement);
+    if (evicted.size() > 0) {
+      if (metrics != null) {
+        metrics.evicted(evicted.size());
+      }
+    }
+    return evicted;
   }
 
   /**
@@ -52,7 +88,13 @@ public class PreparedStatementCache {
   }
 
   public PreparedStatement evict() {
-    return cache.evict();
+    PreparedStatement evicted = cache.evict();
+    if (evicted != null) {
+      if (metrics != null) {
+        metrics.evicted(1);
+      }
+    }
+    return evicted;
   }
 
   public boolean isFull() {
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.cache;
+
+import io.vertx.sqlclient.PreparedStatementCacheMetrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters shared by the connections created by a connection factory, the connections update them
+ * from their own event-loop.
+ */
+public class PreparedStatementCacheMetricsImpl implements PreparedStatementCacheMetrics {
+
+  /**
+   * Metrics that are never updated, see {@link PreparedStatementCacheMetrics#empty()}.
+   */
+  public static final PreparedStatementCacheMetrics EMPTY = new PreparedStatementCacheMetricsImpl();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder prepares = new LongAdder();
+  private final LongAdder indeterminateRetries = new LongAdder();
+
+  public void hit() {
+    hits.increment();
+  }
+
+  public void miss() {
+    misses.increment();
+  }
+
+  public void evicted(int count) {
+    evictions.add(count);
+  }
+
+  public void prepare() {
+    prepares.increment();
+  }
+
+  public void indeterminateRetry() {
+    indeterminateRetries.increment();
+  }
+
+  @Override
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  @Override
+  public long missCount() {
+    return misses.sum();
+  }
+
+  @Override
+  public double hitRatio() {
+    long hits = hitCount();
+    long lookups = hits + missCount();
+    return lookups == 0 ? 0D : (double) hits / lookups;
+  }
+
+  @Override
+  public long evictionCount() {
+    return evictions.sum();
+  }
+
+  @Override
+  public long prepareCount() {
+    return prepares.sum();
+  }
+
+  @Override
+  public long indeterminateRetryCount() {
+    return indeterminateRetries.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "PreparedStatementCacheMetrics[hits=" + hitCount() + ",misses=" + missCount() + ",evictions=" + evictionCount() +
+      ",prepares=" + prepareCount() + ",indeterminateRetries=" + indeterminateRetryCount() + "]";
+  }
+}
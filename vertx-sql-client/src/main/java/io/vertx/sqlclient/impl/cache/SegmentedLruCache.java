@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A segmented LRU cache.
+ *
+ * <p>New entries are inserted in the probation segment, an entry hit in the probation segment is promoted to
+ * the protected segment. When the protected segment is full its least recently used entry is demoted to the
+ * probation segment. Entries are evicted from the probation segment first, so entries used only once cannot
+ * evict the entries used several times.
+ */
+public class SegmentedLruCache<K, V> implements Cache<K, V> {
+
+  private final int capacity;
+  private final int protectedCapacity;
+  private final LinkedHashMap<K, V> probation = new LinkedHashMap<>();
+  private final LinkedHashMap<K, V> protect = new LinkedHashMap<>(16, 0.75f, true);
+
+  public SegmentedLruCache(int capacity) {
+    this.capacity = capacity;
+    // 80% of the capacity is protected, the probation segment has at least one entry
+    this.protectedCapacity = capacity - Math.max(1, capacity / 5);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(Object key) {
+    V value = protect.get(key);
+    if (value == null) {
+      value = probation.remove(key);
+      if (value != null) {
+        promote((K) key, value);
+      }
+    }
+    return value;
+  }
+
+  private void promote(K key, V value) {
+    protect.put(key, value);
+    if (protect.size() > protectedCapacity) {
+      Iterator<Map.Entry<K, V>> it = protect.entrySet().iterator();
+      Map.Entry<K, V> eldest = it.next();
+      it.remove();
+      probation.put(eldest.getKey(), eldest.getValue());
+    }
+  }
+
+  @Override
+  public List<V> cache(K key, V value) {
+    if (protect.containsKey(key)) {
+      protect.put(key, value);
+      return Collections.emptyList();
+    }
+    probation.remove(key);
+    probation.put(key, value);
+    List<V> evicted = null;
+    while (size() > capacity) {
+      if (evicted == null) {
+        evicted = new ArrayList<>();
+      }
+      evicted.add(evict());
+    }
+    return evicted != null ? evicted : Collections.emptyList();
+  }
+
+  @Override
+  public V remove(Object key) {
+    V value = protect.remove(key);
+    if (value == null) {
+      value = probation.remove(key);
+    }
+    return value;
+  }
+
+  @Override
+  public V evict() {
+    V value = evictEldest(probation);
+    if (value == null) {
+      value = evictEldest(protect);
+    }
+    return value;
+  }
+
+  private static <K, V> V evictEldest(LinkedHashMap<K, V> segment) {
+    Iterator<V> it = segment.values().iterator();
+    if (it.hasNext()) {
+      V value = it.next();
+      it.remove();
+      return value;
+    }
+    return null;
+  }
+
+  @Override
+  public int size() {
+    return probation.size() + protect.size();
+  }
+}
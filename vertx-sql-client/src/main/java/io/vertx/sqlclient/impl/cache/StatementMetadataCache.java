@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.cache;
+
+/**
+ * A bounded cache of statement metadata keyed by SQL, shared by all the connections created by
+ * a connection factory (e.g a pool).
+ *
+ * <p>A connection can use the metadata of a statement described by another connection, the metadata can be
+ * stale for the session of the connection (e.g after a schema change) and must be validated against the
+ * description the server returns for the execution.
+ *
+ * <p>This cache is accessed concurrently from the event-loops of the connections.
+ */
+public class StatementMetadataCache<V> {
+
+  private final LruCache<String, V> cache;
+
+  public StatementMetadataCache(int capacity) {
+    this.cache = new LruCache<>(capacity);
+  }
+
+  public synchronized V get(String sql) {
+    return cache.get(sql);
+  }
+
+  public synchronized void put(String sql, V metadata) {
+    cache.cache(sql, metadata);
+  }
+
+  /**
+   * Remove the metadata of a statement, e.g when it is not valid anymore after a schema change.
+   *
+   * @param sql the statement sql
+   */
+  public synchronized void remove(String sql) {
+    cache.remove(sql);
+  }
+
+  /**
+   * @return the cache size
+   */
+  public synchronized int size() {
+    return cache.size();
+  }
+}
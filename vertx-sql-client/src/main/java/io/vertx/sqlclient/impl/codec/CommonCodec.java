@@ -43,4 +43,43 @@ public class CommonCodec {
     }
     return value;
   }
+
+  private static final int[] NANOS_MULTIPLIER = { 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1 };
+
+  /**
+   * Decode the {@code count} decimal digits of the specified {@code buff} starting at {@code index}.
+   *
+   * @param buff  the byte buff to read from
+   * @param index the digits index
+   * @param count the number of digits
+   * @return the decoded value or {@code -1} when a byte is not a decimal digit
+   */
+  public static int decodeDigits(ByteBuf buff, int index, int count) {
+    int value = 0;
+    for (int i = index;i < index + count;i++) {
+      int digit = buff.getByte(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  /**
+   * Decode the {@code count} digits of a fractional second part, i.e the digits after the decimal point,
+   * of the specified {@code buff} starting at {@code index}.
+   *
+   * @param buff  the byte buff to read from
+   * @param index the digits index
+   * @param count the number of digits, between {@code 1} and {@code 9}
+   * @return the nanoseconds or {@code -1} when the digits are not valid
+   */
+  public static int decodeFraction(ByteBuf buff, int index, int count) {
+    if (count < 1 || count > 9) {
+      return -1;
+    }
+    int fraction = decodeDigits(buff, index, count);
+    return fraction < 0 ? -1 : fraction * NANOS_MULTIPLIER[count - 1];
+  }
 }
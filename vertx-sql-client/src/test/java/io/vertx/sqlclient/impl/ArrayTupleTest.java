@@ -21,6 +21,8 @@ import io.vertx.sqlclient.Tuple;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 public class ArrayTupleTest {
 
@@ -31,4 +33,59 @@ public class ArrayTupleTest {
     assertEquals(1, tuple.size());
     assertEquals("the_value", tuple.getValue(0));
   }
+
+  @Test
+  public void testPrimitiveValues() {
+    ArrayTuple tuple = new ArrayTuple(1);
+    tuple.addShortValue((short) 1);
+    tuple.addIntValue(2);
+    tuple.addLongValue(3L);
+    tuple.addFloatValue(4.5f);
+    tuple.addDoubleValue(5.5d);
+    tuple.addValue(null);
+    tuple.addString("foo");
+    assertEquals(7, tuple.size());
+    assertEquals((short) 1, tuple.getValue(0));
+    assertEquals(2, tuple.getValue(1));
+    assertEquals(3L, tuple.getValue(2));
+    assertEquals(4.5f, tuple.getValue(3));
+    assertEquals(5.5d, tuple.getValue(4));
+    assertNull(tuple.getValue(5));
+    assertEquals("foo", tuple.getValue(6));
+    assertEquals(1, tuple.getIntValue(0));
+    assertEquals(2L, tuple.getLongValue(1));
+    assertEquals(3d, tuple.getDoubleValue(2), 0d);
+    assertEquals(4, tuple.getIntValue(3));
+    assertEquals(5L, tuple.getLongValue(4));
+    assertEquals(Integer.valueOf(2), tuple.getInteger(1));
+    assertEquals(Long.valueOf(2L), tuple.getLong(1));
+  }
+
+  @Test
+  public void testPrimitiveValueBoxedOnce() {
+    ArrayTuple tuple = new ArrayTuple(2);
+    tuple.addIntValue(100_000);
+    tuple.addDoubleValue(5.5d);
+    Object value = tuple.getValue(0);
+    assertEquals(100_000, value);
+    assertSame(value, tuple.getValue(0));
+    assertSame(tuple.getValue(1), tuple.getValue(1));
+    assertEquals(100_000, tuple.getIntValue(0));
+    assertEquals(5.5d, tuple.getDoubleValue(1), 0d);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testPrimitiveValueOfNull() {
+    ArrayTuple tuple = new ArrayTuple(1);
+    tuple.addValue(null);
+    tuple.getIntValue(0);
+  }
+
+  @Test
+  public void testPrimitiveValueOfBoxedValue() {
+    Tuple tuple = Tuple.of(1, 2L, 3.5d);
+    assertEquals(1, tuple.getIntValue(0));
+    assertEquals(2L, tuple.getLongValue(1));
+    assertEquals(3.5d, tuple.getDoubleValue(2), 0d);
+  }
 }
@@ -0,0 +1,33 @@
+package io.vertx.sqlclient.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.sqlclient.impl.codec.CommonCodec;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+public class CommonCodecTest {
+
+  @Test
+  public void testDecodeDigits() {
+    ByteBuf buff = Unpooled.copiedBuffer("2021-05-14", StandardCharsets.US_ASCII);
+    assertEquals(2021, CommonCodec.decodeDigits(buff, 0, 4));
+    assertEquals(5, CommonCodec.decodeDigits(buff, 5, 2));
+    assertEquals(14, CommonCodec.decodeDigits(buff, 8, 2));
+    assertEquals(-1, CommonCodec.decodeDigits(buff, 3, 2));
+  }
+
+  @Test
+  public void testDecodeFraction() {
+    ByteBuf buff = Unpooled.copiedBuffer("123456789x", StandardCharsets.US_ASCII);
+    assertEquals(100_000_000, CommonCodec.decodeFraction(buff, 0, 1));
+    assertEquals(123_456_000, CommonCodec.decodeFraction(buff, 0, 6));
+    assertEquals(123_456_789, CommonCodec.decodeFraction(buff, 0, 9));
+    assertEquals(-1, CommonCodec.decodeFraction(buff, 0, 0));
+    assertEquals(-1, CommonCodec.decodeFraction(buff, 0, 10));
+    assertEquals(-1, CommonCodec.decodeFraction(buff, 8, 2));
+  }
+}
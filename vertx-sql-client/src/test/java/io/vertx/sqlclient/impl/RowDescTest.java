@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+public class RowDescTest {
+
+  @Test
+  public void testColumnIndex() {
+    RowDesc desc = new RowDesc(Arrays.asList("id", "name", "value"));
+    assertEquals(0, desc.columnIndex("id"));
+    assertEquals(1, desc.columnIndex("name"));
+    assertEquals(2, desc.columnIndex("value"));
+    assertEquals(-1, desc.columnIndex("missing"));
+  }
+
+  @Test
+  public void testDuplicateColumnName() {
+    RowDesc desc = new RowDesc(Arrays.asList("id", "name", "id"));
+    assertEquals(0, desc.columnIndex("id"));
+    assertEquals(1, desc.columnIndex("name"));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullColumnName() {
+    new RowDesc(Arrays.asList("id")).columnIndex(null);
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.sqlclient.impl.cache.SegmentedLruCache;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class SegmentedLruCacheTest {
+
+  @Test
+  public void testEvictOnInsertion() {
+    int capacity = 1024;
+    SegmentedLruCache<String, String> cache = new SegmentedLruCache<>(capacity);
+    for (int i = 0;i < capacity;i++) {
+      assertEquals(0, cache.cache("key-" + i, "value-" + i).size());
+    }
+    List<String> evicted = cache.cache("key-1024", "value-1024");
+    assertEquals(1, evicted.size());
+    assertEquals("value-0", evicted.get(0));
+    assertEquals(1024, cache.size());
+  }
+
+  @Test
+  public void testScanResistance() {
+    int capacity = 10;
+    SegmentedLruCache<String, String> cache = new SegmentedLruCache<>(capacity);
+    for (int i = 0;i < 8;i++) {
+      cache.cache("hot-" + i, "hot-" + i);
+      assertEquals("hot-" + i, cache.get("hot-" + i));
+    }
+    // a burst of statements used once only churns the probation segment
+    for (int i = 0;i < 100;i++) {
+      cache.cache("scan-" + i, "scan-" + i);
+    }
+    assertEquals(capacity, cache.size());
+    for (int i = 0;i < 8;i++) {
+      assertEquals("hot-" + i, cache.get("hot-" + i));
+    }
+  }
+
+  @Test
+  public void testDemoteToProbation() {
+    SegmentedLruCache<String, String> cache = new SegmentedLruCache<>(5);
+    for (int i = 0;i < 5;i++) {
+      cache.cache("key-" + i, "value-" + i);
+      cache.get("key-" + i);
+    }
+    // the protected segment holds 4 entries, key-0 has been demoted to probation
+    assertEquals("value-0", cache.evict());
+    assertEquals("value-1", cache.evict());
+    assertEquals(3, cache.size());
+  }
+
+  @Test
+  public void testRemove() {
+    SegmentedLruCache<String, String> cache = new SegmentedLruCache<>(4);
+    cache.cache("a", "A");
+    cache.cache("b", "B");
+    cache.get("b");
+    assertEquals("A", cache.remove("a"));
+    assertEquals("B", cache.remove("b"));
+    assertNull(cache.remove("c"));
+    assertEquals(0, cache.size());
+    assertNull(cache.evict());
+  }
+}
@@ -323,6 +323,32 @@ public abstract class PreparedQueryTestBase {
     });
   }
 
+  @Test
+  public void testStreamQueryPrefetch(TestContext ctx) {
+    Async async = ctx.async();
+    testCursor(ctx, conn -> {
+      conn.prepare("SELECT * FROM immutable", ctx.asyncAssertSuccess(ps -> {
+        RowStream<Row> stream = ps.createStream(2, Tuple.tuple(), 2);
+        List<Integer> ids = new ArrayList<>();
+        AtomicInteger ended = new AtomicInteger();
+        stream.handler(row -> {
+          ctx.assertEquals(0, ended.get());
+          ids.add(row.getInteger(0));
+          if (ids.size() == 3) {
+            stream.pause();
+            vertx.setTimer(100, v -> stream.resume());
+          }
+        });
+        stream.endHandler(v -> {
+          ctx.assertEquals(0, ended.getAndIncrement());
+          ctx.assertEquals(12, ids.size());
+          ctx.assertEquals(12L, ids.stream().distinct().count());
+          async.complete();
+        });
+      }));
+    });
+  }
+
   @Test
   public void testStreamQueryPauseInBatch(TestContext ctx) {
     testStreamQueryPauseInBatch(ctx, Runnable::run);